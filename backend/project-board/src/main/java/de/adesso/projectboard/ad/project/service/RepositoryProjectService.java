@@ -1,10 +1,14 @@
 package de.adesso.projectboard.ad.project.service;
 
 import de.adesso.projectboard.base.application.persistence.ProjectApplicationRepository;
+import de.adesso.projectboard.base.configuration.ProjectBoardConfigurationProperties;
 import de.adesso.projectboard.base.exceptions.ProjectNotFoundException;
 import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.persistence.ProjectFingerprint;
 import de.adesso.projectboard.base.project.persistence.ProjectRepository;
 import de.adesso.projectboard.base.project.service.ProjectService;
+import de.adesso.projectboard.base.search.AsyncProjectIndexer;
+import de.adesso.projectboard.base.search.SearchResultCache;
 import de.adesso.projectboard.base.user.persistence.UserRepository;
 import de.adesso.projectboard.base.user.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +17,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -30,17 +37,29 @@ public class RepositoryProjectService implements ProjectService {
 
     private final Clock clock;
 
+    private final SearchResultCache searchResultCache;
+
+    private final AsyncProjectIndexer asyncProjectIndexer;
+
+    private final int upsertBatchSize;
+
     @Autowired
     public RepositoryProjectService(ProjectRepository projectRepo,
                                     ProjectApplicationRepository applicationRepo,
                                     UserRepository userRepo,
                                     UserService userService,
-                                    Clock clock) {
+                                    Clock clock,
+                                    SearchResultCache searchResultCache,
+                                    AsyncProjectIndexer asyncProjectIndexer,
+                                    ProjectBoardConfigurationProperties properties) {
         this.projectRepo = projectRepo;
         this.applicationRepo = applicationRepo;
         this.userRepo = userRepo;
         this.userService = userService;
         this.clock = clock;
+        this.searchResultCache = searchResultCache;
+        this.asyncProjectIndexer = asyncProjectIndexer;
+        this.upsertBatchSize = properties.getProjectUpsertBatchSize();
     }
 
     @Override
@@ -57,14 +76,78 @@ public class RepositoryProjectService implements ProjectService {
         return projectRepo.existsById(projectId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, ProjectFingerprint> getFingerprintsByIds(Collection<String> projectIds) {
+        if(projectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var fingerprints = new HashMap<String, ProjectFingerprint>();
+        projectRepo.findFingerprintsByIdIn(projectIds)
+                .forEach(projectFingerprint -> fingerprints.put(projectFingerprint.getId(), projectFingerprint));
+
+        return fingerprints;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Project> getProjectsByIds(Collection<String> projectIds) {
+        if(projectIds.isEmpty()) {
+            return List.of();
+        }
+
+        return projectRepo.findAllByIdIn(projectIds);
+    }
+
     @Override
     public Project save(Project project) {
-        return projectRepo.save(project);
+        var savedProject = projectRepo.save(project);
+        searchResultCache.invalidateAllAfterCommit();
+
+        return savedProject;
     }
 
     @Override
     public List<Project> saveAll(List<Project> projects) {
-        return projectRepo.saveAll(projects);
+        if(!asyncProjectIndexer.isEnabled()) {
+            var savedProjects = projectRepo.saveAll(projects);
+            searchResultCache.invalidateAllAfterCommit();
+
+            return savedProjects;
+        }
+
+        // the changes have to be flushed while the indexing is deferred, they
+        // would be indexed synchronously when the transaction commits otherwise
+        var savedProjects = asyncProjectIndexer.deferIndexing(() -> {
+            var deferredProjects = projectRepo.saveAll(projects);
+            projectRepo.flush();
+
+            return deferredProjects;
+        });
+
+        asyncProjectIndexer.indexAfterCommit(savedProjects);
+        searchResultCache.invalidateAllAfterCommit();
+
+        return savedProjects;
+    }
+
+    @Override
+    public void upsertAll(List<Project> projects) {
+        if(projects.isEmpty()) {
+            return;
+        }
+
+        if(!projectRepo.supportsUpsert()) {
+            saveAll(projects);
+            return;
+        }
+
+        // the projects are written with JDBC, so Hibernate Search does
+        // not index them automatically
+        projectRepo.upsertAll(projects, upsertBatchSize);
+        asyncProjectIndexer.indexUpsertedProjects(projects);
+        searchResultCache.invalidateAllAfterCommit();
     }
 
     @Override
@@ -4,6 +4,9 @@ import de.adesso.projectboard.base.configuration.ProjectBoardConfigurationProper
 import de.adesso.projectboard.base.project.persistence.Project;
 import de.adesso.projectboard.base.project.persistence.ProjectRepository;
 import de.adesso.projectboard.base.project.persistence.specification.ProjectSpecification;
+import de.adesso.projectboard.base.project.projection.ProjectSuggestion;
+import de.adesso.projectboard.base.project.projection.ProjectSummary;
+import de.adesso.projectboard.base.search.CursorPage;
 import de.adesso.projectboard.base.search.HibernateSearchService;
 import de.adesso.projectboard.base.user.persistence.User;
 import de.adesso.projectboard.base.user.service.PageableUserProjectService;
@@ -12,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -60,10 +64,20 @@ public class RepositoryUserProjectService implements PageableUserProjectService
     @Override
     public List<Project> searchProjectsForUser(User user, String query, Sort sort) {
         if(userService.userIsManager(user)) {
-            return managerSearchService.searchProjects(query, null);
+            return managerSearchService.searchProjects(query, sort, null);
         } else {
             var userLob = userService.getUserData(user).getLob();
-            return staffSearchService.searchProjects(query, userLob);
+            return staffSearchService.searchProjects(query, sort, userLob);
+        }
+    }
+
+    @Override
+    public List<ProjectSuggestion> suggestProjectsForUser(User user, String prefix, int maxResults) {
+        if(userService.userIsManager(user)) {
+            return managerSearchService.suggestProjects(prefix, maxResults, null);
+        } else {
+            var userLob = userService.getUserData(user).getLob();
+            return staffSearchService.suggestProjects(prefix, maxResults, userLob);
         }
     }
 
@@ -82,6 +96,46 @@ public class RepositoryUserProjectService implements PageableUserProjectService
         }
     }
 
+    @Override
+    public Slice<Project> searchProjectSliceForUser(String query, User user, Pageable pageable) {
+        if(userService.userIsManager(user)) {
+            return managerSearchService.searchProjectSlice(query, pageable, null);
+        } else {
+            var userLob = userService.getUserData(user).getLob();
+            return staffSearchService.searchProjectSlice(query, pageable, userLob);
+        }
+    }
+
+    @Override
+    public Page<ProjectSummary> searchProjectSummariesForUserPaginated(String query, User user, Pageable pageable) {
+        if(userService.userIsManager(user)) {
+            return managerSearchService.searchProjectSummaries(query, pageable, null);
+        } else {
+            var userLob = userService.getUserData(user).getLob();
+            return staffSearchService.searchProjectSummaries(query, pageable, userLob);
+        }
+    }
+
+    @Override
+    public Slice<ProjectSummary> searchProjectSummarySliceForUser(String query, User user, Pageable pageable) {
+        if(userService.userIsManager(user)) {
+            return managerSearchService.searchProjectSummarySlice(query, pageable, null);
+        } else {
+            var userLob = userService.getUserData(user).getLob();
+            return staffSearchService.searchProjectSummarySlice(query, pageable, userLob);
+        }
+    }
+
+    @Override
+    public CursorPage<Project> searchProjectsForUserAfterCursor(String query, User user, String cursor, Pageable pageable) {
+        if(userService.userIsManager(user)) {
+            return managerSearchService.searchProjects(query, pageable.getSort(), cursor, pageable.getPageSize(), null);
+        } else {
+            var userLob = userService.getUserData(user).getLob();
+            return staffSearchService.searchProjects(query, pageable.getSort(), cursor, pageable.getPageSize(), userLob);
+        }
+    }
+
     private Specification<Project> getProjectSpecificationForUser(User user) {
         if(userService.userIsManager(user)) {
             return new ProjectSpecification(excludedStatus, Set.of(), null);
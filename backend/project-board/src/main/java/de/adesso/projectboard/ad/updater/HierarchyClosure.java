@@ -0,0 +1,190 @@
+package de.adesso.projectboard.ad.updater;
+
+import de.adesso.projectboard.base.user.persistence.hierarchy.HierarchyTreeNode;
+import de.adesso.projectboard.base.user.persistence.hierarchy.NestedSetBounds;
+import de.adesso.projectboard.base.user.persistence.hierarchy.StaffRelation;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Computes the {@link StaffRelation staff relations} and {@link NestedSetBounds nested set bounds}
+ * of a whole hierarchy at once instead of adding each node to the staff of all its managers like
+ * {@link HierarchyTreeNode#addDirectStaffMember(HierarchyTreeNode)} does.
+ *
+ * <p>
+ *     The nodes are indexed with {@code int}s and arranged in pre-order, so the staff of a node
+ *     is the contiguous range of nodes following it. The size of each range is summed up in a
+ *     single post-order pass. The relations and bounds are read off the ranges afterwards,
+ *     without walking up the managers of each node.
+ * </p>
+ */
+class HierarchyClosure {
+
+    private final long[] nodeIdsInPreOrder;
+
+    private final int[] subtreeSizesInPreOrder;
+
+    private final int relationCount;
+
+    /**
+     *
+     * @param managerIdsByUserId
+     *          The IDs of the managers mapped to the ID of their staff members, as
+     *          returned by {@link UserUpdater#getManagerIdsByUserId(java.util.Collection, java.util.Collection)},
+     *          not null. The IDs of the root users are mapped to {@code null}.
+     *
+     * @param nodesByUserId
+     *          The persisted nodes mapped to the ID of their user, not null. Must
+     *          contain a node for every user.
+     */
+    HierarchyClosure(@NonNull Map<String, String> managerIdsByUserId, @NonNull Map<String, HierarchyTreeNode> nodesByUserId) {
+        var nodeCount = managerIdsByUserId.size();
+        var unsortedNodeIds = new long[nodeCount];
+        var unsortedManagerNodeIds = new Long[nodeCount];
+
+        var index = 0;
+        for(var entry : managerIdsByUserId.entrySet()) {
+            var managerId = entry.getValue();
+
+            unsortedNodeIds[index] = nodesByUserId.get(entry.getKey()).getId();
+            unsortedManagerNodeIds[index++] = Objects.isNull(managerId) ? null : nodesByUserId.get(managerId).getId();
+        }
+
+        // the nodes are indexed in the order of their IDs, so the nested set bounds
+        // only change for nodes after an added node
+        var nodeIds = unsortedNodeIds.clone();
+        Arrays.sort(nodeIds);
+
+        var managerIndices = new int[nodeCount];
+        var directStaffCounts = new int[nodeCount];
+        for(var unsortedIndex = 0; unsortedIndex < nodeCount; unsortedIndex++) {
+            var managerNodeId = unsortedManagerNodeIds[unsortedIndex];
+            var managerIndex = Objects.isNull(managerNodeId) ? -1 : Arrays.binarySearch(nodeIds, managerNodeId);
+            managerIndices[Arrays.binarySearch(nodeIds, unsortedNodeIds[unsortedIndex])] = managerIndex;
+
+            if(managerIndex >= 0) {
+                directStaffCounts[managerIndex]++;
+            }
+        }
+
+        var directStaffOffsets = new int[nodeCount + 1];
+        for(var nodeIndex = 0; nodeIndex < nodeCount; nodeIndex++) {
+            directStaffOffsets[nodeIndex + 1] = directStaffOffsets[nodeIndex] + directStaffCounts[nodeIndex];
+        }
+
+        var directStaff = new int[nodeCount];
+        var nextDirectStaffOffsets = directStaffOffsets.clone();
+        for(var nodeIndex = 0; nodeIndex < nodeCount; nodeIndex++) {
+            var managerIndex = managerIndices[nodeIndex];
+            if(managerIndex >= 0) {
+                directStaff[nextDirectStaffOffsets[managerIndex]++] = nodeIndex;
+            }
+        }
+
+        var preOrder = getPreOrder(managerIndices, directStaffOffsets, directStaff);
+
+        // every node comes after its manager in pre-order, so iterating backwards is a post-order pass
+        var subtreeSizes = new int[nodeCount];
+        var relationCount = 0;
+        for(var position = nodeCount - 1; position >= 0; position--) {
+            var nodeIndex = preOrder[position];
+            subtreeSizes[nodeIndex]++;
+            relationCount += subtreeSizes[nodeIndex] - 1;
+
+            var managerIndex = managerIndices[nodeIndex];
+            if(managerIndex >= 0) {
+                subtreeSizes[managerIndex] += subtreeSizes[nodeIndex];
+            }
+        }
+
+        this.nodeIdsInPreOrder = new long[nodeCount];
+        this.subtreeSizesInPreOrder = new int[nodeCount];
+        for(var position = 0; position < nodeCount; position++) {
+            nodeIdsInPreOrder[position] = nodeIds[preOrder[position]];
+            subtreeSizesInPreOrder[position] = subtreeSizes[preOrder[position]];
+        }
+
+        this.relationCount = relationCount;
+    }
+
+    /**
+     *
+     * @return
+     *          The relations between every node and all its direct and
+     *          indirect managers. Each relation is contained exactly once.
+     */
+    List<StaffRelation> getStaffRelations() {
+        var staffRelations = new ArrayList<StaffRelation>(relationCount);
+
+        for(var position = 0; position < nodeIdsInPreOrder.length; position++) {
+            var managerNodeId = nodeIdsInPreOrder[position];
+            var staffEnd = position + subtreeSizesInPreOrder[position];
+
+            for(var staffPosition = position + 1; staffPosition < staffEnd; staffPosition++) {
+                staffRelations.add(new StaffRelation(managerNodeId, nodeIdsInPreOrder[staffPosition]));
+            }
+        }
+
+        return staffRelations;
+    }
+
+    /**
+     *
+     * @return
+     *          The nested set bounds of every node. The left bound is the position
+     *          of the node in pre-order, starting at {@code 1}. The right bound is the
+     *          position of the last staff member of the node, or the left bound in case
+     *          the node has no staff.
+     */
+    List<NestedSetBounds> getNestedSetBounds() {
+        var bounds = new ArrayList<NestedSetBounds>(nodeIdsInPreOrder.length);
+
+        for(var position = 0; position < nodeIdsInPreOrder.length; position++) {
+            var left = position + 1;
+            bounds.add(new NestedSetBounds(nodeIdsInPreOrder[position], left, left + subtreeSizesInPreOrder[position] - 1));
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Traverses the trees depth first with an explicit stack, since org
+     * charts may be deeper than the call stack allows.
+     */
+    private static int[] getPreOrder(int[] managerIndices, int[] directStaffOffsets, int[] directStaff) {
+        var nodeCount = managerIndices.length;
+        var preOrder = new int[nodeCount];
+        var stack = new int[nodeCount];
+
+        var position = 0;
+        for(var rootIndex = 0; rootIndex < nodeCount; rootIndex++) {
+            if(managerIndices[rootIndex] >= 0) {
+                continue;
+            }
+
+            var stackSize = 0;
+            stack[stackSize++] = rootIndex;
+
+            while(stackSize > 0) {
+                var nodeIndex = stack[--stackSize];
+                preOrder[position++] = nodeIndex;
+
+                for(var offset = directStaffOffsets[nodeIndex + 1] - 1; offset >= directStaffOffsets[nodeIndex]; offset--) {
+                    stack[stackSize++] = directStaff[offset];
+                }
+            }
+        }
+
+        if(position != nodeCount) {
+            throw new IllegalArgumentException("Hierarchy contains nodes that are not reachable from a root node!");
+        }
+
+        return preOrder;
+    }
+
+}
@@ -6,8 +6,11 @@ import de.adesso.projectboard.ad.user.RepositoryUserService;
 import de.adesso.projectboard.base.normalizer.Normalizer;
 import de.adesso.projectboard.base.user.persistence.data.UserData;
 import de.adesso.projectboard.base.user.persistence.data.UserDataRepository;
+import de.adesso.projectboard.base.user.persistence.data.UserDataSnapshot;
 import de.adesso.projectboard.base.user.persistence.hierarchy.HierarchyTreeNode;
 import de.adesso.projectboard.base.user.persistence.hierarchy.HierarchyTreeNodeRepository;
+import de.adesso.projectboard.base.user.persistence.hierarchy.NestedSetBounds;
+import de.adesso.projectboard.base.user.persistence.hierarchy.StaffRelation;
 import lombok.NonNull;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +21,14 @@ import java.util.stream.Collectors;
 @Transactional
 public class UserUpdater {
 
+    static final double MAX_CHANGED_STAFF_RELATION_RATIO = 0.5;
+
+    static final int STAFF_RELATION_BATCH_SIZE = 500;
+
+    static final int NESTED_SET_BOUNDS_BATCH_SIZE = 500;
+
+    static final int USER_DATA_BATCH_SIZE = 500;
+
     private final HierarchyTreeNodeRepository hierarchyTreeNodeRepo;
 
     private final RepositoryUserService repoUserService;
@@ -48,19 +59,120 @@ public class UserUpdater {
         updateUserData(filteredAndCleanedNodes);
     }
 
+    /**
+     * Updates the persisted hierarchy to match the given {@code nodes}. Only the
+     * difference is written: nodes of new users are inserted, nodes of moved users
+     * get their new manager and nodes of departed users are deleted. The
+     * {@link HierarchyTreeNode#getStaff() staff} relations are diffed row by row
+     * as well, unless most of them changed. Only the changed
+     * {@link NestedSetBounds nested set bounds} are written.
+     *
+     * @param nodes
+     *          The nodes of all users, not null.
+     */
     void updateHierarchy(@NonNull Collection<LdapUserNode> nodes) {
-        var rootNodes = getRootNodes(nodes);
-        var hierarchyTreeNodeRoots = buildHierarchyTrees(rootNodes, nodes);
+        var managerIdsByUserId = getManagerIdsByUserId(getRootNodes(nodes), nodes);
+
+        var nodesByUserId = hierarchyTreeNodeRepo.findAllFetchingUsers().stream()
+                .collect(Collectors.toMap(node -> node.getUser().getId(), Function.identity()));
+        var removedNodeIds = nodesByUserId.values().stream()
+                .filter(node -> !managerIdsByUserId.containsKey(node.getUser().getId()))
+                .map(HierarchyTreeNode::getId)
+                .collect(Collectors.toList());
 
-        hierarchyTreeNodeRepo.deleteAll();
+        var addedUserIds = managerIdsByUserId.keySet().stream()
+                .filter(userId -> !nodesByUserId.containsKey(userId))
+                .collect(Collectors.toList());
+
+        // resolve the users before changing any node, since the queries flush the changes
+        var addedUsersById = repoUserService.getOrCreateUsersByIds(addedUserIds);
+        var addedNodes = addedUserIds.stream()
+                .map(addedUsersById::get)
+                .map(HierarchyTreeNode::new)
+                .collect(Collectors.toList());
+        addedNodes.forEach(node -> nodesByUserId.put(node.getUser().getId(), node));
+
+        var managerIds = new HashSet<>(managerIdsByUserId.values());
+        managerIdsByUserId.forEach((userId, managerId) -> {
+            var node = nodesByUserId.get(userId);
+            var manager = Objects.isNull(managerId) ? null : nodesByUserId.get(managerId);
+            var managingUser = managerIds.contains(userId);
+
+            if(node.getManager() != manager) {
+                node.setManager(manager);
+            }
+
+            if(node.isManagingUser() != managingUser) {
+                node.setManagingUser(managingUser);
+            }
+        });
+
+        // the map is in level order, so managers are inserted before their staff
+        hierarchyTreeNodeRepo.saveAll(addedNodes);
         hierarchyTreeNodeRepo.flush();
-        hierarchyTreeNodeRepo.saveAll(hierarchyTreeNodeRoots);
+
+        var closure = new HierarchyClosure(managerIdsByUserId, nodesByUserId);
+        updateStaffRelations(closure.getStaffRelations());
+        updateNestedSetBounds(closure.getNestedSetBounds());
+        hierarchyTreeNodeRepo.deleteAllByIdInBulk(removedNodeIds);
+    }
+
+    /**
+     * Replaces the persisted staff relations with the given ones. Only the
+     * difference is written, unless more than {@value MAX_CHANGED_STAFF_RELATION_RATIO}
+     * of the persisted relations were removed. All relations are deleted with a
+     * single statement and inserted again in that case.
+     *
+     * @param staffRelations
+     *          The staff relations of the current hierarchy, not null.
+     */
+    void updateStaffRelations(@NonNull Collection<StaffRelation> staffRelations) {
+        var persistedRelations = new HashSet<>(hierarchyTreeNodeRepo.findAllStaffRelations());
+        var currentRelations = new HashSet<>(staffRelations);
+
+        var removedRelations = new HashSet<>(persistedRelations);
+        removedRelations.removeAll(currentRelations);
+
+        if(removedRelations.size() > persistedRelations.size() * MAX_CHANGED_STAFF_RELATION_RATIO) {
+            hierarchyTreeNodeRepo.deleteAllStaffRelations();
+            hierarchyTreeNodeRepo.insertStaffRelations(staffRelations, STAFF_RELATION_BATCH_SIZE);
+
+            return;
+        }
+
+        var addedRelations = staffRelations.stream()
+                .filter(relation -> !persistedRelations.contains(relation))
+                .collect(Collectors.toSet());
+
+        hierarchyTreeNodeRepo.deleteStaffRelations(removedRelations, STAFF_RELATION_BATCH_SIZE);
+        hierarchyTreeNodeRepo.insertStaffRelations(addedRelations, STAFF_RELATION_BATCH_SIZE);
+    }
+
+    /**
+     * Writes the bounds of all nodes whose persisted bounds differ from the given ones.
+     *
+     * @param bounds
+     *          The nested set bounds of all nodes of the current hierarchy, not null.
+     */
+    void updateNestedSetBounds(@NonNull Collection<NestedSetBounds> bounds) {
+        var persistedBounds = new HashSet<>(hierarchyTreeNodeRepo.findAllNestedSetBounds());
+
+        var changedBounds = bounds.stream()
+                .filter(nodeBounds -> !persistedBounds.contains(nodeBounds))
+                .collect(Collectors.toList());
+
+        hierarchyTreeNodeRepo.updateNestedSetBounds(changedBounds, NESTED_SET_BOUNDS_BATCH_SIZE);
     }
 
     void updateUserData(@NonNull Collection<LdapUserNode> nodes) {
+        var userIds = nodes.stream()
+                .map(LdapUserNode::getId)
+                .collect(Collectors.toList());
+        var usersById = repoUserService.getOrCreateUsersByIds(userIds);
+
         var userData = nodes.stream()
                 .map(node -> {
-                    var user = repoUserService.getOrCreateUserById(node.getId());
+                    var user = usersById.get(node.getId());
 
                     return new UserData(user, node.getGivenName(), node.getSurname(), node.getMail(), node.getDivision());
                 })
@@ -70,15 +182,56 @@ public class UserUpdater {
         normalizeAndSaveUserData(userData);
     }
 
-    void normalizeAndSaveUserData(List<UserData> userData) {
+    /**
+     * Normalizes the given user data and writes the difference to the persisted
+     * user data: new users are inserted, users whose name, email address or LoB
+     * changed are updated in place and departed users are deleted. The
+     * {@link UserData#getPicture() pictures} of existing users are kept.
+     *
+     * @param userData
+     *          The user data of all users, not null.
+     */
+    void normalizeAndSaveUserData(@NonNull List<UserData> userData) {
         var normalizedUserData = userData;
         for(var normalizer : normalizers) {
             normalizedUserData = normalizer.normalize(normalizedUserData);
         }
 
-        userDataRepo.deleteAll();
-        userDataRepo.flush();
-        userDataRepo.saveAll(normalizedUserData);
+        var snapshotsByUserId = userDataRepo.findAllSnapshots().stream()
+                .collect(Collectors.toMap(UserDataSnapshot::getUserId, Function.identity()));
+
+        var addedUserData = new ArrayList<UserData>();
+        var changedUserData = new ArrayList<UserData>();
+        var currentUserIds = new HashSet<String>();
+        for(var data : normalizedUserData) {
+            var userId = data.getUser().getId();
+            if(!currentUserIds.add(userId)) {
+                continue;
+            }
+
+            var snapshot = snapshotsByUserId.get(userId);
+            if(Objects.isNull(snapshot)) {
+                addedUserData.add(data);
+            } else if(!isUpToDate(snapshot, data)) {
+                changedUserData.add(data.setId(snapshot.getId()));
+            }
+        }
+
+        var departedUserDataIds = snapshotsByUserId.values().stream()
+                .filter(snapshot -> !currentUserIds.contains(snapshot.getUserId()))
+                .map(UserDataSnapshot::getId)
+                .collect(Collectors.toList());
+
+        userDataRepo.deleteAllByIds(departedUserDataIds, USER_DATA_BATCH_SIZE);
+        userDataRepo.updateAllKeepingPictures(changedUserData, USER_DATA_BATCH_SIZE);
+        userDataRepo.saveAll(addedUserData);
+    }
+
+    private boolean isUpToDate(UserDataSnapshot snapshot, UserData userData) {
+        return Objects.equals(snapshot.getFirstName(), userData.getFirstName()) &&
+                Objects.equals(snapshot.getLastName(), userData.getLastName()) &&
+                Objects.equals(snapshot.getEmail(), userData.getEmail()) &&
+                Objects.equals(snapshot.getLob(), userData.getLob());
     }
 
     /**
@@ -99,67 +252,40 @@ public class UserUpdater {
     /**
      *
      * @param rootNodes
-     *          The root nodes to create hierarchy trees for, not null.
+     *          The root nodes of the hierarchy trees, not null.
      *
      * @param allNodes
      *          All nodes that are needed to build the hierarchy trees, not null.
      *
      * @return
-     *          A collection of {@link HierarchyTreeNode}s representing the roots of the
-     *          created trees, one for each node in the given {@code rootNodes}.
-     */
-    Collection<HierarchyTreeNode> buildHierarchyTrees(@NonNull Collection<LdapUserNode> rootNodes, @NonNull Collection<LdapUserNode> allNodes) {
-        var dnNodeMap = allNodes.stream()
-                .collect(Collectors.toMap(LdapUserNode::getDn, Function.identity()));
-
-        return rootNodes.stream()
-                .map(rootNode -> {
-                    var childNodesInLevelOrder = getChildNodesInLevelOrder(rootNode, dnNodeMap);
-
-                    return buildHierarchyNode(rootNode, childNodesInLevelOrder);
-                })
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Builds a {@link HierarchyTreeNode} for a given {@code rootNode} and
-     * it's {@code childNodes} in level order. The {@link HierarchyTreeNode#getUser() user}
-     * of the returned hierarchy node is set to a user found with the same ID as
-     * the given {@code rootNode}.
-     *
-     * @param rootNode
-     *          The node to build a hierarchy node for, not null.
-     *
-     * @param childNodes
-     *          The child nodes of the user <b>in level order</b>, not null.
-     *
-     * @return
-     *          A {@code HierarchyTreeNode}.
+     *          The IDs of the managers of all users in the trees mapped to the user's
+     *          ID. The IDs of the users of the root nodes are mapped to {@code null}.
+     *          The users are in level order, so a manager always comes before
+     *          its staff.
      *
      * @see #getChildNodesInLevelOrder(LdapUserNode, Map)
      */
-    HierarchyTreeNode buildHierarchyNode(@NonNull LdapUserNode rootNode, @NonNull List<LdapUserNode> childNodes) {
-        var rootNodeUser = repoUserService.getOrCreateUserById(rootNode.getId());
-        var rootHierarchyNode = new HierarchyTreeNode(rootNodeUser);
+    Map<String, String> getManagerIdsByUserId(@NonNull Collection<LdapUserNode> rootNodes, @NonNull Collection<LdapUserNode> allNodes) {
+        var dnNodeMap = allNodes.stream()
+                .collect(Collectors.toMap(LdapUserNode::getDn, Function.identity()));
+        var managerIdsByUserId = new LinkedHashMap<String, String>();
 
-        var dnHierarchyNodeMap = new HashMap<String, HierarchyTreeNode>();
-        dnHierarchyNodeMap.put(rootNode.getDn(), rootHierarchyNode);
+        rootNodes.forEach(rootNode -> {
+            managerIdsByUserId.put(rootNode.getId(), null);
 
-        childNodes.forEach(childNode -> {
-            var userId = childNode.getId();
-            var user = repoUserService.getOrCreateUserById(userId);
-            var childHierarchyNode = new HierarchyTreeNode(user);
+            getChildNodesInLevelOrder(rootNode, dnNodeMap).forEach(childNode -> {
+                var managerNode = dnNodeMap.get(childNode.getManagerDn());
+                if(Objects.isNull(managerNode) || !managerIdsByUserId.containsKey(managerNode.getId())) {
+                    var message = String.format("Manager of child node with DN '%s' not found!", childNode.getDn());
 
-            dnHierarchyNodeMap.put(childNode.getDn(), childHierarchyNode);
+                    throw new IllegalArgumentException(message);
+                }
 
-            var managerHierarchy = dnHierarchyNodeMap.get(childNode.getManagerDn());
-            if(Objects.isNull(managerHierarchy)) {
-                throw new IllegalArgumentException("Child nodes not in level order!");
-            }
-            managerHierarchy.addDirectStaffMember(childHierarchyNode);
+                managerIdsByUserId.put(childNode.getId(), managerNode.getId());
+            });
         });
 
-        return rootHierarchyNode;
+        return managerIdsByUserId;
     }
 
     /**
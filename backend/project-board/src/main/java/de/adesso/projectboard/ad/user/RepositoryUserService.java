@@ -24,6 +24,10 @@ import java.util.stream.Collectors;
 @Transactional
 public class RepositoryUserService implements UserService {
 
+    static final int USER_ID_CHUNK_SIZE = 1000;
+
+    static final int USER_BATCH_SIZE = 500;
+
     private final UserRepository userRepo;
 
     private final UserDataRepository dataRepo;
@@ -78,8 +82,15 @@ public class RepositoryUserService implements UserService {
 
     @Override
     public boolean userHasStaffMember(@NonNull User user, @NonNull User staffMember) {
-        var staffMemberHierarchy = getHierarchyForUser(staffMember);
-        return hierarchyTreeNodeRepo.existsByUserAndStaffContaining(user, staffMemberHierarchy);
+        if(hierarchyTreeNodeRepo.existsByUserAndStaffMemberWithinBounds(user, staffMember)) {
+            return true;
+        }
+
+        if(!hierarchyTreeNodeRepo.existsByUser(staffMember)) {
+            throw new HierarchyNotFoundException(staffMember.getId());
+        }
+
+        return false;
     }
 
     @Override
@@ -158,6 +169,46 @@ public class RepositoryUserService implements UserService {
                 .orElseGet(() -> userRepo.save(new User(userId)));
     }
 
+    /**
+     * Bulk version of {@link #getOrCreateUserById(String)}. The existing users are
+     * loaded with one query per {@value USER_ID_CHUNK_SIZE} IDs and the missing users
+     * are inserted in batches.
+     *
+     * @param userIds
+     *          The IDs of the users to get or create, not null.
+     *
+     * @return
+     *          The users mapped to their ID.
+     */
+    public Map<String, User> getOrCreateUsersByIds(@NonNull Collection<String> userIds) {
+        var distinctUserIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+        var usersById = findUsersByIds(distinctUserIds);
+
+        var missingUserIds = distinctUserIds.stream()
+                .filter(userId -> !usersById.containsKey(userId))
+                .collect(Collectors.toList());
+
+        if(!missingUserIds.isEmpty()) {
+            userRepo.insertAllByIds(missingUserIds, USER_BATCH_SIZE);
+            usersById.putAll(findUsersByIds(missingUserIds));
+        }
+
+        return usersById;
+    }
+
+    private Map<String, User> findUsersByIds(List<String> userIds) {
+        var usersById = new HashMap<String, User>();
+
+        for(var fromIndex = 0; fromIndex < userIds.size(); fromIndex += USER_ID_CHUNK_SIZE) {
+            var toIndex = Math.min(fromIndex + USER_ID_CHUNK_SIZE, userIds.size());
+
+            userRepo.findAllById(userIds.subList(fromIndex, toIndex))
+                    .forEach(user -> usersById.put(user.getId(), user));
+        }
+
+        return usersById;
+    }
+
     List<UserData> initializeThumbnailPhotos(@NonNull List<UserData> userData) {
         var uninitializedUserIds = userData.stream()
                 .filter(Predicate.not(UserData::isPictureInitialized))
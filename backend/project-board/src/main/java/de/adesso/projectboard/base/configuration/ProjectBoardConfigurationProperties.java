@@ -4,9 +4,14 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.Valid;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 @ConfigurationProperties(prefix = "projectboard")
 @Data
@@ -19,6 +24,20 @@ public class ProjectBoardConfigurationProperties {
     @Min(1L)
     private long refreshInterval = 30L;
 
+    /**
+     * The maximum number of projects read from the project reader
+     * that are normalized and saved at once.
+     */
+    @Min(1L)
+    private int projectUpdateChunkSize = 500;
+
+    /**
+     * The maximum number of statements sent to the database in a single
+     * JDBC batch when the project updater upserts projects.
+     */
+    @Min(1L)
+    private int projectUpsertBatchSize = 100;
+
     /**
      * The name of the request parameter to get the
      * desired projection's name of.
@@ -59,4 +78,48 @@ public class ProjectBoardConfigurationProperties {
      */
     private List<String> applicationsForbiddenStatus = List.of("abgeschlossen", "closed");
 
+    /**
+     * The relevance profile used to rank the projects found
+     * by a keyword search.
+     */
+    @Valid
+    @NotNull
+    private Relevance relevance = new Relevance();
+
+    @Data
+    public static class Relevance {
+
+        /**
+         * The boosts of the indexed project fields. A match in a field with
+         * a boost of {@code 2} scores twice as high as a match in a field
+         * without a boost.
+         *
+         * Defaults to {@code 3} for the title, {@code 2} for the job and the
+         * skills and {@code 0.5} for the description.
+         */
+        @NotNull
+        private Map<String, Float> fieldBoosts = Map.of("title", 3.0f, "job", 2.0f, "skills", 2.0f, "description", 0.5f);
+
+        /**
+         * The boosts added to the score of projects with the given
+         * status in <b>lower case</b>.
+         *
+         * Defaults to {@code 0.5} for {@code eskaliert} and {@code escalated}.
+         */
+        @NotNull
+        private Map<String, Float> statusBoosts = Map.of("eskaliert", 0.5f, "escalated", 0.5f);
+
+        /**
+         * The boost added to the score of a project updated today. Halves
+         * with every recency half life that passed since the last update.
+         * Set to {@code 0} to disable the recency boost.
+         */
+        @PositiveOrZero
+        private float recencyBoost = 1.0f;
+
+        @NotNull
+        private Duration recencyHalfLife = Duration.ofDays(30L);
+
+    }
+
 }
@@ -0,0 +1,9 @@
+package de.adesso.projectboard.base.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(code = HttpStatus.BAD_REQUEST, reason = "The given search cursor is invalid!")
+public class InvalidSearchCursorException extends RuntimeException {
+
+}
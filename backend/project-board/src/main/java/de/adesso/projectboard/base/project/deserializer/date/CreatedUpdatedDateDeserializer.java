@@ -2,8 +2,8 @@ package de.adesso.projectboard.base.project.deserializer.date;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import de.adesso.projectboard.base.project.persistence.Project;
 
 import java.io.IOException;
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 
 /**
  * {@link DateDeserializer} to deserialize Dates in a {@code yyyy-MM-dd'T'HH:mm:ss.SSSZ}
- * format. Used to deserialize {@link Project}s.
+ * format. Used to deserialize {@link Project}s. The date is read from the current
+ * token without building a tree.
  *
  * @see DateDeserializer
  */
@@ -25,9 +26,11 @@ public class CreatedUpdatedDateDeserializer extends DateDeserializer<LocalDateTi
 
     @Override
     public LocalDateTime deserialize(JsonParser jp, DeserializationContext context) throws IOException, JsonProcessingException {
-        JsonNode node = jp.getCodec().readTree(jp);
+        if(jp.currentToken() != JsonToken.VALUE_STRING) {
+            return (LocalDateTime) context.handleUnexpectedToken(LocalDateTime.class, jp);
+        }
 
-        return LocalDateTime.parse(node.textValue(), getDateTimeFormatter());
+        return LocalDateTime.parse(jp.getText(), getDateTimeFormatter());
     }
 
 }
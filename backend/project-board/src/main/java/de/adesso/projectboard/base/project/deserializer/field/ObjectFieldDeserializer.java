@@ -2,8 +2,8 @@ package de.adesso.projectboard.base.project.deserializer.field;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import de.adesso.projectboard.base.project.persistence.Project;
 
@@ -11,6 +11,7 @@ import java.io.IOException;
 
 /**
  * A {@link StdDeserializer} that returns a string value of a field inside a json object.
+ * The object is read token by token without building a tree, the other fields are skipped.
  *
  * @see Project
  */
@@ -30,9 +31,23 @@ public abstract class ObjectFieldDeserializer extends StdDeserializer<String> {
 
     @Override
     public String deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        JsonNode node = jp.getCodec().readTree(jp);
-
-        return node.get(fieldName).textValue();
+        if(!jp.isExpectedStartObjectToken()) {
+            return (String) ctxt.handleUnexpectedToken(String.class, jp);
+        }
+
+        String value = null;
+        while(jp.nextToken() == JsonToken.FIELD_NAME) {
+            var currentFieldName = jp.getCurrentName();
+            var valueToken = jp.nextToken();
+
+            if(fieldName.equals(currentFieldName) && valueToken == JsonToken.VALUE_STRING) {
+                value = jp.getText();
+            } else {
+                jp.skipChildren();
+            }
+        }
+
+        return value;
     }
 
 }
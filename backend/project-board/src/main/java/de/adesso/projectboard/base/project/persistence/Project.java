@@ -1,17 +1,24 @@
 package de.adesso.projectboard.base.project.persistence;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import de.adesso.projectboard.base.project.deserializer.date.CreatedUpdatedDateDeserializer;
 import de.adesso.projectboard.base.project.deserializer.field.ObjectNameDeserializer;
 import de.adesso.projectboard.base.project.deserializer.field.ObjectValueDeserializer;
+import de.adesso.projectboard.base.search.ProjectIndexingInterceptor;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.ngram.EdgeNGramFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
 import org.hibernate.annotations.GenericGenerator;
-import org.hibernate.search.annotations.Field;
-import org.hibernate.search.annotations.Indexed;
+import org.hibernate.search.annotations.*;
+import org.hibernate.search.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -22,7 +29,31 @@ import java.util.List;
  *
  * @see ProjectRepository
  */
-@Indexed
+@Indexed(interceptor = ProjectIndexingInterceptor.class)
+@AnalyzerDef(
+        name = Project.SUGGEST_ANALYZER,
+        tokenizer = @TokenizerDef(factory = StandardTokenizerFactory.class),
+        filters = {
+                @TokenFilterDef(factory = LowerCaseFilterFactory.class),
+                @TokenFilterDef(factory = ASCIIFoldingFilterFactory.class),
+                @TokenFilterDef(factory = EdgeNGramFilterFactory.class, params = {
+                        @Parameter(name = "minGramSize", value = "1"),
+                        @Parameter(name = "maxGramSize", value = "20")
+                })
+        }
+)
+@AnalyzerDef(
+        name = Project.SUGGEST_QUERY_ANALYZER,
+        tokenizer = @TokenizerDef(factory = StandardTokenizerFactory.class),
+        filters = {
+                @TokenFilterDef(factory = LowerCaseFilterFactory.class),
+                @TokenFilterDef(factory = ASCIIFoldingFilterFactory.class)
+        }
+)
+@NormalizerDef(
+        name = Project.SORT_NORMALIZER,
+        filters = @TokenFilterDef(factory = LowerCaseFilterFactory.class)
+)
 @Entity
 @Table(name = "PROJECT")
 @Data
@@ -31,6 +62,24 @@ import java.util.List;
 @NoArgsConstructor
 public class Project {
 
+    /**
+     * The name of the normalizer used for the non-analyzed fields
+     * that are used for sorting.
+     */
+    public static final String SORT_NORMALIZER = "sortNormalizer";
+
+    /**
+     * The name of the edge n-gram analyzer used to index the
+     * fields that are used for suggestions.
+     */
+    public static final String SUGGEST_ANALYZER = "suggestAnalyzer";
+
+    /**
+     * The name of the analyzer used to analyze the prefix when
+     * searching the suggestion fields.
+     */
+    public static final String SUGGEST_QUERY_ANALYZER = "suggestQueryAnalyzer";
+
     @Id
     @GeneratedValue(
             generator = "project_id_generator"
@@ -43,6 +92,8 @@ public class Project {
     String id;
 
     @Field
+    @Field(name = "status_sort", analyze = Analyze.NO, normalizer = @Normalizer(definition = SORT_NORMALIZER))
+    @SortableField(forField = "status_sort")
     @JsonDeserialize(using = ObjectNameDeserializer.class)
     String status;
 
@@ -51,6 +102,9 @@ public class Project {
     String issuetype;
 
     @Field
+    @Field(name = "title_sort", analyze = Analyze.NO, normalizer = @Normalizer(definition = SORT_NORMALIZER))
+    @Field(name = "title_suggest", analyzer = @Analyzer(definition = SUGGEST_ANALYZER), store = Store.YES)
+    @SortableField(forField = "title_sort")
     @JsonAlias("summary")
     String title;
 
@@ -69,6 +123,7 @@ public class Project {
     String job;
 
     @Field
+    @Field(name = "skills_suggest", analyzer = @Analyzer(definition = SUGGEST_ANALYZER))
     @Lob
     @Column(length = 8192)
     @JsonAlias("customfield_10296")
@@ -86,10 +141,12 @@ public class Project {
     String lob;
 
     @Field
+    @Field(name = "customer_suggest", analyzer = @Analyzer(definition = SUGGEST_ANALYZER))
     @JsonAlias("customfield_10279")
     String customer;
 
     @Field
+    @Field(name = "location_suggest", analyzer = @Analyzer(definition = SUGGEST_ANALYZER))
     @JsonAlias("customfield_10297")
     String location;
 
@@ -107,9 +164,13 @@ public class Project {
     @JsonAlias("customfield_10284")
     String effort;
 
+    @Field(analyze = Analyze.NO)
+    @SortableField
     @JsonDeserialize(using = CreatedUpdatedDateDeserializer.class)
     LocalDateTime created;
 
+    @Field(analyze = Analyze.NO)
+    @SortableField
     @JsonDeserialize(using = CreatedUpdatedDateDeserializer.class)
     LocalDateTime updated;
 
@@ -134,4 +195,32 @@ public class Project {
     @JsonAlias("customfield_10291")
     String travelCostsCompensated;
 
+    /**
+     * The fingerprint of the content of the project when it was last
+     * saved by the {@link de.adesso.projectboard.base.project.updater.ProjectUpdater}.
+     *
+     * @see de.adesso.projectboard.base.project.updater.ProjectFingerprintCalculator
+     */
+    @JsonIgnore
+    @Column(length = 32)
+    String fingerprint;
+
+    /**
+     * The time the project was last written by the application. Unlike the
+     * {@link #updated} time of the source system it changes on every write,
+     * e.g. when a project is closed by the application itself.
+     *
+     * @see de.adesso.projectboard.base.search.LuceneIndexInitializer
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @Column(name = "LAST_MODIFIED")
+    LocalDateTime lastModified;
+
+    @PrePersist
+    @PreUpdate
+    void updateLastModified() {
+        this.lastModified = LocalDateTime.now();
+    }
+
 }
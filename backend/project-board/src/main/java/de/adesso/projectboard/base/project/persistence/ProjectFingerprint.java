@@ -0,0 +1,19 @@
+package de.adesso.projectboard.base.project.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a {@link Project} containing only its ID,
+ * {@link Project#getFingerprint() fingerprint} and updated time.
+ *
+ * @see ProjectRepository#findFingerprintsByIdIn(java.util.Collection)
+ */
+public interface ProjectFingerprint {
+
+    String getId();
+
+    String getFingerprint();
+
+    LocalDateTime getUpdated();
+
+}
@@ -4,18 +4,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * {@link JpaRepository} for persisting {@link Project}s.
  */
-public interface ProjectRepository extends JpaRepository<Project, String>, JpaSpecificationExecutor<Project> {
+public interface ProjectRepository extends JpaRepository<Project, String>, JpaSpecificationExecutor<Project>, ProjectUpsertRepository {
 
     List<Project> findAll(Specification<Project> specification, Sort sort);
 
     Page<Project> findAll(Specification<Project> specification, Pageable pageable);
 
+    List<ProjectFingerprint> findFingerprintsByIdIn(Collection<String> projectIds);
+
+    @EntityGraph(attributePaths = "labels")
+    List<Project> findAllByIdIn(Collection<String> projectIds);
+
 }
@@ -0,0 +1,42 @@
+package de.adesso.projectboard.base.project.persistence;
+
+import java.util.List;
+
+/**
+ * Repository fragment to insert or update a large number of {@link Project}s
+ * with batched JDBC statements instead of merging each project.
+ *
+ * <p>
+ *     <b>Note:</b> The projects are written without Hibernate, so they are
+ *     neither indexed nor updated in the persistence context.
+ * </p>
+ *
+ * @see ProjectRepository
+ */
+public interface ProjectUpsertRepository {
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff the database supports upserting projects.
+     */
+    boolean supportsUpsert();
+
+    /**
+     * Inserts the given projects or updates them in case a project with the same
+     * ID already exists. The labels of the projects are replaced.
+     *
+     * @param projects
+     *          The projects to upsert, not null. The {@link Project#getId() ID}
+     *          of each project must be set.
+     *
+     * @param batchSize
+     *          The maximum number of statements sent in a single batch,
+     *          greater than {@code 0}.
+     *
+     * @throws UnsupportedOperationException
+     *          When the database does not {@link #supportsUpsert() support upserts}.
+     */
+    void upsertAll(List<Project> projects, int batchSize);
+
+}
@@ -0,0 +1,216 @@
+package de.adesso.projectboard.base.project.persistence;
+
+import lombok.NonNull;
+import lombok.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ProjectUpsertRepository} implementation using JDBC batch statements. Projects are
+ * upserted with {@code INSERT ... ON DUPLICATE KEY UPDATE} on MySQL/MariaDB and with
+ * {@code MERGE} on HSQLDB. Other databases are not supported.
+ *
+ * <p>
+ *     The MySQL driver only sends a batch in a single round trip when
+ *     {@code rewriteBatchedStatements=true} is set on the JDBC URL.
+ * </p>
+ */
+public class ProjectUpsertRepositoryImpl implements ProjectUpsertRepository {
+
+    private static final String PROJECT_TABLE = "project";
+
+    private static final String LABEL_TABLE = "project_labels";
+
+    private static final String LOB_TYPE = "VARCHAR(8192)";
+
+    private static final String STRING_TYPE = "VARCHAR(255)";
+
+    private static final String TIMESTAMP_TYPE = "TIMESTAMP";
+
+    /**
+     * The columns of the project table. The ID column has to be the first one. Has to
+     * contain the column of every persistent property of a {@link Project}, which
+     * is verified by a test.
+     */
+    private static final List<ProjectColumn> COLUMNS = List.of(
+            new ProjectColumn("id", STRING_TYPE, Project::getId),
+            new ProjectColumn("status", STRING_TYPE, Project::getStatus),
+            new ProjectColumn("issue_type", STRING_TYPE, Project::getIssuetype),
+            new ProjectColumn("title", STRING_TYPE, Project::getTitle),
+            new ProjectColumn("job", LOB_TYPE, Project::getJob),
+            new ProjectColumn("skills", LOB_TYPE, Project::getSkills),
+            new ProjectColumn("description", LOB_TYPE, Project::getDescription),
+            new ProjectColumn("lob", STRING_TYPE, Project::getLob),
+            new ProjectColumn("customer", STRING_TYPE, Project::getCustomer),
+            new ProjectColumn("location", STRING_TYPE, Project::getLocation),
+            new ProjectColumn("operation_start", STRING_TYPE, Project::getOperationStart),
+            new ProjectColumn("operation_end", STRING_TYPE, Project::getOperationEnd),
+            new ProjectColumn("effort", STRING_TYPE, Project::getEffort),
+            new ProjectColumn("created", TIMESTAMP_TYPE, Project::getCreated),
+            new ProjectColumn("updated", TIMESTAMP_TYPE, Project::getUpdated),
+            new ProjectColumn("freelancer", STRING_TYPE, Project::getFreelancer),
+            new ProjectColumn("elongation", STRING_TYPE, Project::getElongation),
+            new ProjectColumn("other", LOB_TYPE, Project::getOther),
+            new ProjectColumn("daily_rate", STRING_TYPE, Project::getDailyRate),
+            new ProjectColumn("travel_costs_compensated", STRING_TYPE, Project::getTravelCostsCompensated),
+            new ProjectColumn("fingerprint", "VARCHAR(32)", Project::getFingerprint),
+            new ProjectColumn("last_modified", TIMESTAMP_TYPE, Project::getLastModified)
+    );
+
+    private static final Map<String, String> UPSERT_SQL_BY_DATABASE = Map.of(
+            "MySQL", buildMySqlUpsertSql(),
+            "MariaDB", buildMySqlUpsertSql(),
+            "HSQL Database Engine", buildHsqlUpsertSql()
+    );
+
+    private static final String DELETE_LABELS_SQL = String.format("DELETE FROM %s WHERE project_id = ?", LABEL_TABLE);
+
+    private static final String INSERT_LABEL_SQL = String.format("INSERT INTO %s (project_id, label) VALUES (?, ?)", LABEL_TABLE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The upsert statement for the used database. Empty in case
+     * the database is not supported, {@code null} until the database
+     * was determined.
+     */
+    private volatile String upsertSql;
+
+    public ProjectUpsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean supportsUpsert() {
+        return !getUpsertSql().isEmpty();
+    }
+
+    @Override
+    public void upsertAll(@NonNull List<Project> projects, int batchSize) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive!");
+        }
+
+        if(!supportsUpsert()) {
+            throw new UnsupportedOperationException("Upserting projects is not supported by the database!");
+        }
+
+        if(projects.isEmpty()) {
+            return;
+        }
+
+        // entity callbacks are not invoked for JDBC statements
+        var lastModified = LocalDateTime.now();
+        projects.forEach(project -> project.setLastModified(lastModified));
+
+        jdbcTemplate.batchUpdate(getUpsertSql(), projects, batchSize, (statement, project) -> {
+            for(var index = 0; index < COLUMNS.size(); index++) {
+                COLUMNS.get(index).setValue(statement, index + 1, project);
+            }
+        });
+
+        jdbcTemplate.batchUpdate(DELETE_LABELS_SQL, projects, batchSize,
+                (statement, project) -> statement.setString(1, project.getId()));
+
+        var projectLabels = projects.stream()
+                .filter(project -> Objects.nonNull(project.getLabels()))
+                .flatMap(project -> project.getLabels().stream()
+                        .map(label -> new String[] {project.getId(), label}))
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate(INSERT_LABEL_SQL, projectLabels, batchSize, (statement, projectLabel) -> {
+            statement.setString(1, projectLabel[0]);
+            statement.setString(2, projectLabel[1]);
+        });
+    }
+
+    private String getUpsertSql() {
+        if(Objects.isNull(upsertSql)) {
+            var databaseProductName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+
+            this.upsertSql = UPSERT_SQL_BY_DATABASE.getOrDefault(databaseProductName, "");
+        }
+
+        return upsertSql;
+    }
+
+    static List<String> getColumnNames() {
+        return COLUMNS.stream()
+                .map(ProjectColumn::getName)
+                .collect(Collectors.toList());
+    }
+
+    static String buildMySqlUpsertSql() {
+        var columnNames = COLUMNS.stream()
+                .map(ProjectColumn::getName)
+                .collect(Collectors.joining(", "));
+        var placeholders = COLUMNS.stream()
+                .map(column -> "?")
+                .collect(Collectors.joining(", "));
+        var updates = COLUMNS.stream()
+                .skip(1L)
+                .map(column -> String.format("%1$s = VALUES(%1$s)", column.getName()))
+                .collect(Collectors.joining(", "));
+
+        return String.format("INSERT INTO %s (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s",
+                PROJECT_TABLE, columnNames, placeholders, updates);
+    }
+
+    static String buildHsqlUpsertSql() {
+        var columnNames = COLUMNS.stream()
+                .map(ProjectColumn::getName)
+                .collect(Collectors.joining(", "));
+        // HSQLDB can not infer the types of the parameters in the VALUES table
+        var castPlaceholders = COLUMNS.stream()
+                .map(column -> String.format("CAST(? AS %s)", column.getSqlType()))
+                .collect(Collectors.joining(", "));
+        var updates = COLUMNS.stream()
+                .skip(1L)
+                .map(column -> String.format("p.%1$s = v.%1$s", column.getName()))
+                .collect(Collectors.joining(", "));
+        var insertValues = COLUMNS.stream()
+                .map(column -> "v." + column.getName())
+                .collect(Collectors.joining(", "));
+
+        return String.format("MERGE INTO %s p USING (VALUES (%s)) AS v (%s) ON p.id = v.id " +
+                        "WHEN MATCHED THEN UPDATE SET %s " +
+                        "WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s)",
+                PROJECT_TABLE, castPlaceholders, columnNames, updates, columnNames, insertValues);
+    }
+
+    @Value
+    private static class ProjectColumn {
+
+        String name;
+
+        String sqlType;
+
+        Function<Project, Object> valueGetter;
+
+        void setValue(PreparedStatement statement, int parameterIndex, Project project) throws SQLException {
+            var value = valueGetter.apply(project);
+
+            if(value instanceof LocalDateTime) {
+                statement.setTimestamp(parameterIndex, Timestamp.valueOf((LocalDateTime) value));
+            } else if(Objects.isNull(value)) {
+                statement.setNull(parameterIndex, TIMESTAMP_TYPE.equals(sqlType) ? Types.TIMESTAMP : Types.VARCHAR);
+            } else {
+                statement.setString(parameterIndex, value.toString());
+            }
+        }
+
+    }
+
+}
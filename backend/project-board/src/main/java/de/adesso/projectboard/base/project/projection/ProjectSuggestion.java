@@ -0,0 +1,22 @@
+package de.adesso.projectboard.base.project.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO containing a suggested {@link de.adesso.projectboard.base.project.persistence.Project}. It is
+ * built from the lucene index only, so no database access is needed to create suggestions.
+ *
+ * @see de.adesso.projectboard.base.search.HibernateSearchService#suggestProjects(String, int, String)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectSuggestion {
+
+    private String id;
+
+    private String title;
+
+}
@@ -0,0 +1,47 @@
+package de.adesso.projectboard.base.project.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight DTO containing the summary of a {@link de.adesso.projectboard.base.project.persistence.Project}
+ * for list views. In contrast to the projection interfaces it is created directly in a query, so
+ * neither the {@code @Lob} fields nor the labels of the project have to be loaded.
+ *
+ * @see de.adesso.projectboard.base.search.HibernateSearchService#searchProjectSummaries(String, org.springframework.data.domain.Pageable, String)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectSummary {
+
+    private String id;
+
+    private String status;
+
+    private String issuetype;
+
+    private String title;
+
+    private String lob;
+
+    private String customer;
+
+    private String location;
+
+    private String operationStart;
+
+    private String operationEnd;
+
+    private String effort;
+
+    private LocalDateTime created;
+
+    private LocalDateTime updated;
+
+    private String elongation;
+
+}
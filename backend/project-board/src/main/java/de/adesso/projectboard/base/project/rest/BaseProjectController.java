@@ -1,9 +1,47 @@
 package de.adesso.projectboard.base.project.rest;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 
 public abstract class BaseProjectController {
 
+    /**
+     * The maximum number of project suggestions returned at once.
+     */
+    protected static final int MAX_SUGGESTION_COUNT = 50;
+
+    /**
+     * The sort of project lists in case no sort is requested. Found
+     * projects are ordered by relevance instead.
+     */
+    protected static final Sort DEFAULT_PROJECT_SORT = Sort.by(Sort.Direction.DESC, "updated");
+
     public abstract ResponseEntity<?> getById(String projectId);
 
+    /**
+     *
+     * @param limit
+     *          The requested number of suggestions.
+     *
+     * @return
+     *          The given {@code limit} bounded to the range from 1
+     *          to {@value MAX_SUGGESTION_COUNT}.
+     */
+    protected int boundSuggestionLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_SUGGESTION_COUNT));
+    }
+
+    /**
+     *
+     * @param sort
+     *          The requested sort.
+     *
+     * @return
+     *          The given {@code sort} or the {@link #DEFAULT_PROJECT_SORT}
+     *          in case it is unsorted.
+     */
+    protected Sort sortedOrDefault(Sort sort) {
+        return sort.isSorted() ? sort : DEFAULT_PROJECT_SORT;
+    }
+
 }
@@ -73,11 +73,20 @@ public class NonPageableProjectController extends BaseProjectController {
         return ResponseEntity.ok(projections);
     }
 
+    @PreAuthorize("hasAccessToProjects() || hasRole('admin')")
+    @GetMapping(path = "/suggest", params = "query")
+    public ResponseEntity<?> suggest(@RequestParam String query, @RequestParam(defaultValue = "10") int limit) {
+        var user = userAuthService.getAuthenticatedUser();
+        var suggestions = userProjectService.suggestProjectsForUser(user, query, boundSuggestionLimit(limit));
+
+        return ResponseEntity.ok(suggestions);
+    }
+
     @PreAuthorize("hasAccessToProjects() || hasRole('admin')")
     @GetMapping(path = "/search", params = "query")
-    public ResponseEntity<?> searchByKeyword(@RequestParam String query, @SortDefault(direction = Sort.Direction.DESC, sort = "updated") Sort sort) {
+    public ResponseEntity<?> searchByKeyword(@RequestParam String query, Sort sort) {
         if(query == null || query.isEmpty()) {
-            return getAllForUser(sort);
+            return getAllForUser(sortedOrDefault(sort));
         } else {
             var user = userAuthService.getAuthenticatedUser();
             var projectsMatchingKeyword = userProjectService.searchProjectsForUser(user, query, sort);
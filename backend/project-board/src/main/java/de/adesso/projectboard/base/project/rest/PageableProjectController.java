@@ -2,14 +2,19 @@ package de.adesso.projectboard.base.project.rest;
 
 import de.adesso.projectboard.base.project.persistence.Project;
 import de.adesso.projectboard.base.project.projection.FullProjectProjection;
+import de.adesso.projectboard.base.project.projection.ProjectSummary;
 import de.adesso.projectboard.base.project.projection.ReducedProjectProjection;
 import de.adesso.projectboard.base.project.service.ProjectService;
 import de.adesso.projectboard.base.projection.BaseProjectionFactory;
+import de.adesso.projectboard.base.search.CursorPage;
+import de.adesso.projectboard.base.user.persistence.User;
 import de.adesso.projectboard.base.user.service.PageableUserProjectService;
 import de.adesso.projectboard.base.user.service.UserAuthService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +36,12 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping(path = "/projects")
 public class PageableProjectController extends BaseProjectController {
 
+    /**
+     * The value of the {@code projection} parameter to get {@link ProjectSummary summaries}
+     * from the keyword search.
+     */
+    static final String SUMMARY_PROJECTION = "summary";
+
     private final ProjectService projectService;
 
     private final PageableUserProjectService userProjectService;
@@ -72,18 +83,67 @@ public class PageableProjectController extends BaseProjectController {
         return ResponseEntity.ok(projectionsPage);
     }
 
+    @PreAuthorize("hasAccessToProjects() || hasRole('admin')")
+    @GetMapping(path = "/suggest", params = "query")
+    public ResponseEntity<?> suggest(@RequestParam String query, @RequestParam(defaultValue = "10") int limit) {
+        var authenticatedUser = userAuthService.getAuthenticatedUser();
+        var suggestions = userProjectService.suggestProjectsForUser(authenticatedUser, query, boundSuggestionLimit(limit));
+
+        return ResponseEntity.ok(suggestions);
+    }
+
     @PreAuthorize("hasAccessToProjects() || hasRole('admin')")
     @GetMapping(path = "/search", params = "query")
-    public ResponseEntity<?> searchByKeyword(@RequestParam String query, @SortDefault(direction = Sort.Direction.DESC, sort = "updated") Pageable pageable) {
+    public ResponseEntity<?> searchByKeyword(@RequestParam String query, @RequestParam(defaultValue = "true") boolean count,
+                                             @RequestParam(required = false) String projection, Pageable pageable) {
         if(query == null || query.isEmpty()) {
-            return getAllForUser(pageable);
-        } else {
-            var authenticatedUser = userAuthService.getAuthenticatedUser();
+            var sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sortedOrDefault(pageable.getSort()));
+            return getAllForUser(sortedPageable);
+        }
+
+        var authenticatedUser = userAuthService.getAuthenticatedUser();
+
+        if(SUMMARY_PROJECTION.equals(projection)) {
+            return searchSummariesByKeyword(query, count, authenticatedUser, pageable);
+        }
+
+        if(count) {
             var projectsPage = userProjectService.searchProjectsForUserPaginated(query, authenticatedUser, pageable);
 
             var projectionsPage = projectionFactory.createProjectionsForAuthenticatedUser(projectsPage,
                     ReducedProjectProjection.class, FullProjectProjection.class);
             return ResponseEntity.ok(projectionsPage);
+        } else {
+            // the slice only tells whether a next page exists, which is all infinite scrolling needs
+            var projectsSlice = userProjectService.searchProjectSliceForUser(query, authenticatedUser, pageable);
+
+            var projections = projectionFactory.createProjectionsForAuthenticatedUser(projectsSlice.getContent(),
+                    ReducedProjectProjection.class, FullProjectProjection.class);
+            return ResponseEntity.ok(new SliceImpl<>(projections, projectsSlice.getPageable(), projectsSlice.hasNext()));
+        }
+    }
+
+    @PreAuthorize("hasAccessToProjects() || hasRole('admin')")
+    @GetMapping(path = "/search", params = { "query", "cursor" })
+    public ResponseEntity<?> searchByKeywordAfterCursor(@RequestParam String query, @RequestParam String cursor, Pageable pageable) {
+        var authenticatedUser = userAuthService.getAuthenticatedUser();
+        var projectsPage = userProjectService.searchProjectsForUserAfterCursor(query, authenticatedUser, cursor, pageable);
+
+        var projections = projectionFactory.createProjectionsForAuthenticatedUser(projectsPage.getContent(),
+                ReducedProjectProjection.class, FullProjectProjection.class);
+        return ResponseEntity.ok(new CursorPage<>(projections, projectsPage.getNextCursor(), projectsPage.getTotalElements()));
+    }
+
+    /**
+     * Returns {@link ProjectSummary summaries} instead of projections, which do not contain
+     * the labels and long text fields of the projects. Clients have to get the details of
+     * a project by its ID.
+     */
+    private ResponseEntity<?> searchSummariesByKeyword(String query, boolean count, User authenticatedUser, Pageable pageable) {
+        if(count) {
+            return ResponseEntity.ok(userProjectService.searchProjectSummariesForUserPaginated(query, authenticatedUser, pageable));
+        } else {
+            return ResponseEntity.ok(userProjectService.searchProjectSummarySliceForUser(query, authenticatedUser, pageable));
         }
     }
 
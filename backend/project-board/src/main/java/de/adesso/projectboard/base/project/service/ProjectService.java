@@ -2,8 +2,11 @@ package de.adesso.projectboard.base.project.service;
 
 import de.adesso.projectboard.base.exceptions.ProjectNotFoundException;
 import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.persistence.ProjectFingerprint;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -77,4 +80,50 @@ public interface ProjectService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Inserts or updates a large number of {@link Project}s at once. The
+     * {@link Project#getId() ID} of each project must be set. Implementations
+     * should write the projects in batches instead of merging them one by one.
+     *
+     * @param projects
+     *          The list of {@link Project}s to upsert.
+     *
+     * @see #saveAll(List)
+     */
+    default void upsertAll(List<Project> projects) {
+        saveAll(projects);
+    }
+
+    /**
+     *
+     * @param projectIds
+     *          The {@link Project#getId() IDs} of the {@link Project}s
+     *          to get the fingerprints of.
+     *
+     * @return
+     *          The {@link ProjectFingerprint fingerprints} of the existing
+     *          {@link Project}s mapped to their ID.
+     */
+    default Map<String, ProjectFingerprint> getFingerprintsByIds(Collection<String> projectIds) {
+        return Map.of();
+    }
+
+    /**
+     *
+     * @param projectIds
+     *          The {@link Project#getId() IDs} of the {@link Project}s
+     *          to get.
+     *
+     * @return
+     *          The existing {@link Project}s with the given IDs. The
+     *          {@link Project#getLabels() labels} of the projects are
+     *          initialized.
+     */
+    default List<Project> getProjectsByIds(Collection<String> projectIds) {
+        return projectIds.stream()
+                .filter(this::projectExists)
+                .map(this::getProjectById)
+                .collect(Collectors.toList());
+    }
+
 }
@@ -0,0 +1,270 @@
+package de.adesso.projectboard.base.project.updater;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.service.ProjectService;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects project changes pushed by the source system, e.g. through a webhook, and
+ * saves them in micro-batches through the {@link ProjectUpdater}, so pushed projects
+ * are normalized and saved the same way as polled ones.
+ *
+ * <p>
+ *     A batch is saved at latest {@code batchDelay} after its first change was submitted
+ *     or as soon as it contains {@code maxBatchSize} projects. Multiple changes of the same
+ *     project in a batch are coalesced, the latest change wins.
+ * </p>
+ *
+ * <p>
+ *     Projects are never deleted, since applications and bookmarks refer to them. Deleted
+ *     projects get the configured {@code deletedStatus} and the current time as their
+ *     {@link Project#getUpdated() updated} time instead.
+ * </p>
+ *
+ * <p>
+ *     Changed projects of a batch that could not be saved are left to the next execution
+ *     of the {@link ProjectUpdater}, which reads them again since they were updated after
+ *     its last execution. Deleted projects are not read by the updater, so their deletion
+ *     is submitted again with the next batch, up to {@value MAX_DELETE_ATTEMPTS} times.
+ * </p>
+ *
+ * @see ProjectUpdater#saveProjects(java.util.List)
+ */
+@Slf4j
+public class ProjectChangeBatcher implements InitializingBean, DisposableBean {
+
+    static final int MAX_DELETE_ATTEMPTS = 3;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final ProjectUpdater projectUpdater;
+
+    private final ProjectService projectService;
+
+    private final Duration batchDelay;
+
+    private final int maxBatchSize;
+
+    private final String deletedStatus;
+
+    private final Clock clock;
+
+    private final Object lock;
+
+    private Map<String, Project> changedProjects;
+
+    private Set<String> deletedProjectIds;
+
+    /**
+     * The number of failed attempts to save the deletion of a project.
+     */
+    private final Map<String, Integer> failedDeleteAttempts;
+
+    private boolean flushScheduled;
+
+    private ScheduledExecutorService worker;
+
+    /**
+     *
+     * @param projectUpdater
+     *          The updater to save the changed projects with, not null.
+     *
+     * @param projectService
+     *          The service to get the deleted projects from, not null.
+     *
+     * @param batchDelay
+     *          The maximum time a change waits until it is saved, not null.
+     *
+     * @param maxBatchSize
+     *          The maximum number of projects in a batch, greater than {@code 0}.
+     *
+     * @param deletedStatus
+     *          The status to set on deleted projects, not null.
+     *
+     * @param clock
+     *          The clock to get the updated time of deleted projects from, not null.
+     */
+    public ProjectChangeBatcher(@NonNull ProjectUpdater projectUpdater, @NonNull ProjectService projectService,
+                                @NonNull Duration batchDelay, int maxBatchSize, @NonNull String deletedStatus,
+                                @NonNull Clock clock) {
+        if(maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive!");
+        }
+
+        this.projectUpdater = projectUpdater;
+        this.projectService = projectService;
+        this.batchDelay = batchDelay;
+        this.maxBatchSize = maxBatchSize;
+        this.deletedStatus = deletedStatus;
+        this.clock = clock;
+
+        this.lock = new Object();
+        this.changedProjects = new LinkedHashMap<>();
+        this.deletedProjectIds = new LinkedHashSet<>();
+        this.failedDeleteAttempts = new HashMap<>();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "project-change-batcher");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the worker after all pending changes were saved.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if(worker == null) {
+            return;
+        }
+
+        // delayed flushes are still executed after the shutdown
+        worker.shutdown();
+
+        if(!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Stopped project change batcher before all pending changes were saved!");
+            worker.shutdownNow();
+        }
+    }
+
+    /**
+     * Submits a created or updated project.
+     *
+     * @param project
+     *          The pushed project, not null. The {@link Project#getId() ID}
+     *          must be set.
+     */
+    public void submitChanged(@NonNull Project project) {
+        synchronized(lock) {
+            deletedProjectIds.remove(project.getId());
+            changedProjects.put(project.getId(), project);
+
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Submits the deletion of a project.
+     *
+     * @param projectId
+     *          The ID of the deleted project, not null.
+     */
+    public void submitDeleted(@NonNull String projectId) {
+        synchronized(lock) {
+            changedProjects.remove(projectId);
+            deletedProjectIds.add(projectId);
+
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Schedules a flush of the pending changes. Must be called
+     * while holding the lock.
+     */
+    private void scheduleFlush() {
+        var pendingCount = changedProjects.size() + deletedProjectIds.size();
+
+        if(pendingCount == maxBatchSize) {
+            worker.execute(this::flush);
+        } else if(!flushScheduled) {
+            worker.schedule(this::flush, batchDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        this.flushScheduled = true;
+    }
+
+    /**
+     * Saves all pending changes. Errors are logged, since changed projects are
+     * saved by the next reconciling execution of the {@link ProjectUpdater}
+     * anyway. Deletions are {@link #resubmitDeleted(Set) submitted again}.
+     */
+    void flush() {
+        Map<String, Project> batchChangedProjects;
+        Set<String> batchDeletedProjectIds;
+
+        synchronized(lock) {
+            batchChangedProjects = changedProjects;
+            batchDeletedProjectIds = deletedProjectIds;
+
+            this.changedProjects = new LinkedHashMap<>();
+            this.deletedProjectIds = new LinkedHashSet<>();
+            this.flushScheduled = false;
+        }
+
+        if(batchChangedProjects.isEmpty() && batchDeletedProjectIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            var projects = new ArrayList<>(batchChangedProjects.values());
+            if(!batchDeletedProjectIds.isEmpty()) {
+                var deletedAt = LocalDateTime.now(clock);
+
+                for(var deletedProject : projectService.getProjectsByIds(batchDeletedProjectIds)) {
+                    deletedProject.setStatus(deletedStatus);
+                    deletedProject.setUpdated(deletedAt);
+                    projects.add(deletedProject);
+                }
+            }
+
+            projectUpdater.saveProjects(projects);
+
+            synchronized(lock) {
+                failedDeleteAttempts.keySet().removeAll(batchDeletedProjectIds);
+            }
+        } catch (RuntimeException ex) {
+            log.error(String.format("Error saving %d pushed project changes! Changed projects are saved by the next " +
+                    "execution of the project updater.", batchChangedProjects.size() + batchDeletedProjectIds.size()), ex);
+
+            resubmitDeleted(batchDeletedProjectIds);
+        }
+    }
+
+    /**
+     * Submits the deletions of a batch that could not be saved again, unless the
+     * project was submitted again in the meantime or its deletion failed
+     * {@value MAX_DELETE_ATTEMPTS} times.
+     *
+     * @param projectIds
+     *          The IDs of the deleted projects of the failed batch.
+     */
+    private void resubmitDeleted(Set<String> projectIds) {
+        synchronized(lock) {
+            for(var projectId : projectIds) {
+                var attempts = failedDeleteAttempts.merge(projectId, 1, Integer::sum);
+
+                if(attempts >= MAX_DELETE_ATTEMPTS) {
+                    failedDeleteAttempts.remove(projectId);
+                    log.error(String.format("Gave up saving the deletion of project '%s' after %d attempts!", projectId, attempts));
+                } else if(worker.isShutdown()) {
+                    log.error(String.format("Could not save the deletion of project '%s' before shutdown!", projectId));
+                } else if(!changedProjects.containsKey(projectId) && deletedProjectIds.add(projectId)) {
+                    scheduleFlush();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package de.adesso.projectboard.base.project.updater;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import lombok.NonNull;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Calculates the fingerprint of the content of a {@link Project}. Two projects
+ * have the same fingerprint iff all fields except the {@link Project#getId() ID}
+ * and the fingerprint itself are equal.
+ *
+ * <p>
+ *     The fingerprint is only used to detect changed projects and is not
+ *     meant to be collision resistant.
+ * </p>
+ *
+ * @see ProjectUpdater
+ */
+public class ProjectFingerprintCalculator {
+
+    private ProjectFingerprintCalculator() {
+        // util class
+    }
+
+    /**
+     *
+     * @param project
+     *          The project to calculate the fingerprint of, not null.
+     *
+     * @return
+     *          The hex encoded MD5 hash of the content of the project.
+     */
+    public static String calculateFingerprint(@NonNull Project project) {
+        var contentBuilder = new StringBuilder();
+
+        appendValues(contentBuilder, project.getStatus(), project.getIssuetype(), project.getTitle());
+        appendLabels(contentBuilder, project.getLabels());
+        appendValues(contentBuilder, project.getJob(), project.getSkills(), project.getDescription(), project.getLob(),
+                project.getCustomer(), project.getLocation(), project.getOperationStart(), project.getOperationEnd(),
+                project.getEffort(), project.getCreated(), project.getUpdated(), project.getFreelancer(),
+                project.getElongation(), project.getOther(), project.getDailyRate(), project.getTravelCostsCompensated());
+
+        return DigestUtils.md5DigestAsHex(contentBuilder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendLabels(StringBuilder contentBuilder, List<String> labels) {
+        if(Objects.isNull(labels)) {
+            appendValues(contentBuilder, (Object) null);
+        } else {
+            appendValues(contentBuilder, labels.size());
+            appendValues(contentBuilder, labels.toArray());
+        }
+    }
+
+    /**
+     * Appends each value prefixed with its length, so the content of adjacent
+     * fields can not be shifted without changing the fingerprint.
+     */
+    private static void appendValues(StringBuilder contentBuilder, Object... values) {
+        Arrays.stream(values).forEach(value -> {
+            if(Objects.isNull(value)) {
+                contentBuilder.append('-');
+            } else {
+                var stringValue = value.toString();
+
+                contentBuilder
+                        .append(stringValue.length())
+                        .append(':')
+                        .append(stringValue);
+            }
+        });
+    }
+
+}
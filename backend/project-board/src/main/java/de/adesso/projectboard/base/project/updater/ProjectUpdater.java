@@ -3,10 +3,15 @@ package de.adesso.projectboard.base.project.updater;
 import de.adesso.projectboard.base.configuration.ProjectBoardConfigurationProperties;
 import de.adesso.projectboard.base.normalizer.Normalizer;
 import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.persistence.ProjectFingerprint;
 import de.adesso.projectboard.base.project.service.ProjectService;
+import de.adesso.projectboard.base.project.updater.persistence.ProjectUpdateCheckpoint;
+import de.adesso.projectboard.base.project.updater.persistence.ProjectUpdateCheckpointRepository;
 import de.adesso.projectboard.base.reader.ProjectReader;
 import de.adesso.projectboard.base.scheduled.AutoRegistered;
 import de.adesso.projectboard.base.scheduled.ScheduledJob;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
@@ -14,62 +19,142 @@ import org.springframework.stereotype.Component;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * {@link ScheduledJob} implementation to update persisted jobs.
+ *
+ * <p>
+ *     Only new projects and projects whose {@link ProjectFingerprintCalculator fingerprint}
+ *     changed since they were last saved are written and reindexed. The number of
+ *     inserted, updated and unchanged projects is reported in the job log.
+ * </p>
+ *
+ * <p>
+ *     A {@link ProjectUpdateCheckpoint checkpoint} is saved after each committed chunk.
+ *     A failed or interrupted update resumes from the latest updated time of the
+ *     committed projects instead of reading all projects again. Projects updated at
+ *     exactly that time are read again, but are not written since their fingerprint
+ *     did not change. The checkpoint is deleted once the update succeeded.
+ * </p>
+ *
+ * <p>
+ *     The {@link #getLastExecutionWatermark() watermark} of a successful update is the
+ *     latest updated time of all read projects instead of the time the update finished,
+ *     so projects edited while the update was running are read by the next update.
+ * </p>
  */
+@Slf4j
 @Component
 @AutoRegistered
 public class ProjectUpdater implements ScheduledJob {
 
+    static final String JOB_IDENTIFIER = "PROJECT-UPDATER";
+
+    static final String INSERTED_COUNT_NAME = "inserted";
+
+    static final String UPDATED_COUNT_NAME = "updated";
+
+    static final String UNCHANGED_COUNT_NAME = "unchanged";
+
     private final ProjectService projectService;
 
     private final ProjectReader projectReader;
 
+    private final ProjectUpdateCheckpointRepository checkpointRepo;
+
     private final Duration refreshIntervalDuration;
 
+    private final int chunkSize;
+
     private final List<Normalizer<Project>> normalizers;
 
     private final Clock clock;
 
+    private long insertedCount;
+
+    private long updatedCount;
+
+    private long unchangedCount;
+
+    /**
+     * The latest updated time of all projects read in the current
+     * execution. {@code null} until the first project was read.
+     */
+    private LocalDateTime watermark;
+
     @Autowired(required = false)
     public ProjectUpdater(ProjectService projectService,
                           ProjectReader projectReader,
+                          ProjectUpdateCheckpointRepository checkpointRepo,
                           ProjectBoardConfigurationProperties properties,
                           @Lazy List<Normalizer<Project>> normalizers,
                           Clock clock) {
         this.projectService = projectService;
         this.projectReader = projectReader;
+        this.checkpointRepo = checkpointRepo;
         this.normalizers = normalizers;
         this.clock = clock;
 
         this.refreshIntervalDuration = Duration.ofMinutes(properties.getRefreshInterval());
+        this.chunkSize = properties.getProjectUpdateChunkSize();
     }
 
     @Autowired(required = false)
     public ProjectUpdater(ProjectService projectService,
                           ProjectReader projectReader,
+                          ProjectUpdateCheckpointRepository checkpointRepo,
                           ProjectBoardConfigurationProperties properties,
                           Clock clock) {
-        this(projectService, projectReader, properties, List.of(), clock);
+        this(projectService, projectReader, checkpointRepo, properties, List.of(), clock);
     }
 
     @Override
     public void execute(LocalDateTime lastExecuteTime) throws Exception {
-        var projects = projectReader.getAllProjectsSince(lastExecuteTime);
-        normalizeAndSave(projects);
+        var readSince = getCheckpointUpdated()
+                .filter(checkpointUpdated -> checkpointUpdated.isAfter(lastExecuteTime))
+                .orElse(lastExecuteTime);
+
+        startExecution(readSince);
+        projectReader.readAllProjectsSince(readSince, chunkSize, this::normalizeAndSave);
+        finishExecution();
     }
 
     @Override
     public void execute() throws Exception {
-        var projects = projectReader.getInitialProjects();
-        normalizeAndSave(projects);
+        var checkpointUpdated = getCheckpointUpdated();
+
+        startExecution(checkpointUpdated.orElse(null));
+        if(checkpointUpdated.isPresent()) {
+            projectReader.readInitialProjectsSince(checkpointUpdated.get(), chunkSize, this::normalizeAndSave);
+        } else {
+            projectReader.readInitialProjects(chunkSize, this::normalizeAndSave);
+        }
+        finishExecution();
     }
 
     @Override
     public String getJobIdentifier() {
-        return "PROJECT-UPDATER";
+        return JOB_IDENTIFIER;
+    }
+
+    @Override
+    public Map<String, Long> getLastExecutionCounts() {
+        return Map.of(
+                INSERTED_COUNT_NAME, insertedCount,
+                UPDATED_COUNT_NAME, updatedCount,
+                UNCHANGED_COUNT_NAME, unchangedCount
+        );
+    }
+
+    @Override
+    public Optional<LocalDateTime> getLastExecutionWatermark() {
+        return Optional.ofNullable(watermark);
     }
 
     @Override
@@ -79,13 +164,161 @@ public class ProjectUpdater implements ScheduledJob {
         return refreshIntervalDuration.compareTo(lastUpdateDeltaDuration) <= 0;
     }
 
+    /**
+     * Normalizes and saves the given projects outside of a scheduled execution, e.g.
+     * projects pushed by the source system. Only new and changed projects are saved,
+     * but they are not included in the {@link #getLastExecutionCounts() counts} of
+     * the last execution.
+     *
+     * @param projects
+     *          The projects to save, not null.
+     *
+     * @see ProjectChangeBatcher
+     */
+    public void saveProjects(List<Project> projects) {
+        if(projects.isEmpty()) {
+            return;
+        }
+
+        var changeCounts = saveChanged(normalize(projects));
+
+        log.debug(String.format("Saved %d new and %d changed pushed projects!", changeCounts.getInserted(),
+                changeCounts.getUpdated()));
+    }
+
     private void normalizeAndSave(List<Project> projects) {
+        var changeCounts = saveChanged(normalize(projects));
+
+        insertedCount += changeCounts.getInserted();
+        updatedCount += changeCounts.getUpdated();
+        unchangedCount += changeCounts.getUnchanged();
+
+        saveCheckpoint(projects);
+    }
+
+    private List<Project> normalize(List<Project> projects) {
         var normalizedProjects = projects;
         for(var normalizer : normalizers) {
             normalizedProjects = normalizer.normalize(normalizedProjects);
         }
 
-        projectService.saveAll(normalizedProjects);
+        return normalizedProjects;
+    }
+
+    /**
+     * Saves the given projects in case they are new or their fingerprint
+     * changed. Projects that were updated before the saved project with the
+     * same ID are not saved, so a project read by a scheduled execution does
+     * not overwrite a newer version pushed by the source system in the
+     * meantime. Synchronized, since both save projects concurrently.
+     *
+     * @param projects
+     *          The normalized projects to save.
+     *
+     * @return
+     *          The number of new, changed and unchanged projects. Outdated
+     *          projects count as unchanged.
+     */
+    private synchronized ChangeCounts saveChanged(List<Project> projects) {
+        var projectIds = projects.stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
+        var existingFingerprints = projectService.getFingerprintsByIds(projectIds);
+
+        var inserted = 0L;
+        var updated = 0L;
+        var changedProjects = new ArrayList<Project>();
+        for(var project : projects) {
+            var fingerprint = ProjectFingerprintCalculator.calculateFingerprint(project);
+            project.setFingerprint(fingerprint);
+
+            var existingFingerprint = existingFingerprints.get(project.getId());
+            if(Objects.isNull(existingFingerprint)) {
+                inserted++;
+                changedProjects.add(project);
+            } else if(!isUpdatedBefore(project, existingFingerprint) && !fingerprint.equals(existingFingerprint.getFingerprint())) {
+                updated++;
+                changedProjects.add(project);
+            }
+        }
+
+        if(!changedProjects.isEmpty()) {
+            projectService.upsertAll(changedProjects);
+        }
+
+        return new ChangeCounts(inserted, updated, projects.size() - inserted - updated);
+    }
+
+    private boolean isUpdatedBefore(Project project, ProjectFingerprint existingFingerprint) {
+        var updated = project.getUpdated();
+        var existingUpdated = existingFingerprint.getUpdated();
+
+        return Objects.nonNull(updated) && Objects.nonNull(existingUpdated) && updated.isBefore(existingUpdated);
+    }
+
+    /**
+     * Saves a checkpoint containing the latest updated time of the given projects
+     * and all projects read before. No checkpoint is saved when none of the given
+     * projects has an updated time.
+     *
+     * @param projects
+     *          The committed projects in the order they were read.
+     */
+    private void saveCheckpoint(List<Project> projects) {
+        var latestUpdatedOptional = projects.stream()
+                .map(Project::getUpdated)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo);
+
+        if(latestUpdatedOptional.isEmpty()) {
+            return;
+        }
+
+        var latestUpdated = latestUpdatedOptional.get();
+        if(Objects.isNull(watermark) || latestUpdated.isAfter(watermark)) {
+            this.watermark = latestUpdated;
+        }
+
+        var lastProjectId = projects.get(projects.size() - 1).getId();
+        checkpointRepo.save(new ProjectUpdateCheckpoint(JOB_IDENTIFIER, lastProjectId, watermark, LocalDateTime.now(clock)));
+    }
+
+    private Optional<LocalDateTime> getCheckpointUpdated() {
+        var checkpointOptional = checkpointRepo.findById(JOB_IDENTIFIER);
+
+        checkpointOptional.ifPresent(checkpoint -> log.info(String.format("Resuming project update after project '%s' updated at %s!",
+                checkpoint.getLastProjectId(), checkpoint.getLastUpdated())));
+
+        return checkpointOptional.map(ProjectUpdateCheckpoint::getLastUpdated);
+    }
+
+    /**
+     *
+     * @param readSince
+     *          The updated time the projects are read from, may be {@code null}.
+     */
+    private void startExecution(LocalDateTime readSince) {
+        this.insertedCount = 0L;
+        this.updatedCount = 0L;
+        this.unchangedCount = 0L;
+        this.watermark = readSince;
+    }
+
+    private void finishExecution() {
+        if(checkpointRepo.existsById(JOB_IDENTIFIER)) {
+            checkpointRepo.deleteById(JOB_IDENTIFIER);
+        }
+    }
+
+    @Value
+    private static class ChangeCounts {
+
+        long inserted;
+
+        long updated;
+
+        long unchanged;
+
     }
 
 }
@@ -0,0 +1,81 @@
+package de.adesso.projectboard.base.project.updater.persistence;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * The progress of a running project update. Saved after each chunk of projects
+ * was committed, so a failed or interrupted update can resume where it stopped
+ * instead of reading all projects again.
+ *
+ * @see de.adesso.projectboard.base.project.updater.ProjectUpdater
+ */
+@Entity
+@Table(name = "PROJECT_UPDATE_CHECKPOINT")
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProjectUpdateCheckpoint {
+
+    @Id
+    @Column(name = "JOB_IDENTIFIER")
+    String jobIdentifier;
+
+    /**
+     * The ID of the last committed project.
+     */
+    @Column(
+            name = "LAST_PROJECT_ID",
+            nullable = false
+    )
+    String lastProjectId;
+
+    /**
+     * The latest {@link de.adesso.projectboard.base.project.persistence.Project#getUpdated() updated}
+     * time of all committed projects.
+     */
+    @Column(
+            name = "LAST_UPDATED",
+            nullable = false
+    )
+    LocalDateTime lastUpdated;
+
+    /**
+     * The time the checkpoint was saved.
+     */
+    @Column(
+            name = "CHECKPOINT_TIME",
+            nullable = false
+    )
+    LocalDateTime time;
+
+    /**
+     *
+     * @param jobIdentifier
+     *          The identifier of the job that saved the checkpoint, not null.
+     *
+     * @param lastProjectId
+     *          The ID of the last committed project, not null.
+     *
+     * @param lastUpdated
+     *          The latest updated time of all committed projects, not null.
+     *
+     * @param time
+     *          The time the checkpoint is saved, not null.
+     */
+    public ProjectUpdateCheckpoint(@NonNull String jobIdentifier, @NonNull String lastProjectId,
+                                   @NonNull LocalDateTime lastUpdated, @NonNull LocalDateTime time) {
+        this.jobIdentifier = jobIdentifier;
+        this.lastProjectId = lastProjectId;
+        this.lastUpdated = lastUpdated;
+        this.time = time;
+    }
+
+}
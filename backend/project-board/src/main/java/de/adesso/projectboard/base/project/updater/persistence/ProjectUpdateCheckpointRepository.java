@@ -0,0 +1,11 @@
+package de.adesso.projectboard.base.project.updater.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * {@link JpaRepository} to persist {@link ProjectUpdateCheckpoint}s. The
+ * checkpoints are identified by the identifier of the job saving them.
+ */
+public interface ProjectUpdateCheckpointRepository extends JpaRepository<ProjectUpdateCheckpoint, String> {
+
+}
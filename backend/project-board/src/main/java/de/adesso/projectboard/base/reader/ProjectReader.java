@@ -4,11 +4,22 @@ import de.adesso.projectboard.base.project.persistence.Project;
 import org.springframework.boot.actuate.health.Health;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * A specification for a reader that is used in {@link de.adesso.projectboard.base.project.updater.ProjectUpdater}.
  *
+ * <p>
+ *     The chunked read methods pass the projects in ascending order of their
+ *     {@link Project#getUpdated() updated} time, so an interrupted update can
+ *     resume from the latest updated time it committed. Implementations may start
+ *     over from the updated time of the last passed project, so projects may be
+ *     passed more than once.
+ * </p>
+ *
  * @see de.adesso.projectboard.reader.JiraProjectReader
  */
 public interface ProjectReader {
@@ -38,6 +49,72 @@ public interface ProjectReader {
      */
     List<Project> getInitialProjects() throws Exception;
 
+    /**
+     * Passes the projects returned by {@link #getAllProjectsSince(LocalDateTime)} to the
+     * given {@code chunkConsumer} in chunks. Implementations should override this method
+     * to avoid holding all projects in memory at once.
+     *
+     * @param dateTime
+     *          The {@link LocalDateTime} of the last <b>successful</b> update.
+     *
+     * @param chunkSize
+     *          The maximum number of projects per chunk, greater than {@code 0}.
+     *
+     * @param chunkConsumer
+     *          The consumer to pass the chunks to, not null.
+     *
+     * @throws Exception
+     *          When a error occurs.
+     */
+    default void readAllProjectsSince(LocalDateTime dateTime, int chunkSize, Consumer<List<Project>> chunkConsumer) throws Exception {
+        forEachChunk(getAllProjectsSince(dateTime), chunkSize, chunkConsumer);
+    }
+
+    /**
+     * Passes the projects returned by {@link #getInitialProjects()} to the given
+     * {@code chunkConsumer} in chunks. Implementations should override this method
+     * to avoid holding all projects in memory at once.
+     *
+     * @param chunkSize
+     *          The maximum number of projects per chunk, greater than {@code 0}.
+     *
+     * @param chunkConsumer
+     *          The consumer to pass the chunks to, not null.
+     *
+     * @throws Exception
+     *          When a error occurs.
+     */
+    default void readInitialProjects(int chunkSize, Consumer<List<Project>> chunkConsumer) throws Exception {
+        forEachChunk(getInitialProjects(), chunkSize, chunkConsumer);
+    }
+
+    /**
+     * Passes the projects returned by {@link #getInitialProjects()} that were updated
+     * at or after the given {@code dateTime} to the given {@code chunkConsumer} in chunks.
+     * Used to resume an interrupted initial update. Implementations should override this
+     * method to avoid reading all initial projects again.
+     *
+     * @param dateTime
+     *          The latest {@link Project#getUpdated() updated} time of the projects read
+     *          before the update was interrupted.
+     *
+     * @param chunkSize
+     *          The maximum number of projects per chunk, greater than {@code 0}.
+     *
+     * @param chunkConsumer
+     *          The consumer to pass the chunks to, not null.
+     *
+     * @throws Exception
+     *          When a error occurs.
+     */
+    default void readInitialProjectsSince(LocalDateTime dateTime, int chunkSize, Consumer<List<Project>> chunkConsumer) throws Exception {
+        var projects = getInitialProjects().stream()
+                .filter(project -> project.getUpdated() == null || !project.getUpdated().isBefore(dateTime))
+                .collect(Collectors.toList());
+
+        forEachChunk(projects, chunkSize, chunkConsumer);
+    }
+
     /**
      *
      * @return
@@ -50,4 +127,18 @@ public interface ProjectReader {
                 .build();
     }
 
+    private static void forEachChunk(List<Project> projects, int chunkSize, Consumer<List<Project>> chunkConsumer) {
+        if(chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive!");
+        }
+
+        var sortedProjects = projects.stream()
+                .sorted(Comparator.comparing(Project::getUpdated, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+
+        for(int fromIndex = 0; fromIndex < sortedProjects.size(); fromIndex += chunkSize) {
+            chunkConsumer.accept(sortedProjects.subList(fromIndex, Math.min(fromIndex + chunkSize, sortedProjects.size())));
+        }
+    }
+
 }
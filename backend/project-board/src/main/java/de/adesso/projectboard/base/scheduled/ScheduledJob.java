@@ -1,6 +1,8 @@
 package de.adesso.projectboard.base.scheduled;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Classes implementing this interface that are supplied as a spring bean will be automatically
@@ -51,4 +53,32 @@ public interface ScheduledJob {
      */
     boolean shouldExecute(LocalDateTime lastExecuteTime);
 
+    /**
+     * Called after the job was executed successfully. The returned counts
+     * are saved with the {@link de.adesso.projectboard.base.scheduled.persistence.ScheduledJobLog job log}
+     * of the execution.
+     *
+     * @return
+     *          Counts describing the last execution, like the number of
+     *          updated entities, mapped to their name.
+     */
+    default Map<String, Long> getLastExecutionCounts() {
+        return Map.of();
+    }
+
+    /**
+     * Called after the job was executed successfully. The returned watermark
+     * is passed to the next {@link #execute(LocalDateTime) execution} instead
+     * of the time the last execution finished. Useful for jobs that read
+     * changes from an external system, so changes made while the job was
+     * running are not missed.
+     *
+     * @return
+     *          The watermark of the last execution or an empty optional
+     *          in case the time of the execution should be used.
+     */
+    default Optional<LocalDateTime> getLastExecutionWatermark() {
+        return Optional.empty();
+    }
+
 }
@@ -14,8 +14,11 @@ import org.springframework.stereotype.Component;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 /**
  * Executor executing all <i>registered</i> {@link ScheduledJob} implementations periodically,
@@ -65,6 +68,9 @@ public class ScheduledJobExecutor implements ApplicationContextAware {
      *          method with the job log's {@link ScheduledJobLog#getTime() time} returns {@code true}.
      *      </li>
      * </ul>
+     *
+     * The job log's {@link ScheduledJobLog#getWatermark() watermark} is passed to the
+     * job instead of its time in case it is present.
      */
     @Scheduled(
             initialDelay = 0L,
@@ -80,23 +86,33 @@ public class ScheduledJobExecutor implements ApplicationContextAware {
             if(jobLogOptional.isPresent()) {
                 var jobLog = jobLogOptional.get();
                 var lastSuccessfulExecute = jobLog.getTime();
+                var lastWatermark = Objects.requireNonNullElse(jobLog.getWatermark(), lastSuccessfulExecute);
 
                 if(job.shouldExecute(lastSuccessfulExecute)) {
                     execute(() -> {
-                        job.execute(lastSuccessfulExecute);
+                        job.execute(lastWatermark);
                         return null;
-                    }, jobIdentifier);
+                    }, job::getLastExecutionCounts, job::getLastExecutionWatermark, jobIdentifier);
                 }
             } else {
                 execute(() -> {
                     job.execute();
                     return null;
-                }, jobIdentifier);
+                }, job::getLastExecutionCounts, job::getLastExecutionWatermark, jobIdentifier);
             }
         });
     }
 
     void execute(Callable<Void> callable, String jobIdentifier) {
+        execute(callable, Map::of, jobIdentifier);
+    }
+
+    void execute(Callable<Void> callable, Supplier<Map<String, Long>> countsSupplier, String jobIdentifier) {
+        execute(callable, countsSupplier, Optional::empty, jobIdentifier);
+    }
+
+    void execute(Callable<Void> callable, Supplier<Map<String, Long>> countsSupplier,
+                 Supplier<Optional<LocalDateTime>> watermarkSupplier, String jobIdentifier) {
         ScheduledJobLog jobLog;
 
         try {
@@ -105,6 +121,8 @@ public class ScheduledJobExecutor implements ApplicationContextAware {
             // execution went well
             var executionTime = LocalDateTime.now(clock);
             jobLog = new ScheduledJobLog(executionTime, jobIdentifier, ScheduledJobLog.Status.SUCCESS);
+            jobLog.getCounts().putAll(countsSupplier.get());
+            jobLog.setWatermark(watermarkSupplier.get().orElse(null));
 
             log.debug(String.format("Successfully executed scheduled job with job identifier '%s'!",
                     jobIdentifier));
@@ -7,6 +7,8 @@ import lombok.NonNull;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 @Entity
 @Table(name = "SCHEDULED_JOB_LOG")
@@ -36,6 +38,29 @@ public class ScheduledJobLog {
     )
     Status status;
 
+    /**
+     * The watermark to pass to the next execution of the job instead
+     * of the {@link #getTime() time}. May be {@code null}.
+     *
+     * @see de.adesso.projectboard.base.scheduled.ScheduledJob#getLastExecutionWatermark()
+     */
+    @Column(name = "JOB_WATERMARK")
+    LocalDateTime watermark;
+
+    /**
+     * Counts describing the execution of the job.
+     *
+     * @see de.adesso.projectboard.base.scheduled.ScheduledJob#getLastExecutionCounts()
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(
+            name = "SCHEDULED_JOB_LOG_COUNTS",
+            joinColumns = @JoinColumn(name = "JOB_LOG_ID")
+    )
+    @MapKeyColumn(name = "COUNT_NAME")
+    @Column(name = "COUNT_VALUE")
+    Map<String, Long> counts = new HashMap<>();
+
     /**
      *
      * @param time
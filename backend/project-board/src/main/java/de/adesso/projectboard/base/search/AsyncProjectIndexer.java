@@ -0,0 +1,441 @@
+package de.adesso.projectboard.base.search;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Indexes saved {@link Project}s in the background instead of inside the transaction
+ * that saved them, so big project updates do not hold the transaction open while
+ * the index is written.
+ *
+ * <p>
+ *     The IDs of the projects to index are put into a bounded queue after the saving
+ *     transaction committed. Saving threads block while the queue is full. A single
+ *     worker thread takes up to {@link HibernateSearchConfigurationProperties#getAsyncIndexingBatchSize() batch size}
+ *     IDs from the queue and indexes them with a single index commit. A batch is indexed
+ *     at latest {@link HibernateSearchConfigurationProperties#getAsyncIndexingMaxStaleness() max staleness}
+ *     after its first project was taken from the queue, so searches never lag further
+ *     behind the database.
+ * </p>
+ *
+ * <p>
+ *     A batch that cannot be indexed is retried with an exponential backoff up to
+ *     {@value MAX_BATCH_ATTEMPTS} times. Projects that still could not be indexed, were
+ *     not queued because the saving thread was interrupted or were left in the queue
+ *     when the indexer was stopped are {@link #hasUnindexedProjects() tracked}, so the
+ *     {@link LuceneIndexInitializer} does not write a checkpoint covering them and they
+ *     are reindexed on the next start.
+ * </p>
+ *
+ * <p>
+ *     The depth of the queue and the number of indexed and failed projects are exposed
+ *     as metrics with the {@value METRIC_PREFIX} prefix.
+ * </p>
+ *
+ * @see ProjectIndexingInterceptor
+ */
+@Slf4j
+public class AsyncProjectIndexer implements InitializingBean, DisposableBean, MeterBinder {
+
+    static final String METRIC_PREFIX = "projectboard.search.indexing";
+
+    static final int MAX_BATCH_ATTEMPTS = 3;
+
+    static final long INITIAL_RETRY_BACKOFF_MILLIS = 200L;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    /**
+     * Whether the automatic indexing of projects is deferred in the current thread.
+     * Static, since Hibernate Search instantiates the {@link ProjectIndexingInterceptor}
+     * itself.
+     */
+    private static final ThreadLocal<Boolean> INDEXING_DEFERRED = ThreadLocal.withInitial(() -> false);
+
+    private final EntityManager entityManager;
+
+    private final TransactionOperations transactionOperations;
+
+    private final HibernateSearchService searchService;
+
+    private final SearchResultCache resultCache;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    private final Duration maxStaleness;
+
+    private final BlockingQueue<String> queue;
+
+    private final AtomicLong indexedCount;
+
+    /**
+     * The number of queued projects that were not indexed yet, including
+     * the ones of the batch currently being indexed.
+     */
+    private final AtomicLong pendingCount;
+
+    private final AtomicLong failedCount;
+
+    private ExecutorService worker;
+
+    private volatile boolean running;
+
+    /**
+     *
+     * @param entityManager
+     *          The transactional entity manager to load and index the projects with, not null.
+     *
+     * @param transactionOperations
+     *          The operations to execute the indexing of a batch in a transaction with, not null.
+     *
+     * @param searchService
+     *          The search service to index the projects with, not null.
+     *
+     * @param resultCache
+     *          The cache to invalidate after a batch was indexed, not null.
+     *
+     * @param properties
+     *          The properties to get the async indexing configuration from, not null.
+     */
+    public AsyncProjectIndexer(@NonNull EntityManager entityManager, @NonNull TransactionOperations transactionOperations,
+                               @NonNull HibernateSearchService searchService, @NonNull SearchResultCache resultCache,
+                               @NonNull HibernateSearchConfigurationProperties properties) {
+        this.entityManager = entityManager;
+        this.transactionOperations = transactionOperations;
+        this.searchService = searchService;
+        this.resultCache = resultCache;
+
+        this.enabled = properties.isAsyncIndexing();
+        this.batchSize = properties.getAsyncIndexingBatchSize();
+        this.maxStaleness = properties.getAsyncIndexingMaxStaleness();
+        this.queue = new LinkedBlockingQueue<>(properties.getAsyncIndexingQueueCapacity());
+        this.indexedCount = new AtomicLong();
+        this.pendingCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff the automatic indexing of projects is
+     *          deferred in the current thread.
+     */
+    static boolean isIndexingDeferred() {
+        return INDEXING_DEFERRED.get();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if(!enabled) {
+            return;
+        }
+
+        this.running = true;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "async-project-indexer");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        worker.execute(this::processQueue);
+    }
+
+    /**
+     * Stops the worker after all queued projects were indexed. Projects still queued
+     * after {@value SHUTDOWN_TIMEOUT_SECONDS} seconds are left {@link #hasUnindexedProjects() unindexed}.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if(!enabled || worker == null) {
+            return;
+        }
+
+        this.running = false;
+        worker.shutdown();
+
+        if(!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn(String.format("Stopped async project indexer with %d projects left in the queue! The projects " +
+                    "are reindexed on the next start.", queue.size()));
+            worker.shutdownNow();
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff projects are indexed asynchronously.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs the given {@code action} without indexing the projects it saves. All changes
+     * have to be flushed before the action returns, since changes flushed afterwards are
+     * indexed as usual. Simply runs the action in case async indexing is disabled.
+     *
+     * @param action
+     *          The action to run, not null.
+     *
+     * @param <T>
+     *          The result type of the action.
+     *
+     * @return
+     *          The result of the action.
+     */
+    public <T> T deferIndexing(@NonNull Supplier<T> action) {
+        if(!enabled || INDEXING_DEFERRED.get()) {
+            return action.get();
+        }
+
+        INDEXING_DEFERRED.set(true);
+        try {
+            return action.get();
+        } finally {
+            INDEXING_DEFERRED.remove();
+        }
+    }
+
+    /**
+     * Queues the given projects to be indexed once the current transaction committed. The
+     * projects are queued immediately in case no transaction is active. Blocks while the
+     * queue is full.
+     *
+     * @param projects
+     *          The projects to index, not null.
+     */
+    public void indexAfterCommit(@NonNull Collection<Project> projects) {
+        if(!enabled || projects.isEmpty()) {
+            return;
+        }
+
+        var projectIds = projects.stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    enqueue(projectIds);
+                }
+
+            });
+        } else {
+            enqueue(projectIds);
+        }
+    }
+
+    /**
+     * Indexes projects that were written without Hibernate, e.g. with JDBC, and are therefore
+     * not indexed automatically. The projects are {@link #indexAfterCommit(Collection) queued}
+     * once the current transaction committed in case async indexing is enabled. Otherwise
+     * they are indexed when the current transaction commits.
+     *
+     * @param projects
+     *          The written projects, not null.
+     */
+    public void indexUpsertedProjects(@NonNull Collection<Project> projects) {
+        if(enabled) {
+            indexAfterCommit(projects);
+            return;
+        }
+
+        var projectIds = projects.stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
+
+        searchService.indexProjectsOnCommit(entityManager, projectIds);
+    }
+
+    /**
+     *
+     * @return
+     *          The number of projects waiting to be indexed.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getIndexedCount() {
+        return indexedCount.get();
+    }
+
+    /**
+     *
+     * @return
+     *          The number of projects that could not be indexed.
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff projects are still waiting to be indexed or
+     *          could not be indexed.
+     */
+    public boolean hasUnindexedProjects() {
+        return pendingCount.get() > 0L || failedCount.get() > 0L;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", this, AsyncProjectIndexer::getQueueDepth)
+                .description("The number of projects waiting to be indexed")
+                .register(registry);
+
+        FunctionCounter.builder(METRIC_PREFIX + ".indexed", this, AsyncProjectIndexer::getIndexedCount)
+                .description("The number of asynchronously indexed projects")
+                .register(registry);
+
+        FunctionCounter.builder(METRIC_PREFIX + ".failed", this, AsyncProjectIndexer::getFailedCount)
+                .description("The number of projects that could not be indexed asynchronously")
+                .register(registry);
+    }
+
+    void enqueue(List<String> projectIds) {
+        var queuedCount = 0;
+
+        try {
+            for(var projectId : projectIds) {
+                pendingCount.incrementAndGet();
+                queue.put(projectId);
+
+                queuedCount++;
+            }
+        } catch (InterruptedException ex) {
+            var droppedCount = projectIds.size() - queuedCount;
+            pendingCount.decrementAndGet();
+            failedCount.addAndGet(droppedCount);
+
+            log.error(String.format("Interrupted while queueing projects to index! %d projects are reindexed on the " +
+                    "next start.", droppedCount), ex);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Indexes the queued projects in batches until the indexer is stopped
+     * and the queue is empty.
+     */
+    void processQueue() {
+        var batch = new LinkedHashSet<String>();
+
+        while(running || !queue.isEmpty()) {
+            try {
+                var firstProjectId = queue.poll(maxStaleness.toMillis(), TimeUnit.MILLISECONDS);
+                if(firstProjectId == null) {
+                    continue;
+                }
+
+                batch.add(firstProjectId);
+                fillBatch(batch, System.nanoTime() + maxStaleness.toNanos());
+
+                indexBatchWithRetries(batch);
+                pendingCount.addAndGet(-batch.size());
+            } catch (InterruptedException ex) {
+                log.error("Async project indexer interrupted!", ex);
+                Thread.currentThread().interrupt();
+
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fillBatch(Collection<String> batch, long deadlineNanos) throws InterruptedException {
+        while(batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+
+            var remainingNanos = deadlineNanos - System.nanoTime();
+            if(batch.size() >= batchSize || remainingNanos <= 0L || !running) {
+                return;
+            }
+
+            var nextProjectId = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if(nextProjectId == null) {
+                return;
+            }
+
+            batch.add(nextProjectId);
+        }
+    }
+
+    /**
+     * Indexes the given {@code batch}, retrying it with an exponential backoff in case
+     * it fails. The projects of the batch are counted as failed in case the last attempt
+     * failed.
+     *
+     * @param batch
+     *          The IDs of the projects to index, not null.
+     *
+     * @throws InterruptedException
+     *          When interrupted while waiting for the next attempt.
+     */
+    private void indexBatchWithRetries(Collection<String> batch) throws InterruptedException {
+        var backoffMillis = INITIAL_RETRY_BACKOFF_MILLIS;
+
+        for(var attempt = 1; ; attempt++) {
+            try {
+                indexBatch(batch);
+
+                return;
+            } catch (RuntimeException ex) {
+                if(attempt >= MAX_BATCH_ATTEMPTS) {
+                    failedCount.addAndGet(batch.size());
+                    log.error(String.format("Error indexing %d projects after %d attempts! The projects are reindexed " +
+                            "on the next start.", batch.size(), attempt), ex);
+
+                    return;
+                }
+
+                log.warn(String.format("Error indexing %d projects, retrying in %d ms!", batch.size(), backoffMillis), ex);
+                Thread.sleep(backoffMillis);
+
+                backoffMillis *= 2L;
+            }
+        }
+    }
+
+    private void indexBatch(Collection<String> batch) {
+        var projectIds = List.copyOf(batch);
+
+        transactionOperations.execute(status -> searchService.indexProjects(entityManager, projectIds));
+        resultCache.invalidateAll();
+
+        indexedCount.addAndGet(projectIds.size());
+        log.debug(String.format("Indexed %d projects asynchronously!", projectIds.size()));
+    }
+
+}
@@ -0,0 +1,66 @@
+package de.adesso.projectboard.base.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A page of search results that is not addressed by its page number but by
+ * the {@link SearchCursor cursor} of the last result of the previous page.
+ *
+ * @param <T>
+ *          The type of the content.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * The content of this page.
+     */
+    private List<T> content;
+
+    /**
+     * The cursor to get the next page with or {@code null}
+     * in case this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * The total number of results.
+     */
+    private long totalElements;
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff a next page exists.
+     */
+    public boolean hasNext() {
+        return Objects.nonNull(nextCursor);
+    }
+
+    /**
+     *
+     * @param converter
+     *          The function to convert the content with, not null.
+     *
+     * @param <U>
+     *          The type of the converted content.
+     *
+     * @return
+     *          A new page with the converted content and the same cursor.
+     */
+    public <U> CursorPage<U> map(Function<? super T, ? extends U> converter) {
+        var convertedContent = content.stream()
+                .map(converter)
+                .collect(Collectors.<U>toList());
+
+        return new CursorPage<>(convertedContent, nextCursor, totalElements);
+    }
+
+}
@@ -2,15 +2,24 @@ package de.adesso.projectboard.base.search;
 
 import de.adesso.projectboard.base.configuration.ProjectBoardConfigurationProperties;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import javax.persistence.PersistenceContext;
 import javax.persistence.PersistenceContextType;
+import java.time.Clock;
 import java.util.Set;
 
 @Configuration
+@EnableConfigurationProperties(HibernateSearchConfigurationProperties.class)
 public class HibernateSearchConfiguration {
 
     @PersistenceContext(type = PersistenceContextType.EXTENDED)
@@ -18,21 +27,69 @@ public class HibernateSearchConfiguration {
 
     @Autowired
     @Bean
-    public HibernateSearchService staffSearchService(ProjectBoardConfigurationProperties properties) {
+    public SearchResultCache searchResultCache(HibernateSearchConfigurationProperties searchProperties, Clock clock) {
+        return new SearchResultCache(searchProperties.getResultCacheMaxSize(), searchProperties.getResultCacheTimeToLive(), clock);
+    }
+
+    @Autowired
+    @Bean
+    public ProjectRelevanceProfile projectRelevanceProfile(ProjectBoardConfigurationProperties properties) {
+        var relevance = properties.getRelevance();
+
+        return new ProjectRelevanceProfile(relevance.getFieldBoosts(), relevance.getStatusBoosts(),
+                relevance.getRecencyBoost(), relevance.getRecencyHalfLife());
+    }
+
+    @Autowired
+    @Bean
+    public HibernateSearchService staffSearchService(ProjectBoardConfigurationProperties properties, SearchResultCache searchResultCache,
+                                                     ProjectRelevanceProfile relevanceProfile, Clock clock) {
         var lobDependentStatus = properties.getLobDependentStatus();
         var excludedStatus = properties.getStatusExcludedFromList();
 
-        var searchService = new HibernateSearchService(lobDependentStatus, excludedStatus);
-        searchService.indexExistingEntities(entityManager);
-
-        return searchService;
+        return new HibernateSearchService(lobDependentStatus, excludedStatus, searchResultCache, relevanceProfile, clock);
     }
 
     @Autowired
     @Bean
-    public HibernateSearchService managerSearchService(ProjectBoardConfigurationProperties properties) {
+    public HibernateSearchService managerSearchService(ProjectBoardConfigurationProperties properties, SearchResultCache searchResultCache,
+                                                       ProjectRelevanceProfile relevanceProfile, Clock clock) {
         var excludedStatus = properties.getStatusExcludedFromList();
-        return new HibernateSearchService(Set.of(), excludedStatus);
+        return new HibernateSearchService(Set.of(), excludedStatus, searchResultCache, relevanceProfile, clock);
+    }
+
+    @Autowired
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public LuceneIndexInitializer luceneIndexInitializer(@Qualifier("staffSearchService") HibernateSearchService searchService,
+                                                         HibernateSearchConfigurationProperties searchProperties) {
+        return new LuceneIndexInitializer(entityManager, searchService, searchProperties);
+    }
+
+    /**
+     * Depends on the index initializer, so queued projects are indexed
+     * before the index checkpoint is written on shutdown. The initializer
+     * does not write the checkpoint in case projects were left unindexed.
+     */
+    @Autowired
+    @Bean
+    public AsyncProjectIndexer asyncProjectIndexer(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager,
+                                                   @Qualifier("staffSearchService") HibernateSearchService searchService,
+                                                   SearchResultCache searchResultCache, HibernateSearchConfigurationProperties searchProperties,
+                                                   LuceneIndexInitializer luceneIndexInitializer) {
+        var transactionalEntityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        var asyncProjectIndexer = new AsyncProjectIndexer(transactionalEntityManager, new TransactionTemplate(transactionManager),
+                searchService, searchResultCache, searchProperties);
+
+        luceneIndexInitializer.setAsyncProjectIndexer(asyncProjectIndexer);
+
+        return asyncProjectIndexer;
+    }
+
+    @Autowired
+    @Bean
+    public LuceneIndexHealthIndicator luceneIndexHealthIndicator(LuceneIndexInitializer luceneIndexInitializer) {
+        return new LuceneIndexHealthIndicator(luceneIndexInitializer);
     }
 
 }
@@ -0,0 +1,118 @@
+package de.adesso.projectboard.base.search;
+
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * The configuration properties for the {@link HibernateSearchService}s and the
+ * lucene index they operate on.
+ *
+ * @see HibernateSearchConfiguration
+ */
+@ConfigurationProperties(prefix = "projectboard.search")
+@Validated
+@Data
+public class HibernateSearchConfigurationProperties {
+
+    /**
+     * The way the lucene index is built when the application starts.
+     *
+     * default: <i>FULL</i>
+     */
+    @NotNull
+    private IndexMode indexMode = IndexMode.FULL;
+
+    /**
+     * Whether or not a full rebuild of the index should be performed
+     * in the background instead of blocking the application startup. Only
+     * applies to the {@link IndexMode#PERSISTENT persistent} index mode.
+     *
+     * default: <i>true</i>
+     */
+    private boolean asyncFullRebuild = true;
+
+    /**
+     * The maximum number of search results kept in the
+     * {@link SearchResultCache result cache}. Caching is disabled
+     * when set to {@code 0}.
+     *
+     * default: <i>1000</i>
+     */
+    @Min(0L)
+    private int resultCacheMaxSize = 1000;
+
+    /**
+     * The duration after which a cached search result expires.
+     *
+     * default: <i>5 minutes</i>
+     */
+    @NotNull
+    private Duration resultCacheTimeToLive = Duration.ofMinutes(5L);
+
+    /**
+     * Whether or not projects saved in bulk should be indexed by the
+     * {@link AsyncProjectIndexer} in the background instead of inside the
+     * transaction that saved them.
+     *
+     * default: <i>false</i>
+     */
+    private boolean asyncIndexing = false;
+
+    /**
+     * The maximum number of projects waiting to be indexed. Saving
+     * threads block while the queue is full.
+     *
+     * default: <i>10000</i>
+     */
+    @Min(1L)
+    private int asyncIndexingQueueCapacity = 10000;
+
+    /**
+     * The maximum number of projects indexed with a single
+     * index commit.
+     *
+     * default: <i>100</i>
+     */
+    @Min(1L)
+    @Max(1000L)
+    private int asyncIndexingBatchSize = 100;
+
+    /**
+     * The maximum time to wait for a batch to fill up before it is indexed,
+     * which bounds how far searches lag behind the database. Must be at
+     * least one millisecond, since the indexer waits for new projects in
+     * millisecond steps.
+     *
+     * default: <i>5 seconds</i>
+     */
+    @NotNull
+    @DurationMin(millis = 1L)
+    private Duration asyncIndexingMaxStaleness = Duration.ofSeconds(5L);
+
+    public enum IndexMode {
+
+        /**
+         * The whole index is rebuilt on every startup before the
+         * application is able to serve any requests.
+         */
+        FULL,
+
+        /**
+         * The index is kept between restarts. Only the projects that were modified
+         * since the last {@link IndexCheckpoint checkpoint} are reindexed and deleted
+         * projects are removed from the index. Falls back to a full rebuild when no
+         * valid checkpoint is present. Requires all instances writing to the database
+         * to have synchronized clocks.
+         */
+        PERSISTENT
+
+    }
+
+}
@@ -1,39 +1,85 @@
 package de.adesso.projectboard.base.search;
 
 import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.projection.ProjectSuggestion;
+import de.adesso.projectboard.base.project.projection.ProjectSummary;
 import de.adesso.projectboard.base.user.persistence.User;
 import de.adesso.projectboard.base.user.persistence.data.UserData;
 import lombok.NonNull;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.lucene.search.BooleanQuery;
-import org.apache.lucene.search.Query;
+import org.apache.lucene.queries.TermsQuery;
+import org.apache.lucene.search.*;
+import org.apache.lucene.util.BytesRef;
+import org.hibernate.search.annotations.Analyze;
 import org.hibernate.search.annotations.Field;
 import org.hibernate.search.annotations.Indexed;
+import org.hibernate.search.batchindexing.MassIndexerProgressMonitor;
+import org.hibernate.search.engine.ProjectionConstants;
 import org.hibernate.search.jpa.FullTextEntityManager;
 import org.hibernate.search.jpa.Search;
 import org.hibernate.search.query.dsl.QueryBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Transactional(readOnly = true)
 @Slf4j
 public class HibernateSearchService {
 
-    private static final int MAX_CLAUSE_COUNT = 4096;
+    private static final int INDEX_BATCH_SIZE = 100;
 
     private static final String LOB_FIELD_NAME = "lob";
 
     private static final String STATUS_FIELD_NAME = "status";
 
+    private static final String ID_FIELD_NAME = "id";
+
+    private static final String USER_ID_FIELD_NAME = "user_id";
+
+    private static final String TITLE_SUGGEST_FIELD_NAME = "title_suggest";
+
+    private static final String[] OTHER_SUGGEST_FIELD_NAMES = { "customer_suggest", "location_suggest", "skills_suggest" };
+
+    private static final float TITLE_SUGGEST_BOOST = 2.0f;
+
+    private static final String UPDATED_FIELD_NAME = "updated";
+
+    /**
+     * The number of steps the exponential recency decay is approximated with.
+     */
+    private static final int RECENCY_BOOST_STEPS = 4;
+
+    /**
+     * Maps the names of the sortable {@link Project} properties to the
+     * names of the index fields to sort by.
+     */
+    private static final Map<String, String> PROJECT_SORT_FIELDS = Map.of(
+            "updated", "updated",
+            "created", "created",
+            "title", "title_sort",
+            "status", "status_sort"
+    );
+
     /*
      * A transactional entity manager to use when searching. Required because an extended
      * persistence context entity manager will return entities that differ from the entities returned by
@@ -49,6 +95,13 @@ public class HibernateSearchService {
      */
     final Map<Class<?>, List<String>> classIndexedFieldMap;
 
+    /**
+     * A map to store the visibility filter queries of projects per
+     * lower case lob. The filters only depend on the configuration of this
+     * service and the lob, so they are built only once per lob.
+     */
+    final Map<Optional<String>, Optional<Query>> projectVisibilityFilterMap;
+
     /**
      * A set of the values of the status field that add
      * additional constraints to the lob field.
@@ -61,6 +114,27 @@ public class HibernateSearchService {
      */
     private final Set<String> excludedStatus;
 
+    /**
+     * The cache for the IDs of found projects.
+     */
+    private final SearchResultCache resultCache;
+
+    /**
+     * The profile describing how found projects are ranked.
+     */
+    private final ProjectRelevanceProfile relevanceProfile;
+
+    /**
+     * The clock to get the current date from when applying the
+     * recency boost.
+     */
+    private final Clock clock;
+
+    /**
+     * The cached boost queries of the relevance profile.
+     */
+    private volatile RelevanceBoostQueries relevanceBoostQueries;
+
     /**
      *
      * @param statusWithLobConstraint
@@ -72,11 +146,56 @@ public class HibernateSearchService {
      *          of projects that should not be included in any result.
      */
     public HibernateSearchService(@NotNull Collection<String> statusWithLobConstraint, @NotNull Collection<String> excludedStatus) {
-        // increase the max clause count to allow searching for
-        // staff members of users with more than 1024 staff members
-        BooleanQuery.setMaxClauseCount(MAX_CLAUSE_COUNT);
+        this(statusWithLobConstraint, excludedStatus, SearchResultCache.disabled());
+    }
 
+    /**
+     *
+     * @param statusWithLobConstraint
+     *          A collection of the values of the {@value STATUS_FIELD_NAME} field
+     *          that add additional constraints to the lob field, not {@code null}.
+     *
+     * @param excludedStatus
+     *          A collection of the values of the {@value STATUS_FIELD_NAME} field
+     *          of projects that should not be included in any result.
+     *
+     * @param resultCache
+     *          The cache to cache the IDs of found projects in, not {@code null}. May
+     *          be shared between multiple services.
+     */
+    public HibernateSearchService(@NotNull Collection<String> statusWithLobConstraint, @NotNull Collection<String> excludedStatus,
+                                  @NotNull SearchResultCache resultCache) {
+        this(statusWithLobConstraint, excludedStatus, resultCache, ProjectRelevanceProfile.flat(), Clock.systemDefaultZone());
+    }
+
+    /**
+     *
+     * @param statusWithLobConstraint
+     *          A collection of the values of the {@value STATUS_FIELD_NAME} field
+     *          that add additional constraints to the lob field, not {@code null}.
+     *
+     * @param excludedStatus
+     *          A collection of the values of the {@value STATUS_FIELD_NAME} field
+     *          of projects that should not be included in any result.
+     *
+     * @param resultCache
+     *          The cache to cache the IDs of found projects in, not {@code null}. May
+     *          be shared between multiple services.
+     *
+     * @param relevanceProfile
+     *          The profile describing how found projects are ranked, not {@code null}.
+     *
+     * @param clock
+     *          The clock to get the current date from, not {@code null}.
+     */
+    public HibernateSearchService(@NotNull Collection<String> statusWithLobConstraint, @NotNull Collection<String> excludedStatus,
+                                  @NotNull SearchResultCache resultCache, @NotNull ProjectRelevanceProfile relevanceProfile,
+                                  @NotNull Clock clock) {
+        this.resultCache = resultCache;
+        this.relevanceProfile = relevanceProfile;
+        this.clock = clock;
         this.classIndexedFieldMap = new HashMap<>();
+        this.projectVisibilityFilterMap = new ConcurrentHashMap<>();
         this.statusWithLobConstraint = allToLowerCase(statusWithLobConstraint);
         this.excludedStatus =  allToLowerCase(excludedStatus);
     }
@@ -91,14 +210,34 @@ public class HibernateSearchService {
      *          the lob to search for, may be {@code null}.
      *
      * @return
-     *          A list of all found projects.
+     *          A list of all found projects ordered by relevance.
      */
-    @SuppressWarnings("unchecked")
     public List<Project> searchProjects(@NonNull String simpleQueryString, String lob) {
-        var query = getProjectBaseQuery(simpleQueryString, lob);
+        return searchProjects(simpleQueryString, Sort.unsorted(), lob);
+    }
 
-        return getFullTextEntityManager().createFullTextQuery(query, Project.class)
-                .getResultList();
+    /**
+     *
+     * @param simpleQueryString
+     *          The query to evaluate, not {@code null}.
+     *
+     * @param sort
+     *          The sort to apply, not {@code null}. Only the properties
+     *          {@code updated}, {@code created}, {@code title} and {@code status}
+     *          are supported, all other properties are ignored.
+     *
+     * @param lob
+     *          The lob of the projects which's status indicates a constrained to
+     *          the lob to search for, may be {@code null}.
+     *
+     * @return
+     *          A list of all found projects sorted by the given {@code sort} and
+     *          by relevance.
+     */
+    public List<Project> searchProjects(@NonNull String simpleQueryString, @NonNull Sort sort, String lob) {
+        var result = searchProjectIds(simpleQueryString, sort, Pageable.unpaged(), lob);
+
+        return findProjectsInOrder(result.getIds());
     }
 
     /**
@@ -107,7 +246,8 @@ public class HibernateSearchService {
      *          The query to evaluate, not {@code null}.
      *
      * @param pageable
-     *          The pageable to get the paging information from, not {@code null}.
+     *          The pageable to get the paging and sorting information from, not {@code null}.
+     *          See {@link #searchProjects(String, Sort, String)} for the supported sort properties.
      *
      * @param lob
      *          The lob of the projects which's status indicates a constrained to
@@ -116,19 +256,257 @@ public class HibernateSearchService {
      * @return
      *          A page of all found projects.
      */
-    @SuppressWarnings("unchecked")
     public Page<Project> searchProjects(@NonNull String simpleQueryString, @NonNull Pageable pageable, String lob) {
+        var result = searchProjectIds(simpleQueryString, pageable.getSort(), pageable, lob);
+
+        return new PageImpl<>(findProjectsInOrder(result.getIds()), pageable, result.getTotalHits());
+    }
+
+    /**
+     * Searches for projects like {@link #searchProjects(String, Pageable, String)} but
+     * returns a {@link Slice} that only tells whether a next page exists instead of
+     * the total number of found projects. Meant for infinite scrolling.
+     *
+     * @param simpleQueryString
+     *          The query to evaluate, not {@code null}.
+     *
+     * @param pageable
+     *          The pageable to get the paging and sorting information from, not {@code null}.
+     *          See {@link #searchProjects(String, Sort, String)} for the supported sort properties.
+     *
+     * @param lob
+     *          The lob of the projects which's status indicates a constrained to
+     *          the lob to search for, may be {@code null}.
+     *
+     * @return
+     *          A slice of all found projects.
+     */
+    public Slice<Project> searchProjectSlice(@NonNull String simpleQueryString, @NonNull Pageable pageable, String lob) {
+        var result = searchProjectIds(simpleQueryString, pageable.getSort(), pageable, lob);
+
+        return new SliceImpl<>(findProjectsInOrder(result.getIds()), pageable, hasNextSlice(result, pageable));
+    }
+
+    /**
+     * Searches for projects like {@link #searchProjects(String, Pageable, String)} but only
+     * returns summaries of the found projects. The page's summaries are loaded with a single
+     * query that neither reads the {@code @Lob} fields nor the labels of the projects.
+     *
+     * @param simpleQueryString
+     *          The query to evaluate, not {@code null}.
+     *
+     * @param pageable
+     *          The pageable to get the paging and sorting information from, not {@code null}.
+     *          See {@link #searchProjects(String, Sort, String)} for the supported sort properties.
+     *
+     * @param lob
+     *          The lob of the projects which's status indicates a constrained to
+     *          the lob to search for, may be {@code null}.
+     *
+     * @return
+     *          A page of the summaries of all found projects.
+     */
+    public Page<ProjectSummary> searchProjectSummaries(@NonNull String simpleQueryString, @NonNull Pageable pageable, String lob) {
+        var result = searchProjectIds(simpleQueryString, pageable.getSort(), pageable, lob);
+
+        return new PageImpl<>(findProjectSummariesInOrder(result.getIds()), pageable, result.getTotalHits());
+    }
+
+    /**
+     * Searches for projects like {@link #searchProjectSummaries(String, Pageable, String)} but
+     * returns a {@link Slice} that only tells whether a next page exists instead of
+     * the total number of found projects. Meant for infinite scrolling.
+     *
+     * @param simpleQueryString
+     *          The query to evaluate, not {@code null}.
+     *
+     * @param pageable
+     *          The pageable to get the paging and sorting information from, not {@code null}.
+     *          See {@link #searchProjects(String, Sort, String)} for the supported sort properties.
+     *
+     * @param lob
+     *          The lob of the projects which's status indicates a constrained to
+     *          the lob to search for, may be {@code null}.
+     *
+     * @return
+     *          A slice of the summaries of all found projects.
+     */
+    public Slice<ProjectSummary> searchProjectSummarySlice(@NonNull String simpleQueryString, @NonNull Pageable pageable, String lob) {
+        var result = searchProjectIds(simpleQueryString, pageable.getSort(), pageable, lob);
+        return new SliceImpl<>(findProjectSummariesInOrder(result.getIds()), pageable, hasNextSlice(result, pageable));
+    }
+
+    private boolean hasNextSlice(SearchResultCache.Result result, Pageable pageable) {
+        return pageable.isPaged() && pageable.getOffset() + result.getIds().size() < result.getTotalHits();
+    }
+
+    /**
+     * Only reads the IDs of the found projects from the index. The total number of
+     * found projects and the top documents of the requested page are collected in a
+     * single pass over the matching documents. Results are taken from and put
+     * into the {@link SearchResultCache result cache}.
+     *
+     * @param simpleQueryString
+     *          The query to evaluate, not {@code null}.
+     *
+     * @param sort
+     *          The sort to apply, not {@code null}.
+     *
+     * @param pageable
+     *          The pageable to get the paging information from, not {@code null}.
+     *          All found projects are returned when it is unpaged.
+     *
+     * @param lob
+     *          The lob of the projects which's status indicates a constrained to
+     *          the lob to search for, may be {@code null}.
+     *
+     * @return
+     *          The IDs of the found projects of the requested page and the total
+     *          number of found projects.
+     */
+    SearchResultCache.Result searchProjectIds(String simpleQueryString, Sort sort, Pageable pageable, String lob) {
+        var cacheKey = getProjectResultCacheKey(simpleQueryString, sort, pageable, lob);
+        var cacheGeneration = resultCache.getGeneration();
+
+        var cachedResult = resultCache.get(cacheKey);
+        if(cachedResult.isPresent()) {
+            return cachedResult.get();
+        }
+
+        var query = getProjectBaseQuery(simpleQueryString, lob);
+        var luceneSort = getProjectLuceneSort(sort);
+
+        var result = searchProjectIndex(indexSearcher -> {
+            var offset = pageable.isPaged() ? (int) pageable.getOffset() : 0;
+            var topDocsSize = pageable.isPaged() ? offset + pageable.getPageSize() : Math.max(1, indexSearcher.getIndexReader().maxDoc());
+
+            var topDocs = indexSearcher.search(query, topDocsSize, luceneSort, false, false);
+            var projectIds = getProjectIds(indexSearcher, topDocs.scoreDocs, offset);
+
+            return new SearchResultCache.Result(projectIds, topDocs.totalHits);
+        });
+        resultCache.put(cacheKey, result, cacheGeneration);
+
+        return result;
+    }
+
+    private SearchResultCache.Key getProjectResultCacheKey(String simpleQueryString, Sort sort, Pageable pageable, String lob) {
+        var normalizedQuery = simpleQueryString.trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase();
+        var keyLob = statusWithLobConstraint.isEmpty() || Objects.isNull(lob) ? null : lob.toLowerCase();
+        var pageNumber = pageable.isPaged() ? pageable.getPageNumber() : -1;
+        var pageSize = pageable.isPaged() ? pageable.getPageSize() : -1;
+
+        return new SearchResultCache.Key(this, Project.class.getName(), normalizedQuery, keyLob, sort.toString(), pageNumber, pageSize);
+    }
+
+    /**
+     * Searches for projects using the lucene "search after" functionality. The documents
+     * of previous pages don't have to be collected, which makes this method suitable for
+     * deep paging.
+     *
+     * @param simpleQueryString
+     *          The query to evaluate, not {@code null}.
+     *
+     * @param sort
+     *          The sort to apply, not {@code null}. See {@link #searchProjects(String, Sort, String)}
+     *          for the supported sort properties. Must be the same sort the given {@code cursor}
+     *          was created with.
+     *
+     * @param cursor
+     *          The {@link CursorPage#getNextCursor() cursor} of the previous page or {@code null}
+     *          to get the first page.
+     *
+     * @param size
+     *          The maximum number of projects of the page, must be positive.
+     *
+     * @param lob
+     *          The lob of the projects which's status indicates a constrained to
+     *          the lob to search for, may be {@code null}.
+     *
+     * @return
+     *          The page of found projects after the given {@code cursor}.
+     *
+     * @throws de.adesso.projectboard.base.exceptions.InvalidSearchCursorException
+     *          When the given {@code cursor} is not valid.
+     */
+    public CursorPage<Project> searchProjects(@NonNull String simpleQueryString, @NonNull Sort sort, String cursor, int size, String lob) {
+        if(size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive!");
+        }
+
         var query = getProjectBaseQuery(simpleQueryString, lob);
+        var luceneSort = getProjectLuceneSort(sort);
+        var after = Objects.nonNull(cursor) && !cursor.isEmpty() ? SearchCursor.decode(cursor) : null;
+
+        return searchProjectIndex(indexSearcher -> {
+            var topDocs = indexSearcher.searchAfter(after, query, size, luceneSort, true, false);
+            var projectIds = getProjectIds(indexSearcher, topDocs.scoreDocs, 0);
+
+            String nextCursor = null;
+            if(topDocs.scoreDocs.length == size) {
+                nextCursor = SearchCursor.encode((FieldDoc) topDocs.scoreDocs[size - 1]);
+            }
+
+            return new CursorPage<>(findProjectsInOrder(projectIds), nextCursor, topDocs.totalHits);
+        });
+    }
+
+    /**
+     * Suggests projects whose title, customer, location or skills contain words starting
+     * with the words of the given {@code prefix}. The edge n-gram index fields are searched
+     * instead of evaluating fuzzy and wildcard queries, and the suggestions are built
+     * from stored index fields only.
+     *
+     * @param prefix
+     *          The prefix to suggest projects for, not {@code null}.
+     *
+     * @param maxResults
+     *          The maximum number of suggestions, must be positive.
+     *
+     * @param lob
+     *          The lob of the projects which's status indicates a constrained to
+     *          the lob to search for, may be {@code null}.
+     *
+     * @return
+     *          A list of the suggested projects ordered by relevance, where matches in the
+     *          title are weighted higher.
+     */
+    @SuppressWarnings("unchecked")
+    public List<ProjectSuggestion> suggestProjects(@NonNull String prefix, int maxResults, String lob) {
+        if(maxResults <= 0) {
+            throw new IllegalArgumentException("Max results must be positive!");
+        }
 
-        var firstIndex = pageable.getPageNumber() * pageable.getPageSize();
+        if(prefix.isBlank()) {
+            return Collections.emptyList();
+        }
 
-        var jpaQuery = getFullTextEntityManager().createFullTextQuery(query, Project.class)
-                .setFirstResult(firstIndex)
-                .setMaxResults(pageable.getPageSize());
-        var resultSize = jpaQuery.getResultSize();
-        var resultContent = jpaQuery.getResultList();
+        var queryBuilder = getFullTextEntityManager().getSearchFactory()
+                .buildQueryBuilder()
+                .forEntity(Project.class)
+                .overridesForField(TITLE_SUGGEST_FIELD_NAME, Project.SUGGEST_QUERY_ANALYZER);
+        for(var fieldName : OTHER_SUGGEST_FIELD_NAMES) {
+            queryBuilder.overridesForField(fieldName, Project.SUGGEST_QUERY_ANALYZER);
+        }
+
+        var suggestQuery = queryBuilder.get().simpleQueryString()
+                .onField(TITLE_SUGGEST_FIELD_NAME).boostedTo(TITLE_SUGGEST_BOOST)
+                .andFields(OTHER_SUGGEST_FIELD_NAMES)
+                .withAndAsDefaultOperator()
+                .matching(prefix)
+                .createQuery();
+
+        var projections = (List<Object[]>) getFullTextEntityManager()
+                .createFullTextQuery(withProjectVisibilityFilter(suggestQuery, lob), Project.class)
+                .setProjection(ProjectionConstants.ID, TITLE_SUGGEST_FIELD_NAME)
+                .setMaxResults(maxResults)
+                .getResultList();
 
-        return new PageImpl<>(resultContent, pageable, resultSize);
+        return projections.stream()
+                .map(projection -> new ProjectSuggestion((String) projection[0], (String) projection[1]))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -149,37 +527,273 @@ public class HibernateSearchService {
         }
 
         var baseQuery = getQuerySearchingForAllIndexedFields(UserData.class, simpleQueryString);
-        var queryBuilder = getQueryBuilder(UserData.class);
 
-        var userIds = users.stream()
+        // a non scoring terms filter does not expand to one clause per user, so
+        // the query does not get slower and hit the max clause count for users
+        // with many staff members
+        var userIdTerms = users.stream()
                 .map(User::getId)
-                .collect(Collectors.toSet());
-        var idDisjunctionQuery = queryBuilder.simpleQueryString()
-                .onField("user_id")
-                .matching(HibernateSimpleQueryUtils.createLuceneQueryString(userIds, "|"))
-                .createQuery();
+                .distinct()
+                .map(BytesRef::new)
+                .collect(Collectors.toList());
+        var userIdFilter = new TermsQuery(USER_ID_FIELD_NAME, userIdTerms);
 
-        var boolQuery = queryBuilder.bool()
-                .must(idDisjunctionQuery)
-                .must(baseQuery)
-                .createQuery();
+        var boolQuery = new BooleanQuery.Builder()
+                .add(baseQuery, BooleanClause.Occur.MUST)
+                .add(userIdFilter, BooleanClause.Occur.FILTER)
+                .build();
 
         return getFullTextEntityManager().createFullTextQuery(boolQuery, UserData.class)
                 .getResultList();
     }
 
+    /**
+     *
+     * @param sort
+     *          The sort to convert, not null.
+     *
+     * @return
+     *          A lucene sort sorting by the index fields of the supported properties
+     *          of the given {@code sort} and by relevance afterwards.
+     */
+    org.apache.lucene.search.Sort getProjectLuceneSort(Sort sort) {
+        var sortFields = new ArrayList<SortField>();
+
+        for(var order : sort) {
+            var fieldName = PROJECT_SORT_FIELDS.get(order.getProperty());
+
+            if(Objects.nonNull(fieldName)) {
+                sortFields.add(new SortField(fieldName, SortField.Type.STRING, order.isDescending()));
+            } else {
+                log.debug(String.format("Ignoring unsupported project sort property '%s'!", order.getProperty()));
+            }
+        }
+
+        sortFields.add(SortField.FIELD_SCORE);
+
+        return new org.apache.lucene.search.Sort(sortFields.toArray(SortField[]::new));
+    }
+
+    /**
+     * Opens an index searcher on the project index, which is closed
+     * after the given {@code function} was applied.
+     *
+     * @param function
+     *          The function to apply, not null.
+     *
+     * @param <T>
+     *          The result type of the function.
+     *
+     * @return
+     *          The result of the function.
+     */
+    private <T> T searchProjectIndex(IndexSearcherFunction<T> function) {
+        var indexReaderAccessor = getFullTextEntityManager().getSearchFactory().getIndexReaderAccessor();
+        var indexReader = indexReaderAccessor.open(Project.class);
+
+        try {
+            return function.apply(new IndexSearcher(indexReader));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            indexReaderAccessor.close(indexReader);
+        }
+    }
+
+    private List<String> getProjectIds(IndexSearcher indexSearcher, ScoreDoc[] scoreDocs, int offset) throws IOException {
+        var projectIds = new ArrayList<String>(Math.max(0, scoreDocs.length - offset));
+
+        for(int i = offset; i < scoreDocs.length; i++) {
+            projectIds.add(indexSearcher.doc(scoreDocs[i].doc, Set.of(ID_FIELD_NAME)).get(ID_FIELD_NAME));
+        }
+
+        return projectIds;
+    }
+
+    private List<Project> findProjectsInOrder(List<String> projectIds) {
+        if(projectIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        var projects = entityManager.createQuery("SELECT p FROM Project p WHERE p.id IN :ids", Project.class)
+                .setParameter("ids", projectIds)
+                .getResultList();
+
+        return orderByIds(projectIds, projects, Project::getId);
+    }
+
+    private List<ProjectSummary> findProjectSummariesInOrder(List<String> projectIds) {
+        if(projectIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        var summaries = entityManager.createQuery("SELECT new de.adesso.projectboard.base.project.projection.ProjectSummary(" +
+                "p.id, p.status, p.issuetype, p.title, p.lob, p.customer, p.location, p.operationStart, " +
+                "p.operationEnd, p.effort, p.created, p.updated, p.elongation) FROM Project p WHERE p.id IN :ids", ProjectSummary.class)
+                .setParameter("ids", projectIds)
+                .getResultList();
+
+        return orderByIds(projectIds, summaries, ProjectSummary::getId);
+    }
+
+    private <T> List<T> orderByIds(List<String> ids, List<T> elements, Function<T, String> idFunction) {
+        var idElementMap = elements.stream()
+                .collect(Collectors.toMap(idFunction, Function.identity()));
+
+        return ids.stream()
+                .map(idElementMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     private Query getProjectBaseQuery(String simpleQueryString, String lob) {
+        var baseQuery = getQuerySearchingForAllIndexedFields(Project.class, simpleQueryString, relevanceProfile.getFieldBoosts());
+
+        return withProjectVisibilityFilter(withRelevanceBoosts(baseQuery), lob);
+    }
+
+    /**
+     * Adds optional clauses to the given {@code query} that increase the score of projects
+     * with a boosted status and of recently updated projects.
+     *
+     * @param query
+     *          The query to add the boosts to, not null.
+     *
+     * @return
+     *          A query matching the same projects as the given {@code query}.
+     */
+    private Query withRelevanceBoosts(Query query) {
+        if(relevanceProfile.hasNoAdditionalBoosts()) {
+            return query;
+        }
+
+        var boostedQueryBuilder = new BooleanQuery.Builder()
+                .setDisableCoord(true)
+                .add(query, BooleanClause.Occur.MUST);
+
+        getRelevanceBoostQueries().forEach(boostQuery -> boostedQueryBuilder.add(boostQuery, BooleanClause.Occur.SHOULD));
+
+        return boostedQueryBuilder.build();
+    }
+
+    /**
+     * Returns the cached boost queries of the relevance profile. The queries are rebuilt
+     * once the current date changed, as the recency boost depends on it.
+     *
+     * @return
+     *          The constant score queries boosting projects with a boosted status and
+     *          recently updated projects.
+     */
+    List<Query> getRelevanceBoostQueries() {
+        var today = LocalDate.now(clock);
+        var boostQueries = relevanceBoostQueries;
+
+        if(Objects.isNull(boostQueries) || !today.equals(boostQueries.getDate())) {
+            boostQueries = new RelevanceBoostQueries(today, buildRelevanceBoostQueries(today));
+            relevanceBoostQueries = boostQueries;
+        }
+
+        return boostQueries.getQueries();
+    }
+
+    /**
+     * The exponential decay of the recency boost is approximated by {@value RECENCY_BOOST_STEPS}
+     * range queries on the {@value UPDATED_FIELD_NAME} field, so no per document function has
+     * to be evaluated. All queries cache their matching documents per index segment.
+     */
+    private List<Query> buildRelevanceBoostQueries(LocalDate today) {
+        var queryBuilder = getQueryBuilder(Project.class);
+        var boostQueries = new ArrayList<Query>();
+
+        relevanceProfile.getStatusBoosts().forEach((status, boost) -> {
+            if(boost > 0.0f) {
+                var statusQuery = buildFieldValueEqualsQuery(queryBuilder, STATUS_FIELD_NAME, status);
+                boostQueries.add(buildCachedConstantScoreQuery(statusQuery, boost));
+            }
+        });
+
+        if(relevanceProfile.getRecencyBoost() > 0.0f) {
+            // a project updated within the last n half lives matches the last
+            // RECENCY_BOOST_STEPS - n + 1 queries, the sum of their boosts halves
+            // with every half life
+            for(int step = 1; step <= RECENCY_BOOST_STEPS; step++) {
+                var updatedAfter = today.atStartOfDay().minus(relevanceProfile.getRecencyHalfLife().multipliedBy(step));
+                var rangeQuery = queryBuilder.range()
+                        .onField(UPDATED_FIELD_NAME)
+                        .above(updatedAfter)
+                        .createQuery();
+
+                boostQueries.add(buildCachedConstantScoreQuery(rangeQuery, relevanceProfile.getRecencyBoost() / (1 << step)));
+            }
+        }
+
+        return List.copyOf(boostQueries);
+    }
+
+    @SuppressWarnings("deprecation")
+    private Query buildCachedConstantScoreQuery(Query query, float boost) {
+        var cachedQuery = new CachingWrapperQuery(query, QueryCachingPolicy.ALWAYS_CACHE);
+
+        return new BoostQuery(new ConstantScoreQuery(cachedQuery), boost);
+    }
+
+    private Query withProjectVisibilityFilter(Query query, String lob) {
+        var visibilityFilter = getProjectVisibilityFilter(lob);
+
+        if(visibilityFilter.isEmpty()) {
+            return query;
+        }
+
+        return new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST)
+                .add(visibilityFilter.get(), BooleanClause.Occur.FILTER)
+                .build();
+    }
+
+    /**
+     * Returns the cached filter query matching all projects that are visible to users
+     * of the given {@code lob}. The query is built once per lob and caches the matching
+     * documents per index segment, so only the text query has to be evaluated per
+     * search request.
+     *
+     * @param lob
+     *          The lob of the projects which's status indicates a constrained to
+     *          the lob to search for, may be {@code null}.
+     *
+     * @return
+     *          An {@link Optional} containing the non scoring filter query matching all
+     *          projects whose status is not excluded and that fulfill the lob constraints
+     *          or an empty one in case no status is excluded and no status adds
+     *          lob constraints.
+     *
+     * @see #buildLobIndependentOrLobNullOrEqualQuery(QueryBuilder, String)
+     */
+    Optional<Query> getProjectVisibilityFilter(String lob) {
+        var lowerCaseLob = Optional.ofNullable(lob).map(String::toLowerCase);
+
+        return projectVisibilityFilterMap.computeIfAbsent(lowerCaseLob, key -> buildProjectVisibilityFilter(key.orElse(null)));
+    }
+
+    @SuppressWarnings("deprecation")
+    private Optional<Query> buildProjectVisibilityFilter(String lob) {
         var queryBuilder = getQueryBuilder(Project.class);
 
-        var baseQuery = getQuerySearchingForAllIndexedFields(Project.class, simpleQueryString);
         var excludeStatusQuery = buildNotInQuery(queryBuilder, STATUS_FIELD_NAME, excludedStatus);
         var lobIndependentOrLobNullOrEqualQuery = buildLobIndependentOrLobNullOrEqualQuery(queryBuilder, lob);
 
-        return queryBuilder.bool()
-                .must(baseQuery)
+        if(Objects.isNull(excludeStatusQuery) && Objects.isNull(lobIndependentOrLobNullOrEqualQuery)) {
+            return Optional.empty();
+        }
+
+        var filterQuery = queryBuilder.bool()
                 .must(excludeStatusQuery)
                 .must(lobIndependentOrLobNullOrEqualQuery)
                 .createQuery();
+
+        // CachingWrapperQuery is deprecated in favour of the IndexSearcher's query cache,
+        // which can't be configured for the searchers hibernate search creates and
+        // does not cache on small indexes by default
+        return Optional.of(new CachingWrapperQuery(filterQuery, QueryCachingPolicy.ALWAYS_CACHE));
     }
 
     /**
@@ -328,6 +942,29 @@ public class HibernateSearchService {
      *          annotated with {@link org.hibernate.search.annotations.Field} weighted equally.
      */
     Query getQuerySearchingForAllIndexedFields(Class<?> entityType, String simpleQueryString) {
+        return getQuerySearchingForAllIndexedFields(entityType, simpleQueryString, Map.of());
+    }
+
+    /**
+     *
+     * @param entityType
+     *          The type to search for, not null. Must be annotated with {@link Entity} and
+     *          must have at least one {@code String} field annotated with
+     *          {@link org.hibernate.search.annotations.Field}.
+     *
+     * @param simpleQueryString
+     *          The simple query string to create the query from, not null.
+     *
+     * @param fieldBoosts
+     *          The boosts of the fields, not null. Fields without a boost
+     *          are weighted with {@code 1}.
+     *
+     * @return
+     *          A query searching for the given {@code entityType} in all {@code String} fields
+     *          annotated with {@link org.hibernate.search.annotations.Field} weighted by the
+     *          given {@code fieldBoosts}.
+     */
+    Query getQuerySearchingForAllIndexedFields(Class<?> entityType, String simpleQueryString, Map<String, Float> fieldBoosts) {
         if(!isIndexedEntity(entityType)) {
             throw new IllegalArgumentException("Given type is not an entity or is not indexed!");
         }
@@ -340,9 +977,16 @@ public class HibernateSearchService {
         var fuzzyAndPrefixQuery = HibernateSimpleQueryUtils.makeQueryPrefixAndFuzzy(simpleQueryString);
 
         var queryBuilder = getQueryBuilder(entityType);
-        return queryBuilder.simpleQueryString()
-                .onFields(annotatedStringFields.get(0), annotatedStringFields.subList(1, annotatedStringFields.size()).toArray(String[]::new))
-                .withAndAsDefaultOperator()
+        var fieldContext = queryBuilder.simpleQueryString()
+                .onField(annotatedStringFields.get(0))
+                .boostedTo(fieldBoosts.getOrDefault(annotatedStringFields.get(0), 1.0f));
+
+        for(var fieldName : annotatedStringFields.subList(1, annotatedStringFields.size())) {
+            fieldContext = fieldContext.andField(fieldName)
+                    .boostedTo(fieldBoosts.getOrDefault(fieldName, 1.0f));
+        }
+
+        return fieldContext.withAndAsDefaultOperator()
                 .matching(fuzzyAndPrefixQuery)
                 .createQuery();
     }
@@ -355,7 +999,9 @@ public class HibernateSearchService {
      * @return
      *          The names of all String type fields annotated with
      *          {@link Field} or the value of {@link Field#name()} in case
-     *          it is not empty.
+     *          it is not empty. Fields that are not analyzed or that use
+     *          a dedicated analyzer definition, like the fields used for
+     *          sorting and suggestions, are not included.
      */
     List<String> getNamesOfAnnotatedStringFields(Class<?> entityType) {
         if(classIndexedFieldMap.containsKey(entityType)) {
@@ -363,16 +1009,11 @@ public class HibernateSearchService {
         }
 
         var indexedStringFields = Arrays.stream(entityType.getDeclaredFields())
-                .filter(field -> String.class.equals(field.getType()) && Objects.nonNull(field.getAnnotation(Field.class)))
-                .map(field -> {
-                    var fieldAnnotation = field.getAnnotation(Field.class);
-
-                    if(!fieldAnnotation.name().isEmpty()) {
-                        return fieldAnnotation.name();
-                    }
-
-                    return field.getName();
-                })
+                .filter(field -> String.class.equals(field.getType()))
+                .flatMap(field -> Arrays.stream(field.getAnnotationsByType(Field.class))
+                        .filter(fieldAnnotation -> Analyze.YES.equals(fieldAnnotation.analyze()) &&
+                                fieldAnnotation.analyzer().definition().isEmpty())
+                        .map(fieldAnnotation -> fieldAnnotation.name().isEmpty() ? field.getName() : fieldAnnotation.name()))
                 .collect(Collectors.toList());
         classIndexedFieldMap.put(entityType, indexedStringFields);
 
@@ -411,6 +1052,166 @@ public class HibernateSearchService {
         }
     }
 
+    /**
+     * Rebuilds the whole lucene index in the background.
+     *
+     * @param initEntityManager
+     *          The entity manager to create the lucene index
+     *          for already existing entities with.
+     *
+     * @param progressMonitor
+     *          The monitor to report the progress to, not null.
+     *
+     * @return
+     *          A future that completes once the index was rebuilt.
+     */
+    Future<?> indexExistingEntitiesAsync(EntityManager initEntityManager, MassIndexerProgressMonitor progressMonitor) {
+        log.info("Building lucene index in the background...");
+
+        return Search.getFullTextEntityManager(initEntityManager)
+                .createIndexer()
+                .progressMonitor(progressMonitor)
+                .start();
+    }
+
+    /**
+     * Reindexes the projects with the given IDs with a single index commit. Projects
+     * that do not exist anymore are removed from the index.
+     *
+     * @param indexEntityManager
+     *          The entity manager to load and index the projects with.
+     *
+     * @param projectIds
+     *          The IDs of the projects to reindex, not null.
+     *
+     * @return
+     *          The number of reindexed projects.
+     */
+    int indexProjects(EntityManager indexEntityManager, @NonNull Collection<String> projectIds) {
+        if(projectIds.isEmpty()) {
+            return 0;
+        }
+
+        var fullTextEntityManager = Search.getFullTextEntityManager(indexEntityManager);
+        var projects = indexEntityManager.createQuery("SELECT p FROM Project p WHERE p.id IN :ids", Project.class)
+                .setParameter("ids", projectIds)
+                .getResultList();
+
+        var foundIds = projects.stream()
+                .map(Project::getId)
+                .collect(Collectors.toSet());
+
+        projects.forEach(fullTextEntityManager::index);
+        projectIds.stream()
+                .filter(projectId -> !foundIds.contains(projectId))
+                .forEach(projectId -> fullTextEntityManager.purge(Project.class, projectId));
+
+        fullTextEntityManager.flushToIndexes();
+        projects.forEach(fullTextEntityManager::detach);
+
+        return projects.size();
+    }
+
+    /**
+     * Adds the projects with the given IDs to the index when the current transaction
+     * commits. The projects are indexed immediately in case no transaction is active.
+     *
+     * @param indexEntityManager
+     *          The entity manager to load and index the projects with.
+     *
+     * @param projectIds
+     *          The IDs of the projects to index, not null.
+     */
+    void indexProjectsOnCommit(EntityManager indexEntityManager, @NonNull Collection<String> projectIds) {
+        if(projectIds.isEmpty()) {
+            return;
+        }
+
+        var fullTextEntityManager = Search.getFullTextEntityManager(indexEntityManager);
+        indexEntityManager.createQuery("SELECT p FROM Project p WHERE p.id IN :ids", Project.class)
+                .setParameter("ids", projectIds)
+                .getResultList()
+                .forEach(fullTextEntityManager::index);
+    }
+
+    /**
+     * Reindexes all projects whose {@link Project#getLastModified() last modified} timestamp
+     * is equal to or after the given {@code watermark} and removes all projects from the
+     * index that no longer exist.
+     *
+     * @param initEntityManager
+     *          The entity manager to load and index the projects with.
+     *
+     * @param watermark
+     *          The timestamp to reindex the projects from, not null.
+     *
+     * @return
+     *          The number of reindexed projects.
+     */
+    int indexProjectsModifiedSince(EntityManager initEntityManager, @NonNull LocalDateTime watermark) {
+        var fullTextEntityManager = Search.getFullTextEntityManager(initEntityManager);
+        var indexedCount = 0;
+
+        List<Project> batch;
+        do {
+            batch = initEntityManager.createQuery("SELECT p FROM Project p WHERE p.lastModified >= :watermark ORDER BY p.id", Project.class)
+                    .setParameter("watermark", watermark)
+                    .setFirstResult(indexedCount)
+                    .setMaxResults(INDEX_BATCH_SIZE)
+                    .getResultList();
+
+            batch.forEach(fullTextEntityManager::index);
+            fullTextEntityManager.flushToIndexes();
+            batch.forEach(fullTextEntityManager::detach);
+
+            indexedCount += batch.size();
+        } while (batch.size() == INDEX_BATCH_SIZE);
+
+        var purgedCount = purgeDeletedProjects(initEntityManager);
+
+        log.info(String.format("Reindexed %d projects modified since %s and removed %d deleted projects!",
+                indexedCount, watermark, purgedCount));
+
+        return indexedCount;
+    }
+
+    /**
+     * Removes all projects from the index that no longer exist, e.g. because they
+     * were deleted while the application was not running.
+     *
+     * @param initEntityManager
+     *          The entity manager to get the existing projects with.
+     *
+     * @return
+     *          The number of removed projects.
+     */
+    @SuppressWarnings("unchecked")
+    int purgeDeletedProjects(EntityManager initEntityManager) {
+        var fullTextEntityManager = Search.getFullTextEntityManager(initEntityManager);
+        var existingIds = new HashSet<>(initEntityManager.createQuery("SELECT p.id FROM Project p", String.class)
+                .getResultList());
+
+        var allQuery = fullTextEntityManager.getSearchFactory()
+                .buildQueryBuilder()
+                .forEntity(Project.class)
+                .get()
+                .all()
+                .createQuery();
+        var indexedIds = (List<Object[]>) fullTextEntityManager.createFullTextQuery(allQuery, Project.class)
+                .setProjection(ProjectionConstants.ID)
+                .getResultList();
+
+        var deletedIds = indexedIds.stream()
+                .map(projection -> (String) projection[0])
+                .filter(projectId -> !existingIds.contains(projectId))
+                .collect(Collectors.toList());
+
+        deletedIds.forEach(projectId -> fullTextEntityManager.purge(Project.class, projectId));
+        fullTextEntityManager.flushToIndexes();
+
+        return deletedIds.size();
+    }
+
     /**
      *
      * @return
@@ -442,4 +1243,20 @@ public class HibernateSearchService {
                 .collect(Collectors.toSet());
     }
 
+    @FunctionalInterface
+    private interface IndexSearcherFunction<T> {
+
+        T apply(IndexSearcher indexSearcher) throws IOException;
+
+    }
+
+    @Value
+    private static class RelevanceBoostQueries {
+
+        LocalDate date;
+
+        List<Query> queries;
+
+    }
+
 }
@@ -0,0 +1,119 @@
+package de.adesso.projectboard.base.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * A checkpoint stored next to a persistent lucene index. Describes the state of
+ * the index at the time the checkpoint was written.
+ *
+ * @see LuceneIndexInitializer
+ */
+@Data
+@AllArgsConstructor
+public class IndexCheckpoint {
+
+    static final String WATERMARK_KEY = "watermark";
+
+    static final String SCHEMA_HASH_KEY = "schemaHash";
+
+    /**
+     * The greatest {@link de.adesso.projectboard.base.project.persistence.Project#getLastModified() last modified}
+     * timestamp of all indexed projects. {@code null} in case no projects were indexed.
+     */
+    private LocalDateTime watermark;
+
+    /**
+     * The hash of the index schema the index was built with.
+     */
+    @NonNull
+    private String schemaHash;
+
+    /**
+     *
+     * @param schemaHash
+     *          The hash of the current index schema, not null.
+     *
+     * @return
+     *          {@code true}, iff the given {@code schemaHash} is equal to
+     *          the hash of this checkpoint.
+     */
+    public boolean isCompatibleWith(@NonNull String schemaHash) {
+        return this.schemaHash.equals(schemaHash);
+    }
+
+    /**
+     *
+     * @param checkpointFile
+     *          The file to write the checkpoint to, not null. Parent
+     *          directories are created in case they do not exist.
+     *
+     * @throws IOException
+     *          When an error occurs while writing the file.
+     */
+    public void write(@NonNull Path checkpointFile) throws IOException {
+        var properties = new Properties();
+        properties.setProperty(SCHEMA_HASH_KEY, schemaHash);
+
+        if(Objects.nonNull(watermark)) {
+            properties.setProperty(WATERMARK_KEY, watermark.toString());
+        }
+
+        var parentDirectory = checkpointFile.toAbsolutePath().getParent();
+        if(Objects.nonNull(parentDirectory)) {
+            Files.createDirectories(parentDirectory);
+        }
+
+        try(var writer = Files.newBufferedWriter(checkpointFile)) {
+            properties.store(writer, "Lucene index checkpoint");
+        }
+    }
+
+    /**
+     *
+     * @param checkpointFile
+     *          The file to read the checkpoint from, not null.
+     *
+     * @return
+     *          An {@link Optional} containing the read checkpoint or an empty one in case
+     *          the file does not exist or does not contain a valid checkpoint.
+     *
+     * @throws IOException
+     *          When an error occurs while reading the file.
+     */
+    public static Optional<IndexCheckpoint> read(@NonNull Path checkpointFile) throws IOException {
+        if(!Files.isRegularFile(checkpointFile)) {
+            return Optional.empty();
+        }
+
+        var properties = new Properties();
+        try(var reader = Files.newBufferedReader(checkpointFile)) {
+            properties.load(reader);
+        }
+
+        var schemaHash = properties.getProperty(SCHEMA_HASH_KEY);
+        if(Objects.isNull(schemaHash)) {
+            return Optional.empty();
+        }
+
+        var watermarkString = properties.getProperty(WATERMARK_KEY);
+        try {
+            var watermark = Objects.nonNull(watermarkString) ? LocalDateTime.parse(watermarkString) : null;
+
+            return Optional.of(new IndexCheckpoint(watermark, schemaHash));
+        } catch (DateTimeParseException ex) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package de.adesso.projectboard.base.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.batchindexing.MassIndexerProgressMonitor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link MassIndexerProgressMonitor} implementation keeping track of the progress of
+ * a full index rebuild. The progress is logged every {@value LOG_STEP_PERCENT} percent.
+ *
+ * @see LuceneIndexInitializer
+ */
+@Slf4j
+public class IndexingProgressMonitor implements MassIndexerProgressMonitor {
+
+    private static final int LOG_STEP_PERCENT = 10;
+
+    private final AtomicLong totalCount;
+
+    private final AtomicLong indexedCount;
+
+    private final AtomicBoolean completed;
+
+    private final Runnable completionCallback;
+
+    /**
+     *
+     * @param completionCallback
+     *          The callback to run once the indexing completed, not null.
+     */
+    public IndexingProgressMonitor(Runnable completionCallback) {
+        this.totalCount = new AtomicLong();
+        this.indexedCount = new AtomicLong();
+        this.completed = new AtomicBoolean(false);
+        this.completionCallback = completionCallback;
+    }
+
+    public IndexingProgressMonitor() {
+        this(() -> {});
+    }
+
+    @Override
+    public void documentsAdded(long increment) {
+        var total = totalCount.get();
+        var previous = indexedCount.getAndAdd(increment);
+
+        if(total > 0L) {
+            var previousStep = (previous * 100L / total) / LOG_STEP_PERCENT;
+            var currentStep = ((previous + increment) * 100L / total) / LOG_STEP_PERCENT;
+
+            if(currentStep > previousStep) {
+                log.info(String.format("Indexed %d of %d entities (%d%%)...", previous + increment, total, getProgressPercent()));
+            }
+        }
+    }
+
+    @Override
+    public void documentsBuilt(int number) {
+        // intentionally left blank
+    }
+
+    @Override
+    public void entitiesLoaded(int size) {
+        // intentionally left blank
+    }
+
+    @Override
+    public void addToTotalCount(long count) {
+        totalCount.addAndGet(count);
+    }
+
+    @Override
+    public void indexingCompleted() {
+        completed.set(true);
+        log.info(String.format("Finished indexing %d entities!", indexedCount.get()));
+
+        completionCallback.run();
+    }
+
+    /**
+     *
+     * @return
+     *          The number of entities to index.
+     */
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     *
+     * @return
+     *          The number of already indexed entities.
+     */
+    public long getIndexedCount() {
+        return indexedCount.get();
+    }
+
+    /**
+     *
+     * @return
+     *          The progress in percent, {@code 100} when
+     *          no entities have to be indexed.
+     */
+    public int getProgressPercent() {
+        var total = totalCount.get();
+        if(total <= 0L) {
+            return 100;
+        }
+
+        return (int) Math.min(100L, indexedCount.get() * 100L / total);
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff the indexing completed.
+     */
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+}
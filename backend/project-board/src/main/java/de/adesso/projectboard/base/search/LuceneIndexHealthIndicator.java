@@ -0,0 +1,36 @@
+package de.adesso.projectboard.base.search;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * A {@link HealthIndicator} implementation reporting the state of the lucene index
+ * built by the {@link LuceneIndexInitializer}. The status stays <i>UP</i> while the index
+ * is rebuilt in the background, so the application keeps serving requests.
+ *
+ * @see LuceneIndexInitializer
+ */
+public class LuceneIndexHealthIndicator implements HealthIndicator {
+
+    private final LuceneIndexInitializer indexInitializer;
+
+    public LuceneIndexHealthIndicator(LuceneIndexInitializer indexInitializer) {
+        this.indexInitializer = indexInitializer;
+    }
+
+    @Override
+    public Health health() {
+        var healthBuilder = Health.up()
+                .withDetail("indexReady", indexInitializer.isIndexReady());
+
+        indexInitializer.getRebuildProgressMonitor()
+                .filter(monitor -> !monitor.isCompleted())
+                .ifPresent(monitor -> healthBuilder
+                        .withDetail("indexedEntities", monitor.getIndexedCount())
+                        .withDetail("totalEntities", monitor.getTotalCount())
+                        .withDetail("progressPercent", monitor.getProgressPercent()));
+
+        return healthBuilder.build();
+    }
+
+}
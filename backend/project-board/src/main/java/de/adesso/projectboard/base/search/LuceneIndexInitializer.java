@@ -0,0 +1,286 @@
+package de.adesso.projectboard.base.search;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.user.persistence.data.UserData;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.util.Version;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.DigestUtils;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Builds the lucene index when the application starts. Depending on the configured
+ * {@link HibernateSearchConfigurationProperties.IndexMode index mode} the whole index is rebuilt or
+ * only the projects that were modified since the last {@link IndexCheckpoint checkpoint} are reindexed.
+ *
+ * <p>
+ *     A checkpoint is only kept when the index is persisted on the filesystem. It is written
+ *     after the index was (re-)built and when the application shuts down. No checkpoint is written
+ *     on shutdown in case the {@link AsyncProjectIndexer} left projects unindexed, so they are
+ *     reindexed from the previous checkpoint on the next start.
+ * </p>
+ *
+ * <p>
+ *     <b>Note:</b> {@link UserData} instances are not tracked by the checkpoint, since they are only
+ *     written by the application itself and therefore always indexed automatically.
+ * </p>
+ *
+ * @see HibernateSearchService
+ */
+@Slf4j
+public class LuceneIndexInitializer implements InitializingBean, DisposableBean {
+
+    static final String CHECKPOINT_FILE_NAME = "index-checkpoint.properties";
+
+    static final String DIRECTORY_PROVIDER_PROPERTY = "hibernate.search.default.directory_provider";
+
+    static final String INDEX_BASE_PROPERTY = "hibernate.search.default.indexBase";
+
+    private static final String FILESYSTEM_DIRECTORY_PROVIDER = "filesystem";
+
+    private static final Class<?>[] INDEXED_TYPES = { Project.class, UserData.class };
+
+    private final EntityManager entityManager;
+
+    private final HibernateSearchService searchService;
+
+    private final HibernateSearchConfigurationProperties properties;
+
+    private final String schemaHash;
+
+    private volatile IndexingProgressMonitor rebuildProgressMonitor;
+
+    private volatile boolean indexReady;
+
+    private AsyncProjectIndexer asyncProjectIndexer;
+
+    /**
+     *
+     * @param entityManager
+     *          The entity manager to build the index with, not null.
+     *
+     * @param searchService
+     *          The search service to build the index with, not null.
+     *
+     * @param properties
+     *          The properties to get the index mode from, not null.
+     */
+    public LuceneIndexInitializer(EntityManager entityManager, HibernateSearchService searchService,
+                                  HibernateSearchConfigurationProperties properties) {
+        this.entityManager = entityManager;
+        this.searchService = searchService;
+        this.properties = properties;
+
+        this.schemaHash = computeSchemaHash(INDEXED_TYPES);
+        this.indexReady = false;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        initializeIndex();
+    }
+
+    @Override
+    public void destroy() {
+        if(!indexReady) {
+            return;
+        }
+
+        if(Objects.nonNull(asyncProjectIndexer) && asyncProjectIndexer.hasUnindexedProjects()) {
+            log.warn("Not writing lucene index checkpoint, since not all projects were indexed asynchronously!");
+
+            return;
+        }
+
+        getCheckpointFile().ifPresent(this::writeCheckpoint);
+    }
+
+    /**
+     *
+     * @param asyncProjectIndexer
+     *          The indexer to check for unindexed projects before the checkpoint
+     *          is written on shutdown.
+     */
+    public void setAsyncProjectIndexer(AsyncProjectIndexer asyncProjectIndexer) {
+        this.asyncProjectIndexer = asyncProjectIndexer;
+    }
+
+    /**
+     * Rebuilds the whole index in case the {@link HibernateSearchConfigurationProperties.IndexMode#FULL full}
+     * index mode is configured, the index is not persisted or no compatible checkpoint is present. Only
+     * reindexes the projects that changed since the checkpoint was written otherwise.
+     */
+    void initializeIndex() {
+        var checkpointFile = getCheckpointFile();
+
+        if(properties.getIndexMode() == HibernateSearchConfigurationProperties.IndexMode.FULL || checkpointFile.isEmpty()) {
+            searchService.indexExistingEntities(entityManager);
+            indexReady = true;
+
+            return;
+        }
+
+        var checkpoint = readCheckpoint(checkpointFile.get());
+        if(checkpoint.isPresent() && Objects.nonNull(checkpoint.get().getWatermark())) {
+            var newWatermark = getWatermark();
+            searchService.indexProjectsModifiedSince(entityManager, checkpoint.get().getWatermark());
+            indexReady = true;
+
+            writeCheckpoint(checkpointFile.get(), newWatermark);
+        } else {
+            rebuildIndex(checkpointFile.get());
+        }
+    }
+
+    /**
+     * Rebuilds the whole index and writes a new checkpoint once the
+     * rebuild completed.
+     *
+     * @param checkpointFile
+     *          The file to write the checkpoint to, not null.
+     */
+    void rebuildIndex(Path checkpointFile) {
+        var newWatermark = getWatermark();
+
+        if(properties.isAsyncFullRebuild()) {
+            this.rebuildProgressMonitor = new IndexingProgressMonitor(() -> {
+                indexReady = true;
+                writeCheckpoint(checkpointFile, newWatermark);
+            });
+
+            searchService.indexExistingEntitiesAsync(entityManager, rebuildProgressMonitor);
+        } else {
+            searchService.indexExistingEntities(entityManager);
+            indexReady = true;
+
+            writeCheckpoint(checkpointFile, newWatermark);
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff the index was completely built.
+     */
+    public boolean isIndexReady() {
+        return indexReady;
+    }
+
+    /**
+     *
+     * @return
+     *          An {@link Optional} containing the progress monitor of the running or last
+     *          background rebuild or an empty one in case no background rebuild was started.
+     */
+    public Optional<IndexingProgressMonitor> getRebuildProgressMonitor() {
+        return Optional.ofNullable(rebuildProgressMonitor);
+    }
+
+    /**
+     *
+     * @return
+     *          An {@link Optional} containing the path of the checkpoint file or an empty
+     *          one in case the index is not persisted on the filesystem.
+     */
+    Optional<Path> getCheckpointFile() {
+        var factoryProperties = entityManager.getEntityManagerFactory().getProperties();
+        var directoryProvider = factoryProperties.get(DIRECTORY_PROVIDER_PROPERTY);
+
+        if(Objects.isNull(directoryProvider) || !FILESYSTEM_DIRECTORY_PROVIDER.equalsIgnoreCase(directoryProvider.toString().trim())) {
+            return Optional.empty();
+        }
+
+        var indexBase = factoryProperties.getOrDefault(INDEX_BASE_PROPERTY, ".").toString().trim();
+        return Optional.of(Paths.get(indexBase, CHECKPOINT_FILE_NAME));
+    }
+
+    /**
+     *
+     * @return
+     *          The greatest {@link Project#getLastModified() last modified} timestamp of all
+     *          persisted projects or {@code null} if no project is persisted. The updated
+     *          timestamp of the source system is not used, since the application writes
+     *          projects without changing it.
+     */
+    LocalDateTime getWatermark() {
+        return entityManager.createQuery("SELECT MAX(p.lastModified) FROM Project p", LocalDateTime.class)
+                .getSingleResult();
+    }
+
+    /**
+     *
+     * @param types
+     *          The indexed types to compute the hash for, not null.
+     *
+     * @return
+     *          A hash of the lucene version and all hibernate search annotations
+     *          present on the given {@code types} and their fields.
+     */
+    static String computeSchemaHash(Class<?>... types) {
+        var schemaBuilder = new StringBuilder(Version.LATEST.toString());
+
+        for(var type : types) {
+            schemaBuilder.append(';').append(type.getName());
+            appendSearchAnnotations(schemaBuilder, type.getDeclaredAnnotations());
+
+            Arrays.stream(type.getDeclaredFields())
+                    .sorted(Comparator.comparing(java.lang.reflect.Field::getName))
+                    .forEach(field -> {
+                        schemaBuilder.append(';').append(field.getName());
+                        appendSearchAnnotations(schemaBuilder, field.getDeclaredAnnotations());
+                    });
+        }
+
+        return DigestUtils.md5DigestAsHex(schemaBuilder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendSearchAnnotations(StringBuilder builder, Annotation[] annotations) {
+        Arrays.stream(annotations)
+                .filter(annotation -> annotation.annotationType().getName().startsWith("org.hibernate.search"))
+                .map(Annotation::toString)
+                .sorted()
+                .forEach(builder::append);
+    }
+
+    private Optional<IndexCheckpoint> readCheckpoint(Path checkpointFile) {
+        try {
+            return IndexCheckpoint.read(checkpointFile)
+                    .filter(checkpoint -> checkpoint.isCompatibleWith(schemaHash));
+        } catch (IOException ex) {
+            log.warn("Error reading lucene index checkpoint!", ex);
+
+            return Optional.empty();
+        }
+    }
+
+    private void writeCheckpoint(Path checkpointFile) {
+        try {
+            writeCheckpoint(checkpointFile, getWatermark());
+        } catch (RuntimeException ex) {
+            log.warn("Error retrieving lucene index watermark!", ex);
+        }
+    }
+
+    private void writeCheckpoint(Path checkpointFile, LocalDateTime watermark) {
+        try {
+            new IndexCheckpoint(watermark, schemaHash).write(checkpointFile);
+
+            log.debug(String.format("Wrote lucene index checkpoint with watermark '%s'!", watermark));
+        } catch (IOException ex) {
+            log.warn("Error writing lucene index checkpoint!", ex);
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package de.adesso.projectboard.base.search;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import org.hibernate.search.indexes.interceptor.EntityIndexingInterceptor;
+import org.hibernate.search.indexes.interceptor.IndexingOverride;
+
+/**
+ * {@link EntityIndexingInterceptor} skipping the automatic indexing of added and updated
+ * {@link Project}s while the indexing is {@link AsyncProjectIndexer#deferIndexing(java.util.function.Supplier) deferred}
+ * in the current thread. Deleted projects are always removed from the index immediately.
+ *
+ * <p>
+ *     <b>Note:</b> Explicitly indexed projects are not intercepted.
+ * </p>
+ *
+ * @see AsyncProjectIndexer
+ */
+public class ProjectIndexingInterceptor implements EntityIndexingInterceptor<Project> {
+
+    @Override
+    public IndexingOverride onAdd(Project entity) {
+        return getAddOrUpdateOverride();
+    }
+
+    @Override
+    public IndexingOverride onUpdate(Project entity) {
+        return getAddOrUpdateOverride();
+    }
+
+    @Override
+    public IndexingOverride onDelete(Project entity) {
+        return IndexingOverride.APPLY_DEFAULT;
+    }
+
+    @Override
+    public IndexingOverride onCollectionUpdate(Project entity) {
+        return getAddOrUpdateOverride();
+    }
+
+    private IndexingOverride getAddOrUpdateOverride() {
+        return AsyncProjectIndexer.isIndexingDeferred() ? IndexingOverride.SKIP : IndexingOverride.APPLY_DEFAULT;
+    }
+
+}
@@ -0,0 +1,113 @@
+package de.adesso.projectboard.base.search;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Describes how the relevance of a {@link de.adesso.projectboard.base.project.persistence.Project}
+ * found by a keyword search is computed.
+ *
+ * <p>
+ *     The score of a match in a field is multiplied by the boost of the field. Projects
+ *     with a boosted status and recently updated projects get an additional score on top.
+ *     The recency boost halves with every {@link #getRecencyHalfLife() half life} that passed
+ *     since the last update.
+ * </p>
+ *
+ * @see HibernateSearchService
+ */
+@Value
+public class ProjectRelevanceProfile {
+
+    /**
+     * The boosts of the index fields. Fields without a boost
+     * are weighted with {@code 1}.
+     */
+    Map<String, Float> fieldBoosts;
+
+    /**
+     * The boosts of the <b>lower case</b> status.
+     */
+    Map<String, Float> statusBoosts;
+
+    /**
+     * The boost of a project updated today. No recency boost
+     * is applied when {@code 0}.
+     */
+    float recencyBoost;
+
+    Duration recencyHalfLife;
+
+    /**
+     *
+     * @param fieldBoosts
+     *          The boosts of the index fields, not null.
+     *
+     * @param statusBoosts
+     *          The boosts of the status, not null.
+     *
+     * @param recencyBoost
+     *          The boost of a project updated today.
+     *
+     * @param recencyHalfLife
+     *          The duration after which the recency boost halves, not null.
+     */
+    public ProjectRelevanceProfile(@NonNull Map<String, Float> fieldBoosts, @NonNull Map<String, Float> statusBoosts,
+                                   float recencyBoost, @NonNull Duration recencyHalfLife) {
+        if(fieldBoosts.values().stream().anyMatch(boost -> boost <= 0.0f)) {
+            throw new IllegalArgumentException("Field boosts must be positive!");
+        }
+
+        if(statusBoosts.values().stream().anyMatch(boost -> boost < 0.0f) || recencyBoost < 0.0f) {
+            throw new IllegalArgumentException("Status and recency boosts must not be negative!");
+        }
+
+        if(recencyHalfLife.isNegative() || recencyHalfLife.isZero()) {
+            throw new IllegalArgumentException("Recency half life must be positive!");
+        }
+
+        this.fieldBoosts = Map.copyOf(fieldBoosts);
+        this.statusBoosts = statusBoosts.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(entry -> entry.getKey().toLowerCase(), Map.Entry::getValue));
+        this.recencyBoost = recencyBoost;
+        this.recencyHalfLife = recencyHalfLife;
+    }
+
+    /**
+     *
+     * @return
+     *          A profile weighting all fields equally without any
+     *          status or recency boost.
+     */
+    public static ProjectRelevanceProfile flat() {
+        return new ProjectRelevanceProfile(Map.of(), Map.of(), 0.0f, Duration.ofDays(1L));
+    }
+
+    /**
+     *
+     * @param fieldName
+     *          The name of the index field.
+     *
+     * @return
+     *          The boost of the field or {@code 1} in case no
+     *          boost is configured.
+     */
+    public float getFieldBoost(String fieldName) {
+        return fieldBoosts.getOrDefault(fieldName, 1.0f);
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff neither status nor recency boosts
+     *          are applied.
+     */
+    public boolean hasNoAdditionalBoosts() {
+        return recencyBoost == 0.0f && statusBoosts.values().stream().allMatch(boost -> boost == 0.0f);
+    }
+
+}
@@ -0,0 +1,142 @@
+package de.adesso.projectboard.base.search;
+
+import de.adesso.projectboard.base.exceptions.InvalidSearchCursorException;
+import lombok.NonNull;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.*;
+import java.util.Base64;
+
+/**
+ * Utility class to encode the last {@link FieldDoc} of a search result page to an
+ * opaque, URL safe cursor and to decode it again to continue the search after it.
+ *
+ * @see HibernateSearchService#searchProjects(String, org.springframework.data.domain.Sort, String, int, String)
+ */
+public class SearchCursor {
+
+    private static final byte NULL_VALUE = 0;
+
+    private static final byte BYTES_VALUE = 1;
+
+    private static final byte FLOAT_VALUE = 2;
+
+    private static final byte INTEGER_VALUE = 3;
+
+    private static final byte LONG_VALUE = 4;
+
+    private SearchCursor() {
+        // utility class
+    }
+
+    /**
+     *
+     * @param fieldDoc
+     *          The field doc to encode, not null.
+     *
+     * @return
+     *          The URL safe Base64 encoded cursor.
+     */
+    public static String encode(@NonNull FieldDoc fieldDoc) {
+        var byteStream = new ByteArrayOutputStream();
+
+        try(var out = new DataOutputStream(byteStream)) {
+            out.writeInt(fieldDoc.doc);
+            out.writeFloat(fieldDoc.score);
+            out.writeInt(fieldDoc.fields.length);
+
+            for(var value : fieldDoc.fields) {
+                writeValue(out, value);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(byteStream.toByteArray());
+    }
+
+    /**
+     *
+     * @param cursor
+     *          The cursor to decode, not null.
+     *
+     * @return
+     *          The decoded field doc.
+     *
+     * @throws InvalidSearchCursorException
+     *          When the given {@code cursor} is no valid cursor.
+     */
+    public static FieldDoc decode(@NonNull String cursor) throws InvalidSearchCursorException {
+        try(var in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            var doc = in.readInt();
+            var score = in.readFloat();
+            var fields = new Object[readLength(in)];
+
+            for(int i = 0; i < fields.length; i++) {
+                fields[i] = readValue(in);
+            }
+
+            return new FieldDoc(doc, score, fields);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new InvalidSearchCursorException();
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if(value == null) {
+            out.writeByte(NULL_VALUE);
+        } else if(value instanceof BytesRef) {
+            var bytesRef = (BytesRef) value;
+
+            out.writeByte(BYTES_VALUE);
+            out.writeInt(bytesRef.length);
+            out.write(bytesRef.bytes, bytesRef.offset, bytesRef.length);
+        } else if(value instanceof Float) {
+            out.writeByte(FLOAT_VALUE);
+            out.writeFloat((Float) value);
+        } else if(value instanceof Integer) {
+            out.writeByte(INTEGER_VALUE);
+            out.writeInt((Integer) value);
+        } else if(value instanceof Long) {
+            out.writeByte(LONG_VALUE);
+            out.writeLong((Long) value);
+        } else {
+            throw new IllegalArgumentException(String.format("Unsupported sort value type '%s'!", value.getClass().getName()));
+        }
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        var length = in.readInt();
+
+        // guards against allocating huge arrays for manipulated cursors
+        if(length < 0 || length > in.available()) {
+            throw new IOException("Invalid length!");
+        }
+
+        return length;
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        var type = in.readByte();
+
+        switch (type) {
+            case NULL_VALUE:
+                return null;
+            case BYTES_VALUE:
+                var bytes = new byte[readLength(in)];
+                in.readFully(bytes);
+
+                return new BytesRef(bytes);
+            case FLOAT_VALUE:
+                return in.readFloat();
+            case INTEGER_VALUE:
+                return in.readInt();
+            case LONG_VALUE:
+                return in.readLong();
+            default:
+                throw new IOException(String.format("Unknown sort value type '%d'!", type));
+        }
+    }
+
+}
@@ -0,0 +1,319 @@
+package de.adesso.projectboard.base.search;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.Value;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache for the IDs of the entities found by a search. Entries are evicted
+ * in least recently used order once the maximum size is reached and expire after a
+ * fixed time to live.
+ *
+ * <p>
+ *     Every invalidation increments a generation counter. Results are only cached
+ *     in case no invalidation happened while they were computed, so a search that
+ *     raced with a change of the index can't put stale results into the cache.
+ * </p>
+ *
+ * <p>
+ *     The hit, miss and eviction counts and the size of the cache are exposed
+ *     as metrics with the {@value METRIC_PREFIX} prefix.
+ * </p>
+ *
+ * @see HibernateSearchService
+ */
+public class SearchResultCache implements MeterBinder {
+
+    static final String METRIC_PREFIX = "projectboard.search.cache";
+
+    private final int maxSize;
+
+    private final Duration timeToLive;
+
+    private final Clock clock;
+
+    private final Map<Key, Entry> entries;
+
+    private final AtomicLong generation;
+
+    private final AtomicLong hitCount;
+
+    private final AtomicLong missCount;
+
+    private final AtomicLong evictionCount;
+
+    /**
+     *
+     * @param maxSize
+     *          The maximum number of cached results. Caching is
+     *          disabled when {@code 0}.
+     *
+     * @param timeToLive
+     *          The duration after which a cached result expires, not null.
+     *
+     * @param clock
+     *          The clock to get the current time from, not null.
+     */
+    public SearchResultCache(int maxSize, @NonNull Duration timeToLive, @NonNull Clock clock) {
+        if(maxSize < 0) {
+            throw new IllegalArgumentException("Max size must not be negative!");
+        }
+
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.generation = new AtomicLong();
+        this.hitCount = new AtomicLong();
+        this.missCount = new AtomicLong();
+        this.evictionCount = new AtomicLong();
+    }
+
+    /**
+     *
+     * @return
+     *          A cache that never caches any results.
+     */
+    public static SearchResultCache disabled() {
+        return new SearchResultCache(0, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff results are cached.
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     *
+     * @return
+     *          The current generation that has to be passed when
+     *          {@link #put(Key, Result, long) putting} a result computed
+     *          after calling this method.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     *
+     * @param key
+     *          The key of the result to get, not null.
+     *
+     * @return
+     *          An {@link Optional} containing the cached result or an empty one
+     *          in case no result is cached for the given {@code key} or it expired.
+     */
+    public Optional<Result> get(@NonNull Key key) {
+        if(!isEnabled()) {
+            return Optional.empty();
+        }
+
+        synchronized (entries) {
+            var entry = entries.get(key);
+
+            if(entry != null && entry.getExpiresAt().isAfter(clock.instant())) {
+                hitCount.incrementAndGet();
+                return Optional.of(entry.getResult());
+            }
+
+            if(entry != null) {
+                entries.remove(key);
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        missCount.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     *
+     * @param key
+     *          The key to cache the result for, not null.
+     *
+     * @param result
+     *          The result to cache, not null.
+     *
+     * @param expectedGeneration
+     *          The {@link #getGeneration() generation} before the result was computed. The
+     *          result is not cached in case the cache was invalidated in the meantime.
+     */
+    public void put(@NonNull Key key, @NonNull Result result, long expectedGeneration) {
+        if(!isEnabled()) {
+            return;
+        }
+
+        synchronized (entries) {
+            if(generation.get() != expectedGeneration) {
+                return;
+            }
+
+            entries.put(key, new Entry(result, clock.instant().plus(timeToLive)));
+
+            var iterator = entries.entrySet().iterator();
+            while(entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Removes all cached results after the current transaction committed, so
+     * concurrent searches can't cache results of the index before the changes
+     * made in the transaction were applied. Removes all results immediately
+     * in case no transaction is active.
+     */
+    public void invalidateAllAfterCommit() {
+        invalidateAll();
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    invalidateAll();
+                }
+
+            });
+        }
+    }
+
+    /**
+     *
+     * @return
+     *          The number of cached results.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".gets", this, SearchResultCache::getHitCount)
+                .tag("result", "hit")
+                .description("The number of searches answered from the cache")
+                .register(registry);
+
+        FunctionCounter.builder(METRIC_PREFIX + ".gets", this, SearchResultCache::getMissCount)
+                .tag("result", "miss")
+                .description("The number of searches that had to query the index")
+                .register(registry);
+
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", this, SearchResultCache::getEvictionCount)
+                .description("The number of evicted or expired results")
+                .register(registry);
+
+        Gauge.builder(METRIC_PREFIX + ".size", this, SearchResultCache::size)
+                .description("The number of cached results")
+                .register(registry);
+    }
+
+    /**
+     * The key of a cached search result.
+     */
+    @Value
+    public static class Key {
+
+        /**
+         * The search service that computed the result. Services differ
+         * in the visibility constraints they apply.
+         */
+        Object service;
+
+        /**
+         * The type of the result, e.g. a page or a list.
+         */
+        String type;
+
+        /**
+         * The normalized query.
+         */
+        String query;
+
+        /**
+         * The lower case lob the result was computed for or {@code null}
+         * in case the result does not depend on the lob.
+         */
+        String lob;
+
+        String sort;
+
+        int pageNumber;
+
+        int pageSize;
+
+    }
+
+    /**
+     * A cached search result.
+     */
+    @Value
+    public static class Result {
+
+        /**
+         * The IDs of the found entities in the order they were found.
+         */
+        List<String> ids;
+
+        /**
+         * The total number of found entities.
+         */
+        long totalHits;
+
+    }
+
+    @Value
+    private static class Entry {
+
+        Result result;
+
+        Instant expiresAt;
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package de.adesso.projectboard.base.user.persistence;
+
+import java.util.Collection;
+
+/**
+ * Repository fragment to insert a large number of {@link User}s with batched
+ * JDBC statements instead of persisting each user.
+ *
+ * <p>
+ *     <b>Note:</b> The users are written without Hibernate, so they are not
+ *     part of the persistence context until they are loaded.
+ * </p>
+ *
+ * @see UserRepository
+ */
+public interface UserBatchRepository {
+
+    /**
+     * Inserts a new {@link User} for each of the given IDs.
+     *
+     * @param userIds
+     *          The IDs of the users to insert, not null. No user with any
+     *          of the IDs may exist.
+     *
+     * @param batchSize
+     *          The maximum number of statements sent in a single batch,
+     *          greater than {@code 0}.
+     */
+    void insertAllByIds(Collection<String> userIds, int batchSize);
+
+}
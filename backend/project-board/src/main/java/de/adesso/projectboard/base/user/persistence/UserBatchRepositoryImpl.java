@@ -0,0 +1,36 @@
+package de.adesso.projectboard.base.user.persistence;
+
+import lombok.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * {@link UserBatchRepository} implementation using JDBC batch statements.
+ */
+public class UserBatchRepositoryImpl implements UserBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO pb_user (id) VALUES (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAllByIds(@NonNull Collection<String> userIds, int batchSize) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive!");
+        }
+
+        if(userIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new ArrayList<>(userIds), batchSize,
+                (statement, userId) -> statement.setString(1, userId));
+    }
+
+}
@@ -11,7 +11,7 @@ import java.util.List;
  *
  * @see RepositoryUserService
  */
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, String>, UserBatchRepository {
 
     List<User> findAllByBookmarksContaining(Project project);
 
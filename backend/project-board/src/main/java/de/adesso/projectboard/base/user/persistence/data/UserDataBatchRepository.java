@@ -0,0 +1,44 @@
+package de.adesso.projectboard.base.user.persistence.data;
+
+import java.util.Collection;
+
+/**
+ * Repository fragment to update and delete a large number of {@link UserData}
+ * instances with batched JDBC statements instead of loading and merging each
+ * instance. The search index is updated when the current transaction commits.
+ *
+ * <p>
+ *     <b>Note:</b> The instances are written without Hibernate, so instances in
+ *     the persistence context are not updated.
+ * </p>
+ *
+ * @see UserDataRepository
+ */
+public interface UserDataBatchRepository {
+
+    /**
+     * Updates the names, the email address and the LoB of the given instances. The
+     * {@link UserData#getPicture() picture} is kept.
+     *
+     * @param userData
+     *          The instances to update, not null. The {@link UserData#getId() ID}
+     *          of each instance must be set.
+     *
+     * @param batchSize
+     *          The maximum number of statements sent in a single batch,
+     *          greater than {@code 0}.
+     */
+    void updateAllKeepingPictures(Collection<UserData> userData, int batchSize);
+
+    /**
+     *
+     * @param userDataIds
+     *          The IDs of the instances to delete, not null.
+     *
+     * @param batchSize
+     *          The maximum number of statements sent in a single batch,
+     *          greater than {@code 0}.
+     */
+    void deleteAllByIds(Collection<Long> userDataIds, int batchSize);
+
+}
@@ -0,0 +1,80 @@
+package de.adesso.projectboard.base.user.persistence.data;
+
+import lombok.NonNull;
+import org.hibernate.search.jpa.Search;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * {@link UserDataBatchRepository} implementation using JDBC batch statements.
+ */
+public class UserDataBatchRepositoryImpl implements UserDataBatchRepository {
+
+    private static final String UPDATE_SQL = "UPDATE pb_user_data SET first_name = ?, last_name = ?, email = ?, lob = ? WHERE id = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM pb_user_data WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public UserDataBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void updateAllKeepingPictures(@NonNull Collection<UserData> userData, int batchSize) {
+        requirePositiveBatchSize(batchSize);
+
+        if(userData.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, new ArrayList<>(userData), batchSize, (statement, data) -> {
+            statement.setString(1, data.getFirstName());
+            statement.setString(2, data.getLastName());
+            statement.setString(3, data.getEmail());
+            statement.setString(4, data.getLob());
+            statement.setLong(5, data.getId());
+        });
+
+        var userDataIds = userData.stream()
+                .map(UserData::getId)
+                .collect(Collectors.toList());
+
+        // loaded after the update, so the updated values are indexed
+        var fullTextEntityManager = Search.getFullTextEntityManager(entityManager);
+        entityManager.createQuery("SELECT d FROM UserData d WHERE d.id IN :ids", UserData.class)
+                .setParameter("ids", userDataIds)
+                .getResultList()
+                .forEach(fullTextEntityManager::index);
+    }
+
+    @Override
+    public void deleteAllByIds(@NonNull Collection<Long> userDataIds, int batchSize) {
+        requirePositiveBatchSize(batchSize);
+
+        if(userDataIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_SQL, new ArrayList<>(userDataIds), batchSize,
+                (statement, userDataId) -> statement.setLong(1, userDataId));
+
+        var fullTextEntityManager = Search.getFullTextEntityManager(entityManager);
+        userDataIds.forEach(userDataId -> fullTextEntityManager.purge(UserData.class, userDataId));
+    }
+
+    private void requirePositiveBatchSize(int batchSize) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive!");
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package de.adesso.projectboard.base.user.persistence.data;
 import de.adesso.projectboard.base.user.persistence.User;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Collection;
 import java.util.List;
@@ -11,7 +12,7 @@ import java.util.Optional;
 /**
  * {@link JpaRepository} to persist {@link UserData} instances.
  */
-public interface UserDataRepository extends JpaRepository<UserData, Long> {
+public interface UserDataRepository extends JpaRepository<UserData, Long>, UserDataBatchRepository {
 
     Optional<UserData> findByUser(User user);
 
@@ -19,4 +20,8 @@ public interface UserDataRepository extends JpaRepository<UserData, Long> {
 
     boolean existsByUser(User user);
 
+    @Query(value = "SELECT d.id AS id, d.user.id AS userId, d.firstName AS firstName, d.lastName AS lastName, " +
+            "d.email AS email, d.lob AS lob FROM UserData d")
+    List<UserDataSnapshot> findAllSnapshots();
+
 }
@@ -0,0 +1,23 @@
+package de.adesso.projectboard.base.user.persistence.data;
+
+/**
+ * Projection of a {@link UserData} containing every field that is synchronized
+ * with the directory, but not the {@link UserData#getPicture() picture}.
+ *
+ * @see UserDataRepository#findAllSnapshots()
+ */
+public interface UserDataSnapshot {
+
+    Long getId();
+
+    String getUserId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getLob();
+
+}
@@ -93,6 +93,24 @@ public class HierarchyTreeNode implements Iterable<HierarchyTreeNode>, Streamabl
     @Column(name = "IS_MANAGING_USER")
     boolean managingUser;
 
+    /**
+     * The left nested set bound of the node. Written by
+     * the {@link HierarchyTreeNodeStaffRepository} only.
+     *
+     * @see NestedSetBounds
+     */
+    @Column(name = "LFT", insertable = false, updatable = false)
+    Integer leftBound;
+
+    /**
+     * The right nested set bound of the node. Written by
+     * the {@link HierarchyTreeNodeStaffRepository} only.
+     *
+     * @see NestedSetBounds
+     */
+    @Column(name = "RGT", insertable = false, updatable = false)
+    Integer rightBound;
+
     /**
      * Constructs a new instance. The manager of the
      * node is set to {@code this} node.
@@ -2,14 +2,18 @@ package de.adesso.projectboard.base.user.persistence.hierarchy;
 
 import de.adesso.projectboard.base.user.persistence.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * {@link JpaRepository} to persist {@link HierarchyTreeNode} entities.
  */
-public interface HierarchyTreeNodeRepository extends JpaRepository<HierarchyTreeNode, Long> {
+public interface HierarchyTreeNodeRepository extends JpaRepository<HierarchyTreeNode, Long>, HierarchyTreeNodeStaffRepository {
 
     Optional<HierarchyTreeNode> findByUser(User user);
 
@@ -19,4 +23,58 @@ public interface HierarchyTreeNodeRepository extends JpaRepository<HierarchyTree
 
     boolean existsByUserAndStaffContaining(User user, HierarchyTreeNode staff);
 
+    boolean existsByUser(User user);
+
+    /**
+     * Checks whether the {@code staffMember} is a direct or indirect staff member of
+     * the {@code user} by comparing the {@link NestedSetBounds nested set bounds} of
+     * their nodes instead of joining the staff of the user's node. Falls back to the staff
+     * of the user's node in case a bound is not computed yet, e.g. before the first
+     * hierarchy update or when the schema is generated by Hibernate.
+     *
+     * @param user
+     *          The user to check the staff of.
+     *
+     * @param staffMember
+     *          The user to check.
+     *
+     * @return
+     *          {@code true}, iff the node of the {@code staffMember} lies within
+     *          the bounds of the node of the {@code user}.
+     */
+    @Query(value = "SELECT CASE WHEN COUNT(s) > 0 THEN TRUE ELSE FALSE END FROM HierarchyTreeNode n, HierarchyTreeNode s " +
+            "WHERE n.user = :user AND s.user = :staffMember AND (" +
+            "(s.leftBound > n.leftBound AND s.leftBound <= n.rightBound) OR " +
+            "((n.leftBound IS NULL OR n.rightBound IS NULL OR s.leftBound IS NULL) AND s MEMBER OF n.staff))")
+    boolean existsByUserAndStaffMemberWithinBounds(@Param("user") User user, @Param("staffMember") User staffMember);
+
+    @Query(value = "SELECT n FROM HierarchyTreeNode n JOIN FETCH n.user")
+    List<HierarchyTreeNode> findAllFetchingUsers();
+
+    /**
+     * Deletes the nodes with the given IDs with bulk statements instead of loading
+     * and deleting each node. The nodes must not be referenced by any
+     * {@link StaffRelation} or node outside of the given nodes.
+     *
+     * @param nodeIds
+     *          The IDs of the nodes to delete.
+     */
+    default void deleteAllByIdInBulk(Collection<Long> nodeIds) {
+        if(nodeIds.isEmpty()) {
+            return;
+        }
+
+        // the nodes may reference each other
+        clearManagerOfNodes(nodeIds);
+        deleteNodes(nodeIds);
+    }
+
+    @Modifying
+    @Query(value = "UPDATE HierarchyTreeNode n SET n.manager = NULL WHERE n.id IN :nodeIds")
+    void clearManagerOfNodes(@Param("nodeIds") Collection<Long> nodeIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM HierarchyTreeNode n WHERE n.id IN :nodeIds")
+    void deleteNodes(@Param("nodeIds") Collection<Long> nodeIds);
+
 }
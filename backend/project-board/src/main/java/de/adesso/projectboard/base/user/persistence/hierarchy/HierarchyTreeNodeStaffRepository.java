@@ -0,0 +1,73 @@
+package de.adesso.projectboard.base.user.persistence.hierarchy;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment to read and write the {@link HierarchyTreeNode#getStaff() staff}
+ * and the {@link NestedSetBounds nested set bounds} of {@link HierarchyTreeNode}s row by
+ * row with batched JDBC statements, so changing a few relations does not recreate the
+ * staff of every affected node.
+ *
+ * <p>
+ *     <b>Note:</b> The relations and bounds are written without Hibernate, so the
+ *     {@link HierarchyTreeNode}s in the persistence context are not updated.
+ * </p>
+ *
+ * @see HierarchyTreeNodeRepository
+ */
+public interface HierarchyTreeNodeStaffRepository {
+
+    /**
+     *
+     * @return
+     *          All persisted staff relations.
+     */
+    List<StaffRelation> findAllStaffRelations();
+
+    /**
+     *
+     * @param relations
+     *          The relations to insert, not null.
+     *
+     * @param batchSize
+     *          The maximum number of statements sent in a single batch,
+     *          greater than {@code 0}.
+     */
+    void insertStaffRelations(Collection<StaffRelation> relations, int batchSize);
+
+    /**
+     *
+     * @param relations
+     *          The relations to delete, not null.
+     *
+     * @param batchSize
+     *          The maximum number of statements sent in a single batch,
+     *          greater than {@code 0}.
+     */
+    void deleteStaffRelations(Collection<StaffRelation> relations, int batchSize);
+
+    /**
+     * Deletes all staff relations with a single statement.
+     */
+    void deleteAllStaffRelations();
+
+    /**
+     *
+     * @return
+     *          The nested set bounds of all nodes whose bounds are set.
+     */
+    List<NestedSetBounds> findAllNestedSetBounds();
+
+    /**
+     *
+     * @param bounds
+     *          The bounds to set on the nodes, not null.
+     *
+     * @param batchSize
+     *          The maximum number of statements sent in a single batch,
+     *          greater than {@code 0}.
+     */
+    void updateNestedSetBounds(Collection<NestedSetBounds> bounds, int batchSize);
+
+}
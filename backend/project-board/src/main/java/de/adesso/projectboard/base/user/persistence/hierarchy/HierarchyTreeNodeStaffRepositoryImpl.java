@@ -0,0 +1,96 @@
+package de.adesso.projectboard.base.user.persistence.hierarchy;
+
+import lombok.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link HierarchyTreeNodeStaffRepository} implementation using JDBC batch statements.
+ */
+public class HierarchyTreeNodeStaffRepositoryImpl implements HierarchyTreeNodeStaffRepository {
+
+    private static final String STAFF_TABLE = "hierarchy_tree_node_all_staff";
+
+    private static final String SELECT_ALL_SQL = String.format("SELECT manager_node_id, node_id FROM %s", STAFF_TABLE);
+
+    private static final String INSERT_SQL = String.format("INSERT INTO %s (manager_node_id, node_id) VALUES (?, ?)", STAFF_TABLE);
+
+    private static final String DELETE_SQL = String.format("DELETE FROM %s WHERE manager_node_id = ? AND node_id = ?", STAFF_TABLE);
+
+    private static final String DELETE_ALL_SQL = String.format("DELETE FROM %s", STAFF_TABLE);
+
+    private static final String SELECT_ALL_BOUNDS_SQL = "SELECT id, lft, rgt FROM hierarchy_tree_node WHERE lft IS NOT NULL AND rgt IS NOT NULL";
+
+    private static final String UPDATE_BOUNDS_SQL = "UPDATE hierarchy_tree_node SET lft = ?, rgt = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HierarchyTreeNodeStaffRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<StaffRelation> findAllStaffRelations() {
+        return jdbcTemplate.query(SELECT_ALL_SQL, (resultSet, rowNum) ->
+                new StaffRelation(resultSet.getLong(1), resultSet.getLong(2)));
+    }
+
+    @Override
+    public void insertStaffRelations(@NonNull Collection<StaffRelation> relations, int batchSize) {
+        writeStaffRelations(INSERT_SQL, relations, batchSize);
+    }
+
+    @Override
+    public void deleteStaffRelations(@NonNull Collection<StaffRelation> relations, int batchSize) {
+        writeStaffRelations(DELETE_SQL, relations, batchSize);
+    }
+
+    @Override
+    public void deleteAllStaffRelations() {
+        jdbcTemplate.update(DELETE_ALL_SQL);
+    }
+
+    @Override
+    public List<NestedSetBounds> findAllNestedSetBounds() {
+        return jdbcTemplate.query(SELECT_ALL_BOUNDS_SQL, (resultSet, rowNum) ->
+                new NestedSetBounds(resultSet.getLong(1), resultSet.getInt(2), resultSet.getInt(3)));
+    }
+
+    @Override
+    public void updateNestedSetBounds(@NonNull Collection<NestedSetBounds> bounds, int batchSize) {
+        requirePositiveBatchSize(batchSize);
+
+        if(bounds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_BOUNDS_SQL, new ArrayList<>(bounds), batchSize, (statement, nodeBounds) -> {
+            statement.setInt(1, nodeBounds.getLeft());
+            statement.setInt(2, nodeBounds.getRight());
+            statement.setLong(3, nodeBounds.getNodeId());
+        });
+    }
+
+    private void writeStaffRelations(String sql, Collection<StaffRelation> relations, int batchSize) {
+        requirePositiveBatchSize(batchSize);
+
+        if(relations.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(sql, new ArrayList<>(relations), batchSize, (statement, relation) -> {
+            statement.setLong(1, relation.getManagerNodeId());
+            statement.setLong(2, relation.getNodeId());
+        });
+    }
+
+    private void requirePositiveBatchSize(int batchSize) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive!");
+        }
+    }
+
+}
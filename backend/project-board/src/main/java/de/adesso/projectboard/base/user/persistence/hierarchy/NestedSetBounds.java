@@ -0,0 +1,22 @@
+package de.adesso.projectboard.base.user.persistence.hierarchy;
+
+import lombok.Value;
+
+/**
+ * The {@link HierarchyTreeNode#getLeftBound() left} and {@link HierarchyTreeNode#getRightBound() right}
+ * nested set bounds of the node with the {@code nodeId}. A node is a direct or indirect staff member
+ * of another node, iff its left bound lies within the bounds of the other node and is not equal
+ * to the other node's left bound.
+ *
+ * @see HierarchyTreeNodeStaffRepository
+ */
+@Value
+public class NestedSetBounds {
+
+    long nodeId;
+
+    int left;
+
+    int right;
+
+}
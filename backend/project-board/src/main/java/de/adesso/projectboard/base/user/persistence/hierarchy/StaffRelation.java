@@ -0,0 +1,19 @@
+package de.adesso.projectboard.base.user.persistence.hierarchy;
+
+import lombok.Value;
+
+/**
+ * A row of the {@link HierarchyTreeNode#getStaff() staff} join table, stating that the
+ * node with the {@code nodeId} is a direct or indirect staff member of the node with the
+ * {@code managerNodeId}.
+ *
+ * @see HierarchyTreeNodeStaffRepository
+ */
+@Value
+public class StaffRelation {
+
+    long managerNodeId;
+
+    long nodeId;
+
+}
@@ -1,10 +1,13 @@
 package de.adesso.projectboard.base.user.service;
 
 import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.projection.ProjectSummary;
+import de.adesso.projectboard.base.search.CursorPage;
 import de.adesso.projectboard.base.user.persistence.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * {@link UserProjectService} extension to support pagination for {@link Project}s. Uses
@@ -45,4 +48,78 @@ public interface PageableUserProjectService extends UserProjectService {
      */
     Page<Project> searchProjectsForUserPaginated(String query, User user, Pageable pageable);
 
+    /**
+     *
+     * @param query
+     *          The keyword to search for.
+     *
+     * @param user
+     *          The {@link User} to search the {@link Project}s for.
+     *
+     * @param pageable
+     *          The {@link Pageable} to pass pagination information.
+     *
+     * @return
+     *          A {@link Slice} of the found {@link Project}s. Cheaper than the
+     *          corresponding {@link Page} when the total number of found projects
+     *          is not needed.
+     */
+    Slice<Project> searchProjectSliceForUser(String query, User user, Pageable pageable);
+
+    /**
+     *
+     * @param query
+     *          The keyword to search for.
+     *
+     * @param user
+     *          The {@link User} to search the {@link Project}s for.
+     *
+     * @param pageable
+     *          The {@link Pageable} to pass pagination information.
+     *
+     * @return
+     *          A {@link Page} of {@link ProjectSummary summaries} of the
+     *          found {@link Project}s.
+     */
+    Page<ProjectSummary> searchProjectSummariesForUserPaginated(String query, User user, Pageable pageable);
+
+    /**
+     *
+     * @param query
+     *          The keyword to search for.
+     *
+     * @param user
+     *          The {@link User} to search the {@link Project}s for.
+     *
+     * @param pageable
+     *          The {@link Pageable} to pass pagination information.
+     *
+     * @return
+     *          A {@link Slice} of {@link ProjectSummary summaries} of the
+     *          found {@link Project}s. Cheaper than the corresponding {@link Page}
+     *          when the total number of found projects is not needed.
+     */
+    Slice<ProjectSummary> searchProjectSummarySliceForUser(String query, User user, Pageable pageable);
+
+    /**
+     *
+     * @param query
+     *          The keyword to search for.
+     *
+     * @param user
+     *          The {@link User} to search the {@link Project}s for.
+     *
+     * @param cursor
+     *          The cursor of the previous page or {@code null} to
+     *          get the first page.
+     *
+     * @param pageable
+     *          The {@link Pageable} to pass the page size and sorting. The
+     *          page number is ignored.
+     *
+     * @return
+     *          A {@link CursorPage} of {@link Project}s.
+     */
+    CursorPage<Project> searchProjectsForUserAfterCursor(String query, User user, String cursor, Pageable pageable);
+
 }
@@ -1,6 +1,7 @@
 package de.adesso.projectboard.base.user.service;
 
 import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.projection.ProjectSuggestion;
 import de.adesso.projectboard.base.user.persistence.User;
 import org.springframework.data.domain.Sort;
 
@@ -43,4 +44,20 @@ public interface UserProjectService {
      */
     List<Project> searchProjectsForUser(User user, String query, Sort sort);
 
+    /**
+     *
+     * @param user
+     *          The {@link User} to suggest the {@link Project}s for.
+     *
+     * @param prefix
+     *          The prefix of the words to suggest projects for.
+     *
+     * @param maxResults
+     *          The maximum number of suggestions.
+     *
+     * @return
+     *          A {@link List} of {@link ProjectSuggestion}s ordered by relevance.
+     */
+    List<ProjectSuggestion> suggestProjectsForUser(User user, String prefix, int maxResults);
+
 }
@@ -0,0 +1,53 @@
+package de.adesso.projectboard.reader;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A single page of a Jira search response.
+ *
+ * @see JiraProjectReader
+ */
+@Value
+class JiraIssuePage {
+
+    /**
+     * The index of the first issue of the page.
+     */
+    int startAt;
+
+    /**
+     * The maximum number of issues per page. Might be lower than
+     * the requested number of issues in case Jira limits the page size.
+     */
+    int maxResults;
+
+    /**
+     * The total number of issues matching the query.
+     */
+    int total;
+
+    List<Project> projects;
+
+    /**
+     *
+     * @return
+     *          The index of the first issue of the next page.
+     */
+    int getNextStartAt() {
+        return startAt + projects.size();
+    }
+
+    /**
+     *
+     * @return
+     *          {@code true}, iff this page is full and further issues
+     *          match the query.
+     */
+    boolean hasNext() {
+        return !projects.isEmpty() && projects.size() >= maxResults && getNextStartAt() < total;
+    }
+
+}
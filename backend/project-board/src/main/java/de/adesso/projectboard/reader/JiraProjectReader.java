@@ -1,6 +1,13 @@
 package de.adesso.projectboard.reader;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import de.adesso.projectboard.base.project.deserializer.JiraIssue;
 import de.adesso.projectboard.base.project.persistence.Project;
 import de.adesso.projectboard.base.reader.ProjectReader;
@@ -8,16 +15,36 @@ import de.adesso.projectboard.reader.configuration.JiraConfigurationProperties;
 import de.adesso.projectboard.reader.jql.JqlComparator;
 import de.adesso.projectboard.reader.jql.JqlQueryStringBuilder;
 import de.adesso.projectboard.util.FieldTruncationUtils;
+import lombok.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * A {@link ProjectReader} implementation that reads {@link Project}s from
@@ -28,20 +55,92 @@ import java.util.stream.Collectors;
  *     is present in the application context.
  * </p>
  *
+ * <p>
+ *     The issues are requested page by page using the {@code startAt} parameter. The page
+ *     size is the {@code maxResults} parameter of the configured request URL. Each response
+ *     is parsed as a stream, so only a single page of issues is held in memory. Only the
+ *     {@link #getJiraFieldIds() fields mapped to a project} are requested, unless the
+ *     configured request URL selects the fields itself.
+ * </p>
+ *
+ * <p>
+ *     Once the first page returned the total number of issues, up to
+ *     {@link JiraConfigurationProperties#getPageFetchParallelism() page fetch parallelism}
+ *     following pages are requested and parsed in parallel. The projects are still
+ *     passed on in the order of the pages.
+ * </p>
+ *
+ * <p>
+ *     The issues are ordered by their updated time and key, as required by
+ *     {@link ProjectReader}. An issue edited while the pages are read moves to the end
+ *     of that order, so all following issues move up by one and the issue at the start of
+ *     the next page would be skipped. Each page therefore overlaps the previous page by one
+ *     issue. When the overlapping issue is not the last issue read, the issues are read again
+ *     from the updated time of the last read issue, at most {@value MAX_READ_RESTARTS} times.
+ * </p>
+ *
  * @see de.adesso.projectboard.base.project.updater.ProjectUpdater
  */
 public class JiraProjectReader implements ProjectReader {
 
+    /**
+     * The type of the Jira issues that are read as projects.
+     */
+    static final String STAFFING_ISSUE_TYPE = "Staffinganfrage";
+
+    /**
+     * The key or name of the Jira project the projects are read from.
+     */
+    static final String STAFFING_PROJECT = "Staffing";
+
+    private static final String START_AT_PARAMETER = "startAt";
+
+    private static final String FIELDS_PARAMETER = "fields";
+
+    private static final String ORDER_BY_UPDATED_CLAUSE = " ORDER BY updated ASC, key ASC";
+
+    static final int MAX_READ_RESTARTS = 3;
+
+    /**
+     * Reader to deserialize the issues of all responses with. Shared since the deserializers
+     * are only looked up once per reader. Thread safe, so it is used for pages read in parallel.
+     */
+    private static final ObjectReader JIRA_ISSUE_READER = new ObjectMapper().readerFor(JiraIssue.class);
+
+    /**
+     * The name of the project field that is set to the key
+     * of the issue instead of an issue field.
+     */
+    private static final String ID_FIELD_NAME = "id";
+
     private final RestTemplate restTemplate;
 
     private final JiraConfigurationProperties properties;
 
+    private final String requestUrl;
+
+    private final Clock clock;
+
+    /**
+     * The last requested health, {@code null} until the
+     * health was requested for the first time.
+     */
+    private volatile CachedHealth cachedHealth;
+
     public JiraProjectReader(RestTemplateBuilder builder, JiraConfigurationProperties properties) {
+        this(builder, properties, Clock.systemUTC());
+    }
+
+    JiraProjectReader(RestTemplateBuilder builder, JiraConfigurationProperties properties, Clock clock) {
         this.restTemplate = builder
                 .basicAuthentication(properties.getUsername(), properties.getPassword())
+                .setConnectTimeout(properties.getRequestTimeout())
+                .setReadTimeout(properties.getRequestTimeout())
                 .build();
 
         this.properties = properties;
+        this.requestUrl = getRequestUrlSelectingFields(properties.getRequestUrl(), getJiraFieldIds());
+        this.clock = clock;
     }
 
     /**
@@ -57,7 +156,10 @@ public class JiraProjectReader implements ProjectReader {
      */
     @Override
     public List<Project> getAllProjectsSince(LocalDateTime dateTime) throws Exception {
-        return getProjectsByQuery(getUpdateJqlQueryString(dateTime));
+        var projects = new ArrayList<Project>();
+        readProjectsByQuery(this::getUpdateJqlQueryString, dateTime, Integer.MAX_VALUE, projects::addAll);
+
+        return projects;
     }
 
     /**
@@ -70,77 +172,418 @@ public class JiraProjectReader implements ProjectReader {
      */
     @Override
     public List<Project> getInitialProjects() throws Exception {
-        return getProjectsByQuery(getInitialJqlQueryString());
+        var projects = new ArrayList<Project>();
+        readProjectsByQuery(this::getInitialJqlQueryString, null, Integer.MAX_VALUE, projects::addAll);
+
+        return projects;
+    }
+
+    @Override
+    public void readAllProjectsSince(LocalDateTime dateTime, int chunkSize, Consumer<List<Project>> chunkConsumer) throws Exception {
+        readProjectsByQuery(this::getUpdateJqlQueryString, dateTime, chunkSize, chunkConsumer);
+    }
+
+    @Override
+    public void readInitialProjects(int chunkSize, Consumer<List<Project>> chunkConsumer) throws Exception {
+        readProjectsByQuery(this::getInitialJqlQueryString, null, chunkSize, chunkConsumer);
+    }
+
+    @Override
+    public void readInitialProjectsSince(LocalDateTime dateTime, int chunkSize, Consumer<List<Project>> chunkConsumer) throws Exception {
+        readProjectsByQuery(this::getInitialJqlQueryString, dateTime, chunkSize, chunkConsumer);
     }
 
     /**
      *
      * @return
      *          The {@link Health} of this reader. Depends on the
-     *          status code of the request.
+     *          status code of the request. Cached for the configured
+     *          {@link JiraConfigurationProperties#getHealthCacheTtl() TTL},
+     *          so Jira is not requested on every health check.
      *
      * @see JiraServerInfo
      */
     @Override
     public Health health() {
-        ResponseEntity<JiraServerInfo> responseEntity
-                = restTemplate.getForEntity(properties.getServerInfoUrl(), JiraServerInfo.class);
+        var now = clock.instant();
+
+        var lastHealth = cachedHealth;
+        if(Objects.nonNull(lastHealth) && now.isBefore(lastHealth.getExpiry())) {
+            return lastHealth.getHealth();
+        }
+
+        var health = requestHealth();
+        this.cachedHealth = new CachedHealth(health, now.plus(properties.getHealthCacheTtl()));
+
+        return health;
+    }
 
-        if(responseEntity.getStatusCode().is2xxSuccessful()) {
-            JiraServerInfo serverInfo = responseEntity.getBody();
+    private Health requestHealth() {
+        try {
+            ResponseEntity<JiraServerInfo> responseEntity
+                    = restTemplate.getForEntity(properties.getServerInfoUrl(), JiraServerInfo.class);
 
-            return Health.up()
-                    .withDetail("serverTitle", serverInfo.getServerTitle())
-                    .withDetail("serverVersion", serverInfo.getVersion())
-                    .build();
-        } else {
-            return Health.down()
-                    .withDetail("status", responseEntity.getStatusCode())
-                    .build();
+            if(responseEntity.getStatusCode().is2xxSuccessful()) {
+                JiraServerInfo serverInfo = responseEntity.getBody();
+
+                return Health.up()
+                        .withDetail("serverTitle", serverInfo.getServerTitle())
+                        .withDetail("serverVersion", serverInfo.getVersion())
+                        .build();
+            } else {
+                return Health.down()
+                        .withDetail("status", responseEntity.getStatusCode())
+                        .build();
+            }
+        } catch (RestClientException ex) {
+            // cached as well, so an unavailable Jira is not requested on every check
+            return Health.down(ex).build();
+        }
+    }
+
+    /**
+     * Requests all pages of the issues matching the query built for the given {@code since}
+     * time and passes the projects to the given {@code chunkConsumer} in chunks of at most
+     * {@code chunkSize} projects. Reads the issues again from the updated time of the
+     * last read issue in case issues were moved while the pages were read.
+     *
+     * @param jqlQueryFactory
+     *          The function to build the JQL query reading the issues updated
+     *          since a given time with.
+     *
+     * @param since
+     *          The time to read the issues from, may be {@code null}.
+     *
+     * @param chunkSize
+     *          The maximum number of projects per chunk, greater than {@code 0}.
+     *
+     * @param chunkConsumer
+     *          The consumer to pass the chunks to.
+     */
+    private void readProjectsByQuery(Function<LocalDateTime, String> jqlQueryFactory, LocalDateTime since, int chunkSize,
+                                     Consumer<List<Project>> chunkConsumer) {
+        if(chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive!");
+        }
+
+        var chunk = new ArrayList<Project>();
+        var lastReadProject = new AtomicReference<Project>();
+        Consumer<List<Project>> projectConsumer = projects -> {
+            for(var project : projects) {
+                chunk.add(project);
+                lastReadProject.set(project);
+
+                if(chunk.size() == chunkSize) {
+                    chunkConsumer.accept(List.copyOf(chunk));
+                    chunk.clear();
+                }
+            }
+        };
+
+        var readSince = since;
+        var restarts = 0;
+        while(!readPages(jqlQueryFactory.apply(readSince), projectConsumer)) {
+            if(++restarts > MAX_READ_RESTARTS) {
+                throw new IllegalStateException(String.format("Jira issues were moved while reading them %d times in a row!",
+                        restarts));
+            }
+
+            var lastReadUpdated = lastReadProject.get().getUpdated();
+            if(Objects.nonNull(lastReadUpdated)) {
+                readSince = lastReadUpdated;
+            }
+        }
+
+        if(!chunk.isEmpty()) {
+            chunkConsumer.accept(List.copyOf(chunk));
         }
     }
 
     /**
+     * Requests all pages of the issues matching the given {@code jqlQuery} and passes
+     * their projects to the given {@code projectConsumer}. All pages but the first one
+     * start with the last issue of the previous page.
      *
      * @param jqlQuery
      *          The JQL query to execute.
      *
+     * @param projectConsumer
+     *          The consumer to pass the projects of each page to, without
+     *          the overlapping issue.
+     *
      * @return
-     *          A list of {@link Project}s.
+     *          {@code true}, iff all pages were read or {@code false} in case a page
+     *          did not start with the last issue of the previous page.
+     */
+    private boolean readPages(String jqlQuery, Consumer<List<Project>> projectConsumer) {
+        var page = getJiraIssuePage(jqlQuery, 0);
+        projectConsumer.accept(page.getProjects());
+
+        var pageSize = page.getProjects().size();
+        if(page.hasNext() && pageSize < 2) {
+            throw new IllegalStateException("Jira pages must contain at least two issues!");
+        }
+
+        var pageReader = new OverlappingPageReader(page);
+        if(page.hasNext() && properties.getPageFetchParallelism() > 1) {
+            page = readPagesInParallel(jqlQuery, page, pageReader, projectConsumer);
+        }
+
+        // pages added while the pages were read in parallel
+        while(page.hasNext() && pageReader.isContinuous()) {
+            page = getJiraIssuePage(jqlQuery, page.getNextStartAt() - 1);
+            pageReader.read(page, projectConsumer);
+        }
+
+        return pageReader.isContinuous();
+    }
+
+    /**
+     * Requests the pages following the given {@code firstPage} up to the total number of
+     * issues of the first page. At most {@link JiraConfigurationProperties#getPageFetchParallelism()}
+     * pages are requested or waiting to be consumed at the same time. Stops once a page
+     * does not continue the previous page.
      *
-     * @throws IOException
-     *          When an error occurs when deserializing the response body.
+     * @param jqlQuery
+     *          The JQL query to execute.
+     *
+     * @param firstPage
+     *          The first page of the results, containing the total number of issues.
+     *
+     * @param pageReader
+     *          The reader to pass the pages to in their order.
+     *
+     * @return
+     *          The last requested page.
+     */
+    private JiraIssuePage readPagesInParallel(String jqlQuery, JiraIssuePage firstPage, OverlappingPageReader pageReader,
+                                              Consumer<List<Project>> projectConsumer) {
+        var parallelism = properties.getPageFetchParallelism();
+        var pageStride = firstPage.getProjects().size() - 1;
+        var total = firstPage.getTotal();
+
+        var executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("jira-page-reader-"));
+        var pendingPages = new ArrayDeque<Future<JiraIssuePage>>(parallelism);
+        var nextStartAt = firstPage.getNextStartAt() - 1;
+        var lastPage = firstPage;
+
+        try {
+            while((nextStartAt + 1 < total || !pendingPages.isEmpty()) && pageReader.isContinuous()) {
+                while(pendingPages.size() < parallelism && nextStartAt + 1 < total) {
+                    var startAt = nextStartAt;
+                    pendingPages.add(executor.submit(() -> getJiraIssuePage(jqlQuery, startAt)));
+
+                    nextStartAt += pageStride;
+                }
+
+                lastPage = awaitPage(pendingPages.remove());
+                pageReader.read(lastPage, projectConsumer);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return lastPage;
+    }
+
+    private JiraIssuePage awaitPage(Future<JiraIssuePage> pendingPage) {
+        try {
+            return pendingPage.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Interrupted while reading Jira issues!", ex);
+        } catch (ExecutionException ex) {
+            if(ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw new IllegalStateException("Error reading Jira issues!", ex.getCause());
+        }
+    }
+
+    /**
+     *
+     * @param jqlQuery
+     *          The JQL query to execute.
+     *
+     * @param startAt
+     *          The index of the first issue of the page.
+     *
+     * @return
+     *          The requested {@link JiraIssuePage}.
      */
-    private List<Project> getProjectsByQuery(String jqlQuery) throws IOException {
-        var jiraRequestUrl = properties.getRequestUrl();
-        var responseEntity = restTemplate.getForEntity(jiraRequestUrl, String.class, jqlQuery);
-        var jiraIssues = parseJiraIssues(responseEntity.getBody());
+    JiraIssuePage getJiraIssuePage(String jqlQuery, int startAt) {
+        var pageRequestUrl = UriComponentsBuilder.fromUriString(requestUrl)
+                .replaceQueryParam(START_AT_PARAMETER, startAt)
+                .build()
+                .toUriString();
 
-        return jiraIssues.stream()
-                .map(JiraIssue::getProjectWithId)
-                .map(FieldTruncationUtils::truncateStringsToColumnLengths)
-                .collect(Collectors.toList());
+        return restTemplate.execute(pageRequestUrl, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> parseJiraIssuePage(response.getBody()),
+                jqlQuery);
     }
 
     /**
+     * Parses a page of a Jira search response as a stream instead of reading
+     * the whole response into memory first.
      *
      * @param jiraResponse
      *          The API response to parse, not null.
      *
      * @return
-     *          A list of all parsed {@link JiraIssue}s.
+     *          The parsed {@link JiraIssuePage}.
      *
      * @throws IOException
      *          When an error occurs while deserializing the Jira issues.
      */
-    List<JiraIssue> parseJiraIssues(String jiraResponse) throws IOException {
-        var mapper = new ObjectMapper();
-        var parser = mapper.getFactory().createParser(jiraResponse);
-        var parsedNode = mapper.readTree(parser);
-        var issueNode = parsedNode.get("issues");
-        var issueNodeText = mapper.writeValueAsString(issueNode);
+    static JiraIssuePage parseJiraIssuePage(InputStream jiraResponse) throws IOException {
+        try(var parser = JIRA_ISSUE_READER.getFactory().createParser(jiraResponse)) {
+            if(parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "The Jira response must be a JSON object!");
+            }
+
+            var startAt = 0;
+            var maxResults = 0;
+            var total = 0;
+            var projects = new ArrayList<Project>();
+
+            while(parser.nextToken() == JsonToken.FIELD_NAME) {
+                var fieldName = parser.getCurrentName();
+                parser.nextToken();
+
+                switch(fieldName) {
+                    case "startAt":
+                        startAt = parser.getValueAsInt();
+                        break;
+                    case "maxResults":
+                        maxResults = parser.getValueAsInt();
+                        break;
+                    case "total":
+                        total = parser.getValueAsInt();
+                        break;
+                    case "issues":
+                        parseJiraIssues(parser, projects);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            return new JiraIssuePage(startAt, maxResults, total, projects);
+        }
+    }
+
+    private static void parseJiraIssues(JsonParser parser, List<Project> projects) throws IOException {
+        if(parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while(parser.nextToken() == JsonToken.START_OBJECT) {
+            JiraIssue jiraIssue = JIRA_ISSUE_READER.readValue(parser);
+
+            projects.add(toProject(jiraIssue));
+        }
+    }
+
+    /**
+     *
+     * @param jiraIssue
+     *          The issue to get the project of, not null.
+     *
+     * @return
+     *          The project of the given issue with the key of the issue
+     *          as its ID and all strings truncated to their column length.
+     */
+    static Project toProject(JiraIssue jiraIssue) {
+        return FieldTruncationUtils.truncateStringsToColumnLengths(jiraIssue.getProjectWithId());
+    }
+
+    /**
+     *
+     * @param issueNode
+     *          The JSON of a single Jira issue, not null.
+     *
+     * @return
+     *          The issue deserialized with the same deserializers
+     *          as the issues of a search response.
+     *
+     * @throws IOException
+     *          When the JSON is not a valid issue.
+     */
+    static JiraIssue readJiraIssue(JsonNode issueNode) throws IOException {
+        return JIRA_ISSUE_READER.readValue(issueNode);
+    }
 
-        return Arrays.asList(mapper.readValue(issueNodeText, JiraIssue[].class));
+    /**
+     *
+     * @param jiraProjectKey
+     *          The key of a Jira project, may be {@code null}.
+     *
+     * @param jiraProjectName
+     *          The name of the same Jira project, may be {@code null}.
+     *
+     * @return
+     *          {@code true}, iff the key or the name equals the {@link #STAFFING_PROJECT staffing project}
+     *          ignoring the case, like the {@code project} clause of the JQL queries does.
+     */
+    static boolean isStaffingProject(String jiraProjectKey, String jiraProjectName) {
+        return STAFFING_PROJECT.equalsIgnoreCase(jiraProjectKey) || STAFFING_PROJECT.equalsIgnoreCase(jiraProjectName);
+    }
+
+    /**
+     *
+     * @return
+     *          The IDs of the Jira fields mapped to a {@link Project}. The ID of a
+     *          field is the value of the {@link JsonAlias} annotation or the name of
+     *          the field in case no alias is present. Ignored fields are left out.
+     */
+    static Set<String> getJiraFieldIds() {
+        var fieldIds = new LinkedHashSet<String>();
+
+        for(var field : Project.class.getDeclaredFields()) {
+            if(Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(JsonIgnore.class)
+                    || ID_FIELD_NAME.equals(field.getName())) {
+                continue;
+            }
+
+            var aliasAnnotation = field.getAnnotation(JsonAlias.class);
+            if(Objects.nonNull(aliasAnnotation)) {
+                fieldIds.addAll(Arrays.asList(aliasAnnotation.value()));
+            } else {
+                fieldIds.add(field.getName());
+            }
+        }
+
+        return fieldIds;
+    }
+
+    /**
+     *
+     * @param requestUrl
+     *          The configured request URL.
+     *
+     * @param fieldIds
+     *          The IDs of the fields to request.
+     *
+     * @return
+     *          The given {@code requestUrl} limiting the returned issue fields to
+     *          the given {@code fieldIds}. The URL is returned unchanged when it
+     *          already selects the fields explicitly.
+     */
+    static String getRequestUrlSelectingFields(String requestUrl, Set<String> fieldIds) {
+        var uriComponentsBuilder = UriComponentsBuilder.fromUriString(requestUrl);
+
+        if(uriComponentsBuilder.build().getQueryParams().containsKey(FIELDS_PARAMETER)) {
+            return requestUrl;
+        }
+
+        return uriComponentsBuilder
+                .queryParam(FIELDS_PARAMETER, String.join(",", fieldIds))
+                .build()
+                .toUriString();
     }
 
     /**
@@ -161,10 +604,10 @@ public class JiraProjectReader implements ProjectReader {
                 .or("created", JqlComparator.GREATER_OR_EQUAL, dateTime);
 
         return andQueryBuilder
-                .newQuery("issuetype", JqlComparator.EQUAL, "Staffinganfrage")
-                .and("project", JqlComparator.EQUAL, "Staffing")
+                .newQuery("issuetype", JqlComparator.EQUAL, STAFFING_ISSUE_TYPE)
+                .and("project", JqlComparator.EQUAL, STAFFING_PROJECT)
                 .and(orQueryBuilder.build())
-                .build();
+                .build() + ORDER_BY_UPDATED_CLAUSE;
     }
 
     /**
@@ -174,6 +617,20 @@ public class JiraProjectReader implements ProjectReader {
      *          the first update is performed.
      */
     String getInitialJqlQueryString() {
+        return getInitialJqlQueryString(null);
+    }
+
+    /**
+     *
+     * @param updatedSince
+     *          The time from which to get the initial projects, may
+     *          be {@code null}.
+     *
+     * @return
+     *          The JQL query used to get the initial projects updated since
+     *          the given time or all initial projects in case it is {@code null}.
+     */
+    String getInitialJqlQueryString(LocalDateTime updatedSince) {
         JqlQueryStringBuilder orQueryBuilder = new JqlQueryStringBuilder();
         JqlQueryStringBuilder andQueryBuilder = new JqlQueryStringBuilder();
 
@@ -182,10 +639,55 @@ public class JiraProjectReader implements ProjectReader {
                 .or("status", JqlComparator.EQUAL, "open");
 
         return andQueryBuilder
-                .newQuery("issuetype", JqlComparator.EQUAL, "Staffinganfrage")
-                .and("project", JqlComparator.EQUAL, "Staffing")
+                .newQuery("issuetype", JqlComparator.EQUAL, STAFFING_ISSUE_TYPE)
+                .and("project", JqlComparator.EQUAL, STAFFING_PROJECT)
                 .and(orQueryBuilder.build())
-                .build();
+                .and("updated", JqlComparator.GREATER_OR_EQUAL, updatedSince)
+                .build() + ORDER_BY_UPDATED_CLAUSE;
+    }
+
+    /**
+     * Passes the projects of pages overlapping the previous page by one issue on
+     * as long as each page starts with the last issue of the previous page.
+     */
+    private static class OverlappingPageReader {
+
+        private String lastProjectId;
+
+        private boolean continuous;
+
+        OverlappingPageReader(JiraIssuePage firstPage) {
+            var projects = firstPage.getProjects();
+
+            this.lastProjectId = projects.isEmpty() ? null : projects.get(projects.size() - 1).getId();
+            this.continuous = true;
+        }
+
+        void read(JiraIssuePage page, Consumer<List<Project>> projectConsumer) {
+            var projects = page.getProjects();
+
+            if(projects.isEmpty() || !projects.get(0).getId().equals(lastProjectId)) {
+                this.continuous = false;
+                return;
+            }
+
+            projectConsumer.accept(projects.subList(1, projects.size()));
+            this.lastProjectId = projects.get(projects.size() - 1).getId();
+        }
+
+        boolean isContinuous() {
+            return continuous;
+        }
+
+    }
+
+    @Value
+    private static class CachedHealth {
+
+        Health health;
+
+        Instant expiry;
+
     }
 
 }
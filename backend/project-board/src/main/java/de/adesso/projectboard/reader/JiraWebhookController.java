@@ -0,0 +1,92 @@
+package de.adesso.projectboard.reader;
+
+import de.adesso.projectboard.base.project.updater.ProjectChangeBatcher;
+import de.adesso.projectboard.reader.configuration.JiraConfigurationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * Receives the issue events of a Jira webhook and passes the changed projects on
+ * to the {@link ProjectChangeBatcher}, so changes are visible within seconds instead
+ * of after the next execution of the project updater. Requests have to send the
+ * {@link JiraConfigurationProperties#getWebhookSecret() secret} in the {@value SECRET_HEADER}
+ * header, since Jira webhooks can not be signed. The secret is not accepted as a query
+ * parameter, since URLs end up in access logs. Jira webhooks can not send custom headers,
+ * so the header has to be added by a reverse proxy in front of the application.
+ *
+ * <p>
+ *     Events of issues that are not read as projects are ignored, like issues of
+ *     another type or of another Jira project than the polling queries select.
+ * </p>
+ */
+@Slf4j
+@ConditionalOnExpression("${projectboard.jira.enabled:true} and ${projectboard.jira.webhook-enabled:false}")
+@RestController
+@RequestMapping("/webhooks/jira")
+public class JiraWebhookController {
+
+    static final String SECRET_HEADER = "X-Webhook-Secret";
+
+    private final ProjectChangeBatcher projectChangeBatcher;
+
+    private final byte[] secret;
+
+    @Autowired
+    public JiraWebhookController(ProjectChangeBatcher projectChangeBatcher, JiraConfigurationProperties properties) {
+        if(properties.getWebhookSecret().isEmpty()) {
+            throw new IllegalStateException("A webhook secret is required when the Jira webhook is enabled!");
+        }
+
+        this.projectChangeBatcher = projectChangeBatcher;
+        this.secret = properties.getWebhookSecret().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping
+    public ResponseEntity<?> receiveEvent(@RequestHeader(name = SECRET_HEADER, required = false) String secret,
+                                          @RequestBody JiraWebhookEvent event) {
+        // constant time comparison
+        if(Objects.isNull(secret) || !MessageDigest.isEqual(this.secret, secret.getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        var issue = event.getIssue();
+        if(Objects.isNull(issue) || Objects.isNull(issue.getId())) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var webhookEvent = Objects.requireNonNullElse(event.getWebhookEvent(), "");
+        switch(webhookEvent) {
+            case JiraWebhookEvent.ISSUE_CREATED:
+            case JiraWebhookEvent.ISSUE_UPDATED:
+                if(Objects.nonNull(issue.getProject())
+                        && JiraProjectReader.isStaffingProject(event.getJiraProjectKey(), event.getJiraProjectName())) {
+                    var project = JiraProjectReader.toProject(issue);
+
+                    if(JiraProjectReader.STAFFING_ISSUE_TYPE.equals(project.getIssuetype())) {
+                        projectChangeBatcher.submitChanged(project);
+                    }
+                }
+                break;
+            case JiraWebhookEvent.ISSUE_DELETED:
+                projectChangeBatcher.submitDeleted(issue.getId());
+                break;
+            default:
+                log.debug(String.format("Ignored Jira webhook event '%s'!", webhookEvent));
+        }
+
+        return ResponseEntity.accepted().build();
+    }
+
+}
@@ -0,0 +1,61 @@
+package de.adesso.projectboard.reader;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import de.adesso.projectboard.base.project.deserializer.JiraIssue;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.IOException;
+
+/**
+ * The payload of a Jira issue webhook request.
+ *
+ * @see JiraWebhookController
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+class JiraWebhookEvent {
+
+    static final String ISSUE_CREATED = "jira:issue_created";
+
+    static final String ISSUE_UPDATED = "jira:issue_updated";
+
+    static final String ISSUE_DELETED = "jira:issue_deleted";
+
+    /**
+     * The type of the event, e.g. {@value ISSUE_UPDATED}.
+     */
+    @Setter
+    private String webhookEvent;
+
+    /**
+     * The issue in the state after the event.
+     */
+    private JiraIssue issue;
+
+    /**
+     * The key of the Jira project the issue belongs to.
+     */
+    private String jiraProjectKey;
+
+    /**
+     * The name of the Jira project the issue belongs to.
+     */
+    private String jiraProjectName;
+
+    /**
+     * Reads the Jira project from the {@code fields} of the issue as well, since
+     * the {@link JiraIssue} only reads the fields of a project board project.
+     */
+    @JsonProperty("issue")
+    void setIssue(JsonNode issueNode) throws IOException {
+        var jiraProjectNode = issueNode.path("fields").path("project");
+
+        this.issue = JiraProjectReader.readJiraIssue(issueNode);
+        this.jiraProjectKey = jiraProjectNode.path("key").textValue();
+        this.jiraProjectName = jiraProjectNode.path("name").textValue();
+    }
+
+}
@@ -1,13 +1,23 @@
 package de.adesso.projectboard.reader.configuration;
 
+import de.adesso.projectboard.base.project.service.ProjectService;
+import de.adesso.projectboard.base.project.updater.ProjectChangeBatcher;
+import de.adesso.projectboard.base.project.updater.ProjectUpdater;
 import de.adesso.projectboard.base.reader.ProjectReader;
 import de.adesso.projectboard.reader.JiraProjectReader;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
 
 @ConditionalOnProperty(
         prefix = "projectboard.jira",
@@ -21,8 +31,60 @@ class JiraConfiguration {
 
     @Autowired
     @Bean
-    public ProjectReader projectReader(RestTemplateBuilder restTemplateBuilder, JiraConfigurationProperties jiraConfigurationProperties) {
-        return new JiraProjectReader(restTemplateBuilder, jiraConfigurationProperties);
+    public ProjectReader projectReader(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient jiraHttpClient,
+                                       JiraConfigurationProperties jiraConfigurationProperties) {
+        var pooledRestTemplateBuilder = restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(jiraHttpClient));
+
+        return new JiraProjectReader(pooledRestTemplateBuilder, jiraConfigurationProperties);
+    }
+
+    /**
+     *
+     * @param jiraConfigurationProperties
+     *          The properties to get the pool configuration from.
+     *
+     * @return
+     *          A HTTP client keeping up to {@link JiraConfigurationProperties#getConnectionPoolSize() pool size}
+     *          connections to Jira alive. Closed when the context is closed.
+     */
+    @Autowired
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient jiraHttpClient(JiraConfigurationProperties jiraConfigurationProperties) {
+        var poolSize = jiraConfigurationProperties.getConnectionPoolSize();
+        var idleTimeout = jiraConfigurationProperties.getConnectionIdleTimeout();
+
+        var connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(poolSize);
+        // all requests go to the same host
+        connectionManager.setDefaultMaxPerRoute(poolSize);
+
+        var clientBuilder = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        // the client sends "Accept-Encoding: gzip,deflate" and decompresses
+        // the responses unless disabled
+        if(!jiraConfigurationProperties.isCompressionEnabled()) {
+            clientBuilder.disableContentCompression();
+        }
+
+        return clientBuilder.build();
+    }
+
+    @ConditionalOnProperty(
+            prefix = "projectboard.jira",
+            name = "webhook-enabled",
+            havingValue = "true"
+    )
+    @Autowired
+    @Bean
+    public ProjectChangeBatcher projectChangeBatcher(ProjectUpdater projectUpdater, ProjectService projectService,
+                                                     JiraConfigurationProperties jiraConfigurationProperties, Clock clock) {
+        return new ProjectChangeBatcher(projectUpdater, projectService, jiraConfigurationProperties.getWebhookBatchDelay(),
+                jiraConfigurationProperties.getWebhookMaxBatchSize(), jiraConfigurationProperties.getWebhookDeletedIssueStatus(),
+                clock);
     }
 
 }
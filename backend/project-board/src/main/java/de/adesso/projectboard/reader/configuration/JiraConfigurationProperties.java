@@ -5,8 +5,11 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
+import java.time.Duration;
 
 /**
  * The configuration properties for the {@link JiraProjectReader}.
@@ -63,4 +66,82 @@ public class JiraConfigurationProperties {
      */
     private String password = "";
 
+    /**
+     * The maximum number of result pages requested in parallel
+     * once the total number of issues is known. Pages are requested
+     * one after another when set to {@code 1}.
+     */
+    @Min(1L)
+    private int pageFetchParallelism = 4;
+
+    /**
+     * The connect and read timeout of a single request.
+     */
+    @NotNull
+    private Duration requestTimeout = Duration.ofSeconds(30L);
+
+    /**
+     * The maximum number of pooled connections to Jira. Should be greater
+     * than the page fetch parallelism, so health checks do not wait for
+     * a free connection while pages are fetched.
+     */
+    @Min(1L)
+    private int connectionPoolSize = 8;
+
+    /**
+     * The time after which idle pooled connections are closed. Connections
+     * are kept alive between requests until then, so not every request
+     * needs a new TCP and TLS handshake.
+     */
+    @NotNull
+    private Duration connectionIdleTimeout = Duration.ofMinutes(1L);
+
+    /**
+     * Whether or not to request gzip compressed responses.
+     * Enabled by default.
+     */
+    private boolean compressionEnabled = true;
+
+    /**
+     * The time the health of Jira is cached for, so health probes do not
+     * request the server info on every check. Not cached when set to
+     * {@code 0}.
+     */
+    @NotNull
+    private Duration healthCacheTtl = Duration.ofSeconds(30L);
+
+    /**
+     * Whether or not to accept issue changes pushed by a Jira webhook
+     * on {@code /webhooks/jira}. The refresh interval of the project
+     * updater can be raised when enabled, since polling then only
+     * reconciles missed changes. Disabled by default.
+     */
+    private boolean webhookEnabled = false;
+
+    /**
+     * The secret webhook requests have to send in the {@code X-Webhook-Secret}
+     * header. Required when the webhook is enabled.
+     */
+    private String webhookSecret = "";
+
+    /**
+     * The status set on projects whose issue was deleted in Jira. Projects
+     * are not deleted, since applications and bookmarks refer to them.
+     */
+    @NotEmpty
+    private String webhookDeletedIssueStatus = "closed";
+
+    /**
+     * The maximum time a pushed change waits until it is saved together
+     * with the changes pushed in the meantime.
+     */
+    @NotNull
+    private Duration webhookBatchDelay = Duration.ofSeconds(2L);
+
+    /**
+     * The maximum number of pushed changes saved at once.
+     */
+    @Min(1L)
+    private int webhookMaxBatchSize = 100;
+
 }
@@ -14,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -54,6 +55,9 @@ public class SecurityConfiguration extends KeycloakWebSecurityConfigurerAdapter
                     .sessionAuthenticationStrategy(sessionAuthenticationStrategy())
                 .and()
                 .authorizeRequests()
+                    // authenticated by a shared secret when enabled
+                    .antMatchers(HttpMethod.POST, "/webhooks/jira")
+                        .permitAll()
                     .antMatchers("/**")
                         .authenticated()
                     .antMatchers("/actuator*")
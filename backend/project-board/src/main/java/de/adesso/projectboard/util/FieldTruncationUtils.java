@@ -4,18 +4,40 @@ import lombok.NonNull;
 import org.springframework.util.ReflectionUtils;
 
 import javax.persistence.Column;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Objects;
 
 /**
- * Util class using spring's {@link ReflectionUtils} class to truncate non-final string field values
- * to the column length of the field.
+ * Util class to truncate non-final string field values to the column length of the field.
+ *
+ * <p>
+ *     The string fields of a class are only looked up once. The resulting {@link StringFieldTruncator}
+ *     is cached per class and accesses the fields through {@link MethodHandle}s, so truncating
+ *     a large number of entities does not repeat the reflective field lookup for each entity.
+ * </p>
  */
 public class FieldTruncationUtils {
 
     public static final int DEFAULT_COLUMN_LENGTH = 255;
 
+    private static final ClassValue<StringFieldTruncator> TRUNCATORS = new ClassValue<>() {
+
+        @Override
+        protected StringFieldTruncator computeValue(Class<?> type) {
+            return StringFieldTruncator.of(type);
+        }
+
+    };
+
+    private FieldTruncationUtils() {
+        // util class
+    }
+
     /**
      * Truncates all non-final string field values of a given {@code entity} to their column
      * length. The column length used either the length specified in the JPA {@link Column}
@@ -32,56 +54,129 @@ public class FieldTruncationUtils {
      *          columns length.
      */
     public static <T> T truncateStringsToColumnLengths(@NonNull T entity) {
-        ReflectionUtils.doWithFields(entity.getClass(), new StringTruncationFieldCallback(entity), new StringFieldFilter());
+        TRUNCATORS.get(entity.getClass()).truncate(entity);
         return entity;
     }
 
-    static class StringTruncationFieldCallback implements ReflectionUtils.FieldCallback {
-
-        private final Object entity;
+    /**
+     *
+     * @param type
+     *          The class to get the truncator for, not null.
+     *
+     * @return
+     *          The cached truncator for the given class.
+     */
+    static StringFieldTruncator getTruncator(@NonNull Class<?> type) {
+        return TRUNCATORS.get(type);
+    }
 
-        StringTruncationFieldCallback(Object entity) {
-            this.entity = entity;
+    static int getColumnLengthOfField(Field field) {
+        var columnAnnotation = field.getAnnotation(Column.class);
+        if(Objects.nonNull(columnAnnotation)) {
+            return columnAnnotation.length();
         }
 
-        @Override
-        public void doWith(Field field) throws IllegalArgumentException {
-            ReflectionUtils.makeAccessible(field);
+        return DEFAULT_COLUMN_LENGTH;
+    }
 
-            var columnLength = getColumnLengthOfField(field);
-            var originalString = (String) ReflectionUtils.getField(field, entity);
-            var truncatedString = truncateString(originalString, columnLength);
-            ReflectionUtils.setField(field, entity, truncatedString);
+    static String truncateString(String originalString, int columnLength) {
+        if(Objects.isNull(originalString) || originalString.length() <= columnLength) {
+            return originalString;
         }
 
-        int getColumnLengthOfField(Field field) {
-            var columnAnnotation = field.getAnnotation(Column.class);
-            if(Objects.nonNull(columnAnnotation)) {
-                return columnAnnotation.length();
-            }
+        if(columnLength <= 0) {
+            return "";
+        } else {
+            return originalString.substring(0, columnLength);
+        }
+    }
 
-            return DEFAULT_COLUMN_LENGTH;
+    static boolean isTruncatedField(Field field) {
+        return field.getType().equals(String.class) && !Modifier.isFinal(field.getModifiers())
+                && !Modifier.isStatic(field.getModifiers());
+    }
+
+    /**
+     * Truncates the string fields of instances of a single class. Holds a getter and
+     * a setter handle and the column length of each string field.
+     */
+    static class StringFieldTruncator {
+
+        private static final MethodType GETTER_TYPE = MethodType.methodType(String.class, Object.class);
+
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, String.class);
+
+        private final MethodHandle[] getters;
+
+        private final MethodHandle[] setters;
+
+        private final int[] columnLengths;
+
+        private StringFieldTruncator(MethodHandle[] getters, MethodHandle[] setters, int[] columnLengths) {
+            this.getters = getters;
+            this.setters = setters;
+            this.columnLengths = columnLengths;
         }
 
-        String truncateString(String originalString, int columnLength) {
-            if(Objects.isNull(originalString) || originalString.length() <= columnLength) {
-                return originalString;
-            }
+        static StringFieldTruncator of(Class<?> type) {
+            var fields = new ArrayList<Field>();
+            ReflectionUtils.doWithFields(type, fields::add, FieldTruncationUtils::isTruncatedField);
 
-            if(columnLength <= 0) {
-                return "";
-            } else {
-                return originalString.substring(0, columnLength);
+            var lookup = MethodHandles.lookup();
+            var getters = new MethodHandle[fields.size()];
+            var setters = new MethodHandle[fields.size()];
+            var columnLengths = new int[fields.size()];
+
+            for(var index = 0; index < fields.size(); index++) {
+                var field = fields.get(index);
+                ReflectionUtils.makeAccessible(field);
+
+                try {
+                    getters[index] = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                    setters[index] = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException(String.format("Field '%s' of %s is not accessible!",
+                            field.getName(), type.getName()), ex);
+                }
+
+                columnLengths[index] = getColumnLengthOfField(field);
             }
-        }
 
-    }
+            return new StringFieldTruncator(getters, setters, columnLengths);
+        }
 
-    static class StringFieldFilter implements ReflectionUtils.FieldFilter {
+        /**
+         *
+         * @return
+         *          The number of string fields truncated by this truncator.
+         */
+        int getFieldCount() {
+            return columnLengths.length;
+        }
 
-        @Override
-        public boolean matches(Field field) {
-            return field.getType().equals(String.class) && !Modifier.isFinal(field.getModifiers());
+        /**
+         * Truncates the string fields of the given {@code entity}. A field is
+         * only written in case its value is too long.
+         *
+         * @param entity
+         *          The entity to truncate the fields of, not null. Must be an
+         *          instance of the class this truncator was created for.
+         */
+        void truncate(Object entity) {
+            try {
+                for(var index = 0; index < columnLengths.length; index++) {
+                    var originalString = (String) getters[index].invokeExact(entity);
+                    var truncatedString = truncateString(originalString, columnLengths[index]);
+
+                    if(truncatedString != originalString) {
+                        setters[index].invokeExact(entity, truncatedString);
+                    }
+                }
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable throwable) {
+                throw new IllegalStateException("Error truncating string fields!", throwable);
+            }
         }
 
     }
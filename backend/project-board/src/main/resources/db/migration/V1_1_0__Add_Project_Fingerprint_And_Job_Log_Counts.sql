@@ -0,0 +1,27 @@
+-- MySQL8 specific schema migration script
+
+/****************************************
+*************** project *****************
+****************************************/
+
+alter table project
+  add column fingerprint varchar(32);
+
+/****************************************
+******* scheduled job log counts ********
+****************************************/
+
+create table if not exists scheduled_job_log_counts (
+  job_log_id bigint not null,
+  count_name varchar(255) not null,
+  count_value bigint
+);
+
+alter table scheduled_job_log_counts
+  add constraint pk_scheduled_job_log_counts
+  primary key (job_log_id, count_name);
+
+alter table scheduled_job_log_counts
+  add constraint fk_scheduled_job_log_counts_scheduled_job_log
+  foreign key (job_log_id)
+  references scheduled_job_log(id);
@@ -0,0 +1,19 @@
+-- MySQL8 specific schema migration script
+
+/****************************************
+********** scheduled job log ************
+****************************************/
+
+alter table scheduled_job_log
+  add column job_watermark datetime(6);
+
+/****************************************
+******* project update checkpoint *******
+****************************************/
+
+create table if not exists project_update_checkpoint (
+  job_identifier varchar(255) not null primary key,
+  last_project_id varchar(255) not null,
+  last_updated datetime(6) not null,
+  checkpoint_time datetime(6) not null
+);
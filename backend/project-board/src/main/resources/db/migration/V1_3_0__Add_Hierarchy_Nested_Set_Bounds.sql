@@ -0,0 +1,36 @@
+-- MySQL8 specific schema migration script
+
+/****************************************
+******** hierarchy nested set ***********
+****************************************/
+
+alter table hierarchy_tree_node
+  add column lft int,
+  add column rgt int;
+
+create index idx_hierarchy_tree_node_lft_rgt
+  on hierarchy_tree_node (lft, rgt);
+
+-- number the nodes in pre-order, visiting the direct staff of a node in the order
+-- of their IDs like the user updater does
+create temporary table hierarchy_tree_node_bounds
+with recursive node_paths (id, path) as (
+  select id, cast(lpad(id, 20, '0') as char(4000))
+  from hierarchy_tree_node
+  where manager_node_id is null
+  union all
+  select node.id, concat(node_paths.path, '/', lpad(node.id, 20, '0'))
+  from hierarchy_tree_node node
+  join node_paths on node.manager_node_id = node_paths.id
+)
+select node_paths.id,
+  row_number() over (order by node_paths.path) as lft,
+  (select count(*) from hierarchy_tree_node_all_staff staff where staff.manager_node_id = node_paths.id) as staff_count
+from node_paths;
+
+update hierarchy_tree_node node
+  join hierarchy_tree_node_bounds bounds on bounds.id = node.id
+  set node.lft = bounds.lft,
+    node.rgt = bounds.lft + bounds.staff_count;
+
+drop temporary table hierarchy_tree_node_bounds;
@@ -0,0 +1,16 @@
+-- MySQL8 specific schema migration script
+
+/****************************************
+*************** project *****************
+****************************************/
+
+alter table project
+  add column last_modified datetime(6);
+
+-- all projects are reindexed once by a persistent index, since
+-- the watermark of existing checkpoints is an updated time
+update project
+  set last_modified = now(6);
+
+create index idx_project_last_modified
+  on project (last_modified);
@@ -1,9 +1,13 @@
 package de.adesso.projectboard.ad.project.service;
 
 import de.adesso.projectboard.base.application.persistence.ProjectApplicationRepository;
+import de.adesso.projectboard.base.configuration.ProjectBoardConfigurationProperties;
 import de.adesso.projectboard.base.exceptions.ProjectNotFoundException;
 import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.persistence.ProjectFingerprint;
 import de.adesso.projectboard.base.project.persistence.ProjectRepository;
+import de.adesso.projectboard.base.search.AsyncProjectIndexer;
+import de.adesso.projectboard.base.search.SearchResultCache;
 import de.adesso.projectboard.base.user.persistence.User;
 import de.adesso.projectboard.base.user.persistence.UserRepository;
 import de.adesso.projectboard.base.user.service.UserService;
@@ -21,17 +25,27 @@ import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RepositoryProjectServiceTest {
 
+    private static final int UPSERT_BATCH_SIZE = 50;
+
     private final String PROJECT_ID = "project";
 
     @Mock
@@ -46,6 +60,15 @@ public class RepositoryProjectServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private SearchResultCache searchResultCacheMock;
+
+    @Mock
+    private AsyncProjectIndexer asyncProjectIndexerMock;
+
+    @Mock
+    private ProjectBoardConfigurationProperties propertiesMock;
+
     @Mock
     private Project projectMock;
 
@@ -62,7 +85,10 @@ public class RepositoryProjectServiceTest {
         ZoneId zoneId = ZoneId.systemDefault();
 
         this.clock = Clock.fixed(instant, zoneId);
-        this.projectService = new RepositoryProjectService(projectRepo, applicationRepo, userRepo, userService, clock);
+        given(propertiesMock.getProjectUpsertBatchSize()).willReturn(UPSERT_BATCH_SIZE);
+
+        this.projectService = new RepositoryProjectService(projectRepo, applicationRepo, userRepo, userService, clock, searchResultCacheMock,
+                asyncProjectIndexerMock, propertiesMock);
     }
 
     @Test
@@ -111,6 +137,54 @@ public class RepositoryProjectServiceTest {
         assertThat(actualExists).isFalse();
     }
 
+    @Test
+    public void getFingerprintsByIdsReturnsFingerprintsOfExistingProjects() {
+        // given
+        var projectIds = List.of(PROJECT_ID, "STF-2", "STF-3");
+
+        var firstFingerprintMock = mock(ProjectFingerprint.class);
+        given(firstFingerprintMock.getId()).willReturn(PROJECT_ID);
+
+        var secondFingerprintMock = mock(ProjectFingerprint.class);
+        given(secondFingerprintMock.getId()).willReturn("STF-2");
+
+        given(projectRepo.findFingerprintsByIdIn(projectIds)).willReturn(List.of(firstFingerprintMock, secondFingerprintMock));
+
+        // when
+        var actualFingerprints = projectService.getFingerprintsByIds(projectIds);
+
+        // then
+        assertThat(actualFingerprints).containsOnly(
+                Map.entry(PROJECT_ID, firstFingerprintMock),
+                Map.entry("STF-2", secondFingerprintMock)
+        );
+    }
+
+    @Test
+    public void getProjectsByIdsReturnsExistingProjects() {
+        // given
+        var projectIds = List.of(PROJECT_ID, "STF-2");
+        var expectedProjects = List.of(new Project().setId(PROJECT_ID));
+
+        given(projectRepo.findAllByIdIn(projectIds)).willReturn(expectedProjects);
+
+        // when
+        var actualProjects = projectService.getProjectsByIds(projectIds);
+
+        // then
+        assertThat(actualProjects).isEqualTo(expectedProjects);
+    }
+
+    @Test
+    public void getProjectsByIdsReturnsEmptyListWhenNoIdsGiven() {
+        // given / when
+        var actualProjects = projectService.getProjectsByIds(List.of());
+
+        // then
+        assertThat(actualProjects).isEmpty();
+        verifyZeroInteractions(projectRepo);
+    }
+
     @Test
     public void save() {
         // given
@@ -123,6 +197,7 @@ public class RepositoryProjectServiceTest {
         assertThat(savedProject).isEqualTo(projectMock);
 
         verify(projectRepo).save(projectMock);
+        verify(searchResultCacheMock).invalidateAllAfterCommit();
     }
 
     @Test
@@ -139,6 +214,68 @@ public class RepositoryProjectServiceTest {
         assertThat(savedProjects).isEqualTo(expectedProjects);
 
         verify(projectRepo).saveAll(expectedProjects);
+        verify(searchResultCacheMock).invalidateAllAfterCommit();
+        verify(asyncProjectIndexerMock, never()).indexAfterCommit(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void saveAllDefersIndexingWhenAsyncIndexingEnabled() {
+        // given
+        List<Project> expectedProjects = Collections.singletonList(projectMock);
+
+        given(asyncProjectIndexerMock.isEnabled()).willReturn(true);
+        given(asyncProjectIndexerMock.deferIndexing(any())).willAnswer(invocation -> ((Supplier<List<Project>>) invocation.getArgument(0)).get());
+        given(projectRepo.saveAll(expectedProjects)).willReturn(expectedProjects);
+
+        // when
+        List<Project> savedProjects = projectService.saveAll(expectedProjects);
+
+        // then
+        assertThat(savedProjects).isEqualTo(expectedProjects);
+
+        var inOrder = inOrder(asyncProjectIndexerMock, projectRepo);
+        inOrder.verify(asyncProjectIndexerMock).deferIndexing(any());
+        inOrder.verify(projectRepo).saveAll(expectedProjects);
+        inOrder.verify(projectRepo).flush();
+        inOrder.verify(asyncProjectIndexerMock).indexAfterCommit(expectedProjects);
+
+        verify(searchResultCacheMock).invalidateAllAfterCommit();
+    }
+
+    @Test
+    public void upsertAllUpsertsProjectsAndIndexesThemWhenUpsertSupported() {
+        // given
+        var projects = List.of(projectMock);
+
+        given(projectRepo.supportsUpsert()).willReturn(true);
+
+        // when
+        projectService.upsertAll(projects);
+
+        // then
+        var inOrder = inOrder(projectRepo, asyncProjectIndexerMock);
+        inOrder.verify(projectRepo).upsertAll(projects, UPSERT_BATCH_SIZE);
+        inOrder.verify(asyncProjectIndexerMock).indexUpsertedProjects(projects);
+
+        verify(projectRepo, never()).saveAll(any());
+        verify(searchResultCacheMock).invalidateAllAfterCommit();
+    }
+
+    @Test
+    public void upsertAllSavesProjectsWhenUpsertNotSupported() {
+        // given
+        var projects = List.of(projectMock);
+
+        given(projectRepo.supportsUpsert()).willReturn(false);
+        given(projectRepo.saveAll(projects)).willReturn(projects);
+
+        // when
+        projectService.upsertAll(projects);
+
+        // then
+        verify(projectRepo).saveAll(projects);
+        verify(projectRepo, never()).upsertAll(any(), anyInt());
     }
 
     @Test
@@ -166,7 +303,7 @@ public class RepositoryProjectServiceTest {
         Project project = new Project("Other ID", expectedStatus, expectedIssueType, expectedTitle, expectedLabels, expectedJob, expectedSkills,
                 expectedDescription, expectedLob, expectedCustomer,
                 expectedLocation, expectedOperationStart, expectedOperationEnd,
-                expectedEffort, null, null, expectedFreelancer, expectedElongation, expectedOther, expectedDayRate, expectedTravelCostsCompensated);
+                expectedEffort, null, null, expectedFreelancer, expectedElongation, expectedOther, expectedDayRate, expectedTravelCostsCompensated, null, null);
 
         given(projectRepo.save(project)).willReturn(project);
 
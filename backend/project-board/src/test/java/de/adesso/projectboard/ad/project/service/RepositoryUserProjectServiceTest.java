@@ -4,6 +4,9 @@ import de.adesso.projectboard.base.configuration.ProjectBoardConfigurationProper
 import de.adesso.projectboard.base.project.persistence.Project;
 import de.adesso.projectboard.base.project.persistence.ProjectRepository;
 import de.adesso.projectboard.base.project.persistence.specification.ProjectSpecification;
+import de.adesso.projectboard.base.project.projection.ProjectSuggestion;
+import de.adesso.projectboard.base.project.projection.ProjectSummary;
+import de.adesso.projectboard.base.search.CursorPage;
 import de.adesso.projectboard.base.search.HibernateSearchService;
 import de.adesso.projectboard.base.user.persistence.User;
 import de.adesso.projectboard.base.user.persistence.data.UserData;
@@ -15,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
@@ -106,12 +110,13 @@ public class RepositoryUserProjectServiceTest {
     public void searchProjectsForUserSearchesInAllProjectsWhenUserIsManager() {
         // given
         var expectedQuery = "a cool query";
+        var expectedSort = Sort.by("updated");
 
         given(userServiceMock.userIsManager(userMock)).willReturn(true);
-        given(managerHibernateSearchServiceMock.searchProjects(expectedQuery, null)).willReturn(List.of(projectMock));
+        given(managerHibernateSearchServiceMock.searchProjects(expectedQuery, expectedSort, null)).willReturn(List.of(projectMock));
 
         // when
-        var actualProjects = userProjectService.searchProjectsForUser(userMock, expectedQuery, Sort.unsorted());
+        var actualProjects = userProjectService.searchProjectsForUser(userMock, expectedQuery, expectedSort);
 
         // then
         assertThat(actualProjects).containsExactly(projectMock);
@@ -125,15 +130,51 @@ public class RepositoryUserProjectServiceTest {
 
         given(userServiceMock.getUserData(userMock)).willReturn(userDataMock);
         given(userDataMock.getLob()).willReturn(expectedLob);
-        given(staffHibernateSearchServiceMock.searchProjects(expectedQuery, expectedLob)).willReturn(List.of(projectMock));
+        var expectedSort = Sort.by("title");
+
+        given(staffHibernateSearchServiceMock.searchProjects(expectedQuery, expectedSort, expectedLob)).willReturn(List.of(projectMock));
 
         // when
-        var actualProjects = userProjectService.searchProjectsForUser(userMock, expectedQuery, Sort.unsorted());
+        var actualProjects = userProjectService.searchProjectsForUser(userMock, expectedQuery, expectedSort);
 
         // then
         assertThat(actualProjects).containsExactly(projectMock);
     }
 
+    @Test
+    public void suggestProjectsForUserSuggestsFromAllProjectsWhenUserIsManager() {
+        // given
+        var expectedPrefix = "jav";
+        var expectedSuggestions = List.of(new ProjectSuggestion("STF-1", "Java Developer"));
+
+        given(userServiceMock.userIsManager(userMock)).willReturn(true);
+        given(managerHibernateSearchServiceMock.suggestProjects(expectedPrefix, 5, null)).willReturn(expectedSuggestions);
+
+        // when
+        var actualSuggestions = userProjectService.suggestProjectsForUser(userMock, expectedPrefix, 5);
+
+        // then
+        assertThat(actualSuggestions).isEqualTo(expectedSuggestions);
+    }
+
+    @Test
+    public void suggestProjectsForUserSuggestsFromLobDependentProjectsWhenUserIsNoManager() {
+        // given
+        var expectedPrefix = "jav";
+        var expectedLob = "LOB Test";
+        var expectedSuggestions = List.of(new ProjectSuggestion("STF-1", "Java Developer"));
+
+        given(userServiceMock.getUserData(userMock)).willReturn(userDataMock);
+        given(userDataMock.getLob()).willReturn(expectedLob);
+        given(staffHibernateSearchServiceMock.suggestProjects(expectedPrefix, 5, expectedLob)).willReturn(expectedSuggestions);
+
+        // when
+        var actualSuggestions = userProjectService.suggestProjectsForUser(userMock, expectedPrefix, 5);
+
+        // then
+        assertThat(actualSuggestions).isEqualTo(expectedSuggestions);
+    }
+
     @Test
     public void getProjectsForUserPaginatedReturnsLobDependentProjectsWhenUserIsNoManager() {
         // given
@@ -208,4 +249,159 @@ public class RepositoryUserProjectServiceTest {
         assertThat(actualProjectPage).containsExactly(projectMock);
     }
 
+    @Test
+    public void searchProjectSummariesForUserPaginatedSearchesInAllProjectsWhenUserIsManager() {
+        // given
+        var expectedQuery = "a cool query";
+        var expectedPageable = PageRequest.of(1, 4);
+        var expectedPage = new PageImpl<>(List.of(new ProjectSummary()));
+
+        given(userServiceMock.userIsManager(userMock)).willReturn(true);
+        given(managerHibernateSearchServiceMock.searchProjectSummaries(expectedQuery, expectedPageable, null))
+                .willReturn(expectedPage);
+
+        // when
+        var actualSummaryPage = userProjectService.searchProjectSummariesForUserPaginated(expectedQuery, userMock, expectedPageable);
+
+        // then
+        assertThat(actualSummaryPage).isEqualTo(expectedPage);
+    }
+
+    @Test
+    public void searchProjectSummariesForUserPaginatedSearchesInLobDependentProjectsWhenUserIsNoManager() {
+        // given
+        var expectedQuery = "a cool query";
+        var expectedLob = "LOB Test";
+        var expectedPageable = PageRequest.of(1, 4);
+        var expectedPage = new PageImpl<>(List.of(new ProjectSummary()));
+
+        given(userServiceMock.getUserData(userMock)).willReturn(userDataMock);
+        given(userDataMock.getLob()).willReturn(expectedLob);
+        given(staffHibernateSearchServiceMock.searchProjectSummaries(expectedQuery, expectedPageable, expectedLob))
+                .willReturn(expectedPage);
+
+        // when
+        var actualSummaryPage = userProjectService.searchProjectSummariesForUserPaginated(expectedQuery, userMock, expectedPageable);
+
+        // then
+        assertThat(actualSummaryPage).isEqualTo(expectedPage);
+    }
+
+    @Test
+    public void searchProjectSliceForUserSearchesInAllProjectsWhenUserIsManager() {
+        // given
+        var expectedQuery = "a cool query";
+        var expectedPageable = PageRequest.of(1, 4);
+        var expectedSlice = new SliceImpl<>(List.of(projectMock), expectedPageable, true);
+
+        given(userServiceMock.userIsManager(userMock)).willReturn(true);
+        given(managerHibernateSearchServiceMock.searchProjectSlice(expectedQuery, expectedPageable, null))
+                .willReturn(expectedSlice);
+
+        // when
+        var actualProjectSlice = userProjectService.searchProjectSliceForUser(expectedQuery, userMock, expectedPageable);
+
+        // then
+        assertThat(actualProjectSlice).isEqualTo(expectedSlice);
+    }
+
+    @Test
+    public void searchProjectSliceForUserSearchesInLobDependentProjectsWhenUserIsNoManager() {
+        // given
+        var expectedQuery = "a cool query";
+        var expectedLob = "LOB Test";
+        var expectedPageable = PageRequest.of(1, 4);
+        var expectedSlice = new SliceImpl<>(List.of(projectMock), expectedPageable, false);
+
+        given(userServiceMock.getUserData(userMock)).willReturn(userDataMock);
+        given(userDataMock.getLob()).willReturn(expectedLob);
+        given(staffHibernateSearchServiceMock.searchProjectSlice(expectedQuery, expectedPageable, expectedLob))
+                .willReturn(expectedSlice);
+
+        // when
+        var actualProjectSlice = userProjectService.searchProjectSliceForUser(expectedQuery, userMock, expectedPageable);
+
+        // then
+        assertThat(actualProjectSlice).isEqualTo(expectedSlice);
+    }
+
+    @Test
+    public void searchProjectSummarySliceForUserSearchesInAllProjectsWhenUserIsManager() {
+        // given
+        var expectedQuery = "a cool query";
+        var expectedPageable = PageRequest.of(1, 4);
+        var expectedSlice = new SliceImpl<>(List.of(new ProjectSummary()), expectedPageable, true);
+
+        given(userServiceMock.userIsManager(userMock)).willReturn(true);
+        given(managerHibernateSearchServiceMock.searchProjectSummarySlice(expectedQuery, expectedPageable, null))
+                .willReturn(expectedSlice);
+
+        // when
+        var actualSummarySlice = userProjectService.searchProjectSummarySliceForUser(expectedQuery, userMock, expectedPageable);
+
+        // then
+        assertThat(actualSummarySlice).isEqualTo(expectedSlice);
+    }
+
+    @Test
+    public void searchProjectSummarySliceForUserSearchesInLobDependentProjectsWhenUserIsNoManager() {
+        // given
+        var expectedQuery = "a cool query";
+        var expectedLob = "LOB Test";
+        var expectedPageable = PageRequest.of(1, 4);
+        var expectedSlice = new SliceImpl<>(List.of(new ProjectSummary()), expectedPageable, false);
+
+        given(userServiceMock.getUserData(userMock)).willReturn(userDataMock);
+        given(userDataMock.getLob()).willReturn(expectedLob);
+        given(staffHibernateSearchServiceMock.searchProjectSummarySlice(expectedQuery, expectedPageable, expectedLob))
+                .willReturn(expectedSlice);
+
+        // when
+        var actualSummarySlice = userProjectService.searchProjectSummarySliceForUser(expectedQuery, userMock, expectedPageable);
+
+        // then
+        assertThat(actualSummarySlice).isEqualTo(expectedSlice);
+    }
+
+    @Test
+    public void searchProjectsForUserAfterCursorSearchesInAllProjectsWhenUserIsManager() {
+        // given
+        var expectedQuery = "a cool query";
+        var expectedCursor = "cursor";
+        var expectedSort = Sort.by("updated");
+        var expectedPage = new CursorPage<>(List.of(projectMock), null, 1L);
+
+        given(userServiceMock.userIsManager(userMock)).willReturn(true);
+        given(managerHibernateSearchServiceMock.searchProjects(expectedQuery, expectedSort, expectedCursor, 4, null))
+                .willReturn(expectedPage);
+
+        // when
+        var actualProjectPage = userProjectService.searchProjectsForUserAfterCursor(expectedQuery, userMock,
+                expectedCursor, PageRequest.of(1, 4, expectedSort));
+
+        // then
+        assertThat(actualProjectPage).isEqualTo(expectedPage);
+    }
+
+    @Test
+    public void searchProjectsForUserAfterCursorSearchesInLobDependentProjectsWhenUserIsNoManager() {
+        // given
+        var expectedQuery = "a cool query";
+        var expectedLob = "LOB Test";
+        var expectedSort = Sort.by("updated");
+        var expectedPage = new CursorPage<>(List.of(projectMock), null, 1L);
+
+        given(userServiceMock.getUserData(userMock)).willReturn(userDataMock);
+        given(userDataMock.getLob()).willReturn(expectedLob);
+        given(staffHibernateSearchServiceMock.searchProjects(expectedQuery, expectedSort, null, 4, expectedLob))
+                .willReturn(expectedPage);
+
+        // when
+        var actualProjectPage = userProjectService.searchProjectsForUserAfterCursor(expectedQuery, userMock,
+                null, PageRequest.of(0, 4, expectedSort));
+
+        // then
+        assertThat(actualProjectPage).isEqualTo(expectedPage);
+    }
+
 }
@@ -0,0 +1,136 @@
+package de.adesso.projectboard.ad.updater;
+
+import de.adesso.projectboard.base.user.persistence.User;
+import de.adesso.projectboard.base.user.persistence.hierarchy.HierarchyTreeNode;
+import de.adesso.projectboard.base.user.persistence.hierarchy.StaffRelation;
+import de.adesso.projectboard.util.BenchmarkHelper;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the cost of computing the staff relations of a synthetic org chart with
+ * 50k employees with the {@link HierarchyClosure} to the previous approaches, which
+ * walked up the managers of each user or added each node to the staff of all its
+ * managers with {@link HierarchyTreeNode#addDirectStaffMember(HierarchyTreeNode)}. Only
+ * run when benchmarks are enabled, see {@link BenchmarkHelper}.
+ */
+public class HierarchyClosureBenchmarkTest {
+
+    private static final int EMPLOYEE_COUNT = 50_000;
+
+    private static final int DIRECT_STAFF_COUNT = 6;
+
+    private static final int WARMUP_ITERATIONS = 20;
+
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    private Map<String, String> managerIdsByUserId;
+
+    private Map<String, HierarchyTreeNode> nodesByUserId;
+
+    @BeforeClass
+    public static void assumeBenchmarksEnabled() {
+        BenchmarkHelper.assumeBenchmarksEnabled();
+    }
+
+    @Before
+    public void setUp() {
+        this.managerIdsByUserId = new LinkedHashMap<>();
+        this.nodesByUserId = new HashMap<>();
+
+        // level order, every manager has the same number of direct staff members
+        IntStream.range(0, EMPLOYEE_COUNT).forEach(index -> {
+            var userId = getUserId(index);
+            var managerId = index == 0 ? null : getUserId((index - 1) / DIRECT_STAFF_COUNT);
+
+            managerIdsByUserId.put(userId, managerId);
+            nodesByUserId.put(userId, createPersistedNode(index + 1L, userId));
+        });
+    }
+
+    @Test
+    public void compareClosureWithPreviousApproaches() {
+        // given
+        BenchmarkHelper.measureMedianNanos(this::computeWithClosure, WARMUP_ITERATIONS);
+        BenchmarkHelper.measureMedianNanos(this::computeByWalkingUpManagers, WARMUP_ITERATIONS);
+        BenchmarkHelper.measureMedianNanos(this::computeByAddingDirectStaffMembers, WARMUP_ITERATIONS);
+
+        // when
+        var closureNanos = BenchmarkHelper.measureMedianNanos(this::computeWithClosure, MEASUREMENT_ITERATIONS);
+        var walkingUpNanos = BenchmarkHelper.measureMedianNanos(this::computeByWalkingUpManagers, MEASUREMENT_ITERATIONS);
+        var addingDirectStaffNanos = BenchmarkHelper.measureMedianNanos(this::computeByAddingDirectStaffMembers,
+                MEASUREMENT_ITERATIONS);
+
+        // then
+        BenchmarkHelper.reportMedianNanos(getClass(), "closure", closureNanos);
+        BenchmarkHelper.reportMedianNanos(getClass(), "walking up managers", walkingUpNanos);
+        BenchmarkHelper.reportMedianNanos(getClass(), "adding direct staff members", addingDirectStaffNanos);
+    }
+
+    private Collection<StaffRelation> computeWithClosure() {
+        return new HierarchyClosure(managerIdsByUserId, nodesByUserId).getStaffRelations();
+    }
+
+    /**
+     * The previous implementation of {@code UserUpdater#getStaffRelations}.
+     */
+    private Set<StaffRelation> computeByWalkingUpManagers() {
+        var staffRelations = new HashSet<StaffRelation>();
+
+        managerIdsByUserId.keySet().forEach(userId -> {
+            var nodeId = nodesByUserId.get(userId).getId();
+
+            var managerId = managerIdsByUserId.get(userId);
+            while(Objects.nonNull(managerId)) {
+                staffRelations.add(new StaffRelation(nodesByUserId.get(managerId).getId(), nodeId));
+                managerId = managerIdsByUserId.get(managerId);
+            }
+        });
+
+        return staffRelations;
+    }
+
+    /**
+     * The previous way of building the hierarchy in {@code UserUpdater}, reading
+     * the relations off the {@link HierarchyTreeNode#getStaff() staff} afterwards.
+     */
+    private Collection<StaffRelation> computeByAddingDirectStaffMembers() {
+        var builtNodesByUserId = new HashMap<String, HierarchyTreeNode>();
+        managerIdsByUserId.forEach((userId, managerId) -> {
+            var node = createPersistedNode(nodesByUserId.get(userId).getId(), userId);
+            builtNodesByUserId.put(userId, node);
+
+            if(Objects.nonNull(managerId)) {
+                builtNodesByUserId.get(managerId).addDirectStaffMember(node);
+            }
+        });
+
+        var staffRelations = new HashSet<StaffRelation>();
+        builtNodesByUserId.values().forEach(node -> node.getStaff()
+                .forEach(staffNode -> staffRelations.add(new StaffRelation(node.getId(), staffNode.getId()))));
+
+        return staffRelations;
+    }
+
+    private String getUserId(int index) {
+        return String.format("user-%d", index);
+    }
+
+    private HierarchyTreeNode createPersistedNode(long id, String userId) {
+        var node = new HierarchyTreeNode(new User(userId));
+        node.setId(id);
+
+        return node;
+    }
+
+}
@@ -0,0 +1,165 @@
+package de.adesso.projectboard.ad.updater;
+
+import de.adesso.projectboard.base.user.persistence.User;
+import de.adesso.projectboard.base.user.persistence.hierarchy.HierarchyTreeNode;
+import de.adesso.projectboard.base.user.persistence.hierarchy.NestedSetBounds;
+import de.adesso.projectboard.base.user.persistence.hierarchy.StaffRelation;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HierarchyClosureTest {
+
+    @Test
+    public void getStaffRelationsReturnsRelationsToAllManagers() {
+        // given
+        var managerIdsByUserId = new LinkedHashMap<String, String>();
+        managerIdsByUserId.put("root-user", null);
+        managerIdsByUserId.put("first-level-user", "root-user");
+        managerIdsByUserId.put("second-level-user", "first-level-user");
+
+        var nodesByUserId = Map.of(
+                "root-user", createPersistedNode(1L, "root-user"),
+                "first-level-user", createPersistedNode(2L, "first-level-user"),
+                "second-level-user", createPersistedNode(3L, "second-level-user")
+        );
+
+        // when
+        var actualRelations = new HierarchyClosure(managerIdsByUserId, nodesByUserId).getStaffRelations();
+
+        // then
+        assertThat(actualRelations).containsExactlyInAnyOrder(
+                new StaffRelation(1L, 2L),
+                new StaffRelation(1L, 3L),
+                new StaffRelation(2L, 3L)
+        );
+    }
+
+    @Test
+    public void getStaffRelationsReturnsRelationsOfAllTrees() {
+        // given
+        var managerIdsByUserId = new LinkedHashMap<String, String>();
+        managerIdsByUserId.put("first-staff-user", "first-root-user");
+        managerIdsByUserId.put("second-root-user", null);
+        managerIdsByUserId.put("first-root-user", null);
+        managerIdsByUserId.put("second-staff-user", "first-staff-user");
+        managerIdsByUserId.put("third-staff-user", "second-root-user");
+        managerIdsByUserId.put("fourth-staff-user", "first-root-user");
+
+        var nodesByUserId = Map.of(
+                "first-root-user", createPersistedNode(1L, "first-root-user"),
+                "second-root-user", createPersistedNode(2L, "second-root-user"),
+                "first-staff-user", createPersistedNode(3L, "first-staff-user"),
+                "second-staff-user", createPersistedNode(4L, "second-staff-user"),
+                "third-staff-user", createPersistedNode(5L, "third-staff-user"),
+                "fourth-staff-user", createPersistedNode(6L, "fourth-staff-user")
+        );
+
+        // when
+        var actualRelations = new HierarchyClosure(managerIdsByUserId, nodesByUserId).getStaffRelations();
+
+        // then
+        assertThat(actualRelations).containsExactlyInAnyOrder(
+                new StaffRelation(1L, 3L),
+                new StaffRelation(1L, 4L),
+                new StaffRelation(1L, 6L),
+                new StaffRelation(3L, 4L),
+                new StaffRelation(2L, 5L)
+        );
+    }
+
+    @Test
+    public void getStaffRelationsReturnsSameRelationsAsWalkingUpManagers() {
+        // given
+        var managerIdsByUserId = new LinkedHashMap<String, String>();
+        var nodesByUserId = new HashMap<String, HierarchyTreeNode>();
+
+        // level order, every manager has three direct staff members
+        IntStream.range(0, 200).forEach(index -> {
+            var userId = String.format("user-%d", index);
+            var managerId = index == 0 ? null : String.format("user-%d", (index - 1) / 3);
+
+            managerIdsByUserId.put(userId, managerId);
+            nodesByUserId.put(userId, createPersistedNode(index + 1L, userId));
+        });
+
+        var expectedRelations = new HashSet<StaffRelation>();
+        managerIdsByUserId.keySet().forEach(userId -> {
+            var managerId = managerIdsByUserId.get(userId);
+            while(Objects.nonNull(managerId)) {
+                expectedRelations.add(new StaffRelation(nodesByUserId.get(managerId).getId(), nodesByUserId.get(userId).getId()));
+                managerId = managerIdsByUserId.get(managerId);
+            }
+        });
+
+        // when
+        var actualRelations = new HierarchyClosure(managerIdsByUserId, nodesByUserId).getStaffRelations();
+
+        // then
+        assertThat(actualRelations).containsExactlyInAnyOrderElementsOf(expectedRelations);
+    }
+
+    @Test
+    public void getNestedSetBoundsReturnsPreOrderPositionsInOrderOfNodeIds() {
+        // given
+        var managerIdsByUserId = new LinkedHashMap<String, String>();
+        managerIdsByUserId.put("root-user", null);
+        managerIdsByUserId.put("second-staff-user", "root-user");
+        managerIdsByUserId.put("first-staff-user", "root-user");
+        managerIdsByUserId.put("leaf-user", "first-staff-user");
+
+        var nodesByUserId = Map.of(
+                "root-user", createPersistedNode(1L, "root-user"),
+                "first-staff-user", createPersistedNode(2L, "first-staff-user"),
+                "second-staff-user", createPersistedNode(3L, "second-staff-user"),
+                "leaf-user", createPersistedNode(4L, "leaf-user")
+        );
+
+        // when
+        var actualBounds = new HierarchyClosure(managerIdsByUserId, nodesByUserId).getNestedSetBounds();
+
+        // then
+        assertThat(actualBounds).containsExactly(
+                new NestedSetBounds(1L, 1, 4),
+                new NestedSetBounds(2L, 2, 3),
+                new NestedSetBounds(4L, 3, 3),
+                new NestedSetBounds(3L, 4, 4)
+        );
+    }
+
+    @Test
+    public void constructorThrowsExceptionWhenNodesAreNotReachableFromRoot() {
+        // given
+        var managerIdsByUserId = new LinkedHashMap<String, String>();
+        managerIdsByUserId.put("root-user", null);
+        managerIdsByUserId.put("first-user", "second-user");
+        managerIdsByUserId.put("second-user", "first-user");
+
+        var nodesByUserId = Map.of(
+                "root-user", createPersistedNode(1L, "root-user"),
+                "first-user", createPersistedNode(2L, "first-user"),
+                "second-user", createPersistedNode(3L, "second-user")
+        );
+
+        // when / then
+        assertThatThrownBy(() -> new HierarchyClosure(managerIdsByUserId, nodesByUserId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Hierarchy contains nodes that are not reachable from a root node!");
+    }
+
+    private HierarchyTreeNode createPersistedNode(long id, String userId) {
+        var node = new HierarchyTreeNode(new User(userId));
+        node.setId(id);
+
+        return node;
+    }
+
+}
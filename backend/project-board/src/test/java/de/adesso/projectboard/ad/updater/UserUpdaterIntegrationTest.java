@@ -0,0 +1,192 @@
+package de.adesso.projectboard.ad.updater;
+
+import de.adesso.projectboard.ad.service.LdapAdapter;
+import de.adesso.projectboard.ad.service.node.LdapUserNode;
+import de.adesso.projectboard.ad.user.RepositoryUserService;
+import de.adesso.projectboard.base.search.HibernateSearchService;
+import de.adesso.projectboard.base.user.persistence.UserRepository;
+import de.adesso.projectboard.base.user.persistence.data.UserData;
+import de.adesso.projectboard.base.user.persistence.data.UserDataRepository;
+import de.adesso.projectboard.base.user.persistence.hierarchy.HierarchyTreeNode;
+import de.adesso.projectboard.base.user.persistence.hierarchy.HierarchyTreeNodeRepository;
+import de.adesso.projectboard.base.user.persistence.hierarchy.NestedSetBounds;
+import de.adesso.projectboard.base.user.persistence.hierarchy.StaffRelation;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@TestPropertySource("classpath:application-persistence-test.properties")
+public class UserUpdaterIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private UserDataRepository userDataRepo;
+
+    @Autowired
+    private HierarchyTreeNodeRepository hierarchyTreeNodeRepo;
+
+    private UserUpdater userUpdater;
+
+    @Before
+    public void setUp() {
+        var repoUserService = new RepositoryUserService(userRepo, userDataRepo, mock(LdapAdapter.class),
+                hierarchyTreeNodeRepo, mock(HibernateSearchService.class));
+
+        this.userUpdater = new UserUpdater(hierarchyTreeNodeRepo, repoUserService, userDataRepo, mock(LdapAdapter.class), List.of());
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    })
+    public void updateHierarchyAppliesDifferenceToPersistedHierarchy() {
+        // given
+        // persisted: User1 -> (User2 -> User4, User3)
+        // LDAP:      User1 -> (User3 -> User4, User5), User2 departed
+        var firstNode = createLdapNode("User1", "User1", "User3", "User5");
+        var thirdNode = createLdapNode("User3", "User1", "User4");
+        var fourthNode = createLdapNode("User4", "User3");
+        var fifthNode = createLdapNode("User5", "User1");
+
+        // when
+        userUpdater.updateHierarchy(List.of(firstNode, thirdNode, fourthNode, fifthNode));
+        entityManager.clear();
+
+        // then
+        var nodesByUserId = hierarchyTreeNodeRepo.findAll().stream()
+                .collect(Collectors.toMap(node -> node.getUser().getId(), HierarchyTreeNode::getId));
+
+        var softly = new SoftAssertions();
+
+        softly.assertThat(nodesByUserId).containsOnlyKeys("User1", "User3", "User4", "User5");
+        softly.assertThat(nodesByUserId)
+                .containsEntry("User1", 1L)
+                .containsEntry("User3", 3L)
+                .containsEntry("User4", 4L);
+        softly.assertThat(hierarchyTreeNodeRepo.findAllStaffRelations()).containsExactlyInAnyOrder(
+                new StaffRelation(1L, 3L),
+                new StaffRelation(1L, 4L),
+                new StaffRelation(1L, nodesByUserId.get("User5")),
+                new StaffRelation(3L, 4L)
+        );
+        softly.assertThat(hierarchyTreeNodeRepo.findById(4L).orElseThrow().getManager().getId()).isEqualTo(3L);
+        softly.assertThat(hierarchyTreeNodeRepo.findById(3L).orElseThrow().isManagingUser()).isTrue();
+        softly.assertThat(hierarchyTreeNodeRepo.findAllNestedSetBounds()).containsExactlyInAnyOrder(
+                new NestedSetBounds(1L, 1, 4),
+                new NestedSetBounds(3L, 2, 3),
+                new NestedSetBounds(4L, 3, 3),
+                new NestedSetBounds(nodesByUserId.get("User5"), 4, 4)
+        );
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/UserData.sql"
+    })
+    public void normalizeAndSaveUserDataKeepsPicturesOfExistingUsers() {
+        // given
+        var expectedPicture = new byte[] {1, 2, 3};
+        var firstUser = userRepo.findById("User1").orElseThrow();
+        var thirdUser = userRepo.findById("User3").orElseThrow();
+        var fifthUser = userRepo.findById("User5").orElseThrow();
+
+        var firstUserData = userDataRepo.findById(1L).orElseThrow();
+        firstUserData.setPicture(expectedPicture);
+        entityManager.flush();
+        entityManager.clear();
+
+        var userData = List.of(
+                new UserData(firstUser, "First", "Renamed", "first.user@test.com", "LOB Test"),
+                new UserData(thirdUser, "Third", "User", "third.user@test.com", "LOB Prod"),
+                new UserData(fifthUser, "Fifth", "User", "fifth.user@test.com", "LOB Test")
+        );
+
+        // when
+        userUpdater.normalizeAndSaveUserData(userData);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        var userDataByUserId = userDataRepo.findAll().stream()
+                .collect(Collectors.toMap(data -> data.getUser().getId(), Function.identity()));
+
+        var softly = new SoftAssertions();
+
+        softly.assertThat(userDataByUserId).containsOnlyKeys("User1", "User3", "User5");
+        softly.assertThat(userDataByUserId.get("User1").getId()).isEqualTo(1L);
+        softly.assertThat(userDataByUserId.get("User1").getLastName()).isEqualTo("Renamed");
+        softly.assertThat(userDataByUserId.get("User1").getPicture()).isEqualTo(expectedPicture);
+        softly.assertThat(userDataByUserId.get("User3").getId()).isEqualTo(3L);
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql("classpath:de/adesso/projectboard/persistence/Users.sql")
+    public void updateUserDataCreatesMissingUsers() {
+        // given
+        var firstNode = createLdapNode("User1", "User1")
+                .setGivenName("First")
+                .setSurname("User")
+                .setMail("first.user@test.com")
+                .setDivision("LOB Test");
+        var newNode = createLdapNode("User6", "User1")
+                .setGivenName("Sixth")
+                .setSurname("User")
+                .setMail("sixth.user@test.com")
+                .setDivision("LOB Test");
+
+        // when
+        userUpdater.updateUserData(List.of(firstNode, newNode));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        var userDataUserIds = userDataRepo.findAll().stream()
+                .map(data -> data.getUser().getId())
+                .collect(Collectors.toList());
+
+        var softly = new SoftAssertions();
+
+        softly.assertThat(userRepo.existsById("User6")).isTrue();
+        softly.assertThat(userRepo.count()).isEqualTo(6L);
+        softly.assertThat(userDataUserIds).containsExactlyInAnyOrder("User1", "User6");
+
+        softly.assertAll();
+    }
+
+    private LdapUserNode createLdapNode(String userId, String managerUserId, String... directReportUserIds) {
+        return new LdapUserNode()
+                .setId(userId)
+                .setDn(userId + "-dn")
+                .setManagerDn(managerUserId + "-dn")
+                .setDirectReportsDn(List.of(directReportUserIds).stream()
+                        .map(directReportUserId -> directReportUserId + "-dn")
+                        .collect(Collectors.toList()));
+    }
+
+}
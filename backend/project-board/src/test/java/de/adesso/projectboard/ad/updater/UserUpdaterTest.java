@@ -7,8 +7,12 @@ import de.adesso.projectboard.base.normalizer.Normalizer;
 import de.adesso.projectboard.base.user.persistence.User;
 import de.adesso.projectboard.base.user.persistence.data.UserData;
 import de.adesso.projectboard.base.user.persistence.data.UserDataRepository;
+import de.adesso.projectboard.base.user.persistence.data.UserDataSnapshot;
 import de.adesso.projectboard.base.user.persistence.hierarchy.HierarchyTreeNode;
 import de.adesso.projectboard.base.user.persistence.hierarchy.HierarchyTreeNodeRepository;
+import de.adesso.projectboard.base.user.persistence.hierarchy.NestedSetBounds;
+import de.adesso.projectboard.base.user.persistence.hierarchy.StaffRelation;
+import org.assertj.core.api.SoftAssertions;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -17,14 +21,21 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.AbstractMap.SimpleEntry;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -48,6 +59,9 @@ public class UserUpdaterTest {
     @Captor
     private ArgumentCaptor<Collection<UserData>> userDataCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<HierarchyTreeNode>> nodeListCaptor;
+
     private UserUpdater userUpdater;
 
     @Before
@@ -56,7 +70,7 @@ public class UserUpdaterTest {
     }
 
     @Test
-    public void updateUserDataDeletesAllAndSavesNew() {
+    public void updateUserDataSavesNewUserData() {
         // given
         var firstUserId = "first-user";
         var expectedFirstDepartment = "first-department";
@@ -97,8 +111,8 @@ public class UserUpdaterTest {
         var firstExpected = new UserData(firstUser, expectedFirstGivenName, expectedFirstSurname, expectedFirstMail, expectedFirstDivision);
         var secondExpected = new UserData(secondUser, expectedSecondGivenName, expectedSecondSurname, expectedSecondMail, expectedSecondDivision);
 
-        given(repoUserServiceMock.getOrCreateUserById(firstUserId)).willReturn(firstUser);
-        given(repoUserServiceMock.getOrCreateUserById(secondUserId)).willReturn(secondUser);
+        given(repoUserServiceMock.getOrCreateUsersByIds(List.of(firstUserId, secondUserId)))
+                .willReturn(Map.of(firstUserId, firstUser, secondUserId, secondUser));
 
         given(normalizerMock.normalize(List.of(firstExpected, secondExpected))).willReturn(List.of(firstExpected, secondExpected));
 
@@ -106,14 +120,44 @@ public class UserUpdaterTest {
         userUpdater.updateUserData(List.of(firstNode, secondNode));
 
         // then
-        verify(userDataRepoMock).deleteAll();
-        verify(userDataRepoMock).flush();
         verify(userDataRepoMock).saveAll(userDataCaptor.capture());
+        verify(userDataRepoMock, never()).deleteAll();
         verify(normalizerMock).normalize(List.of(firstExpected, secondExpected));
 
         assertThat(userDataCaptor.getValue()).containsExactlyInAnyOrder(firstExpected, secondExpected);
     }
 
+    @Test
+    public void normalizeAndSaveUserDataOnlyWritesDifference() {
+        // given
+        var unchangedUser = new User("unchanged-user");
+        var changedUser = new User("changed-user");
+        var addedUser = new User("added-user");
+
+        var unchangedUserData = new UserData(unchangedUser, "Unchanged", "User", "unchanged@mail.com", "LoB");
+        var changedUserData = new UserData(changedUser, "Changed", "User", "changed@mail.com", "Other LoB");
+        var addedUserData = new UserData(addedUser, "Added", "User", "added@mail.com", "LoB");
+        var userData = List.of(unchangedUserData, changedUserData, addedUserData);
+
+        var unchangedSnapshot = createSnapshot(1L, "unchanged-user", "Unchanged", "User", "unchanged@mail.com", "LoB");
+        var changedSnapshot = createSnapshot(2L, "changed-user", "Changed", "User", "changed@mail.com", "LoB");
+        var departedSnapshot = createSnapshot(3L, "departed-user", "Departed", "User", "departed@mail.com", "LoB");
+
+        given(normalizerMock.normalize(userData)).willReturn(userData);
+        given(userDataRepoMock.findAllSnapshots()).willReturn(List.of(unchangedSnapshot, changedSnapshot, departedSnapshot));
+
+        // when
+        userUpdater.normalizeAndSaveUserData(userData);
+
+        // then
+        verify(userDataRepoMock).deleteAllByIds(List.of(3L), UserUpdater.USER_DATA_BATCH_SIZE);
+        verify(userDataRepoMock).updateAllKeepingPictures(List.of(changedUserData), UserUpdater.USER_DATA_BATCH_SIZE);
+        verify(userDataRepoMock).saveAll(List.of(addedUserData));
+        verify(userDataRepoMock, never()).deleteAll();
+
+        assertThat(changedUserData.getId()).isEqualTo(2L);
+    }
+
     @Test
     public void getRootNodesReturnsExpectedNodes() {
         // given
@@ -136,73 +180,150 @@ public class UserUpdaterTest {
     }
 
     @Test
-    public void buildHierarchyNodesReturnsExpectedNodes() {
+    public void updateHierarchyInsertsMovesAndDeletesOnlyChangedNodes() {
         // given
-        var firstRootUserId = "first-root-user";
-        var secondRootUserId = "second-root-user";
-        var firstRootChildUserId = "first-root-child-user";
-        var secondRootChildUserId = "second-root-child-user";
+        var rootNode = new LdapUserNode()
+                .setId("root-user")
+                .setDn("root-dn")
+                .setManagerDn("root-dn")
+                .setDirectReportsDn(List.of("moved-dn", "added-dn"));
+        var movedNode = new LdapUserNode()
+                .setId("moved-user")
+                .setDn("moved-dn")
+                .setManagerDn("root-dn");
+        var addedNode = new LdapUserNode()
+                .setId("added-user")
+                .setDn("added-dn")
+                .setManagerDn("root-dn")
+                .setDirectReportsDn(List.of("staff-dn"));
+        var staffNode = new LdapUserNode()
+                .setId("staff-user")
+                .setDn("staff-dn")
+                .setManagerDn("added-dn");
+
+        // persisted: root -> departed -> moved, root -> staff
+        var persistedRoot = createPersistedNode(1L, "root-user", null);
+        var persistedDeparted = createPersistedNode(2L, "departed-user", persistedRoot);
+        var persistedMoved = createPersistedNode(3L, "moved-user", persistedDeparted);
+        var persistedStaff = createPersistedNode(4L, "staff-user", persistedRoot);
+        var addedUser = new User("added-user");
+
+        given(hierarchyTreeNodeRepoMock.findAllFetchingUsers())
+                .willReturn(List.of(persistedRoot, persistedDeparted, persistedMoved, persistedStaff));
+        given(repoUserServiceMock.getOrCreateUsersByIds(List.of("added-user"))).willReturn(Map.of("added-user", addedUser));
+        given(hierarchyTreeNodeRepoMock.saveAll(anyList())).willAnswer(invocation -> {
+            List<HierarchyTreeNode> savedNodes = invocation.getArgument(0);
+            savedNodes.forEach(node -> node.setId(5L));
+
+            return savedNodes;
+        });
+        given(hierarchyTreeNodeRepoMock.findAllStaffRelations()).willReturn(List.of(
+                new StaffRelation(1L, 2L),
+                new StaffRelation(1L, 3L),
+                new StaffRelation(2L, 3L),
+                new StaffRelation(1L, 4L)
+        ));
+        given(hierarchyTreeNodeRepoMock.findAllNestedSetBounds()).willReturn(List.of(
+                new NestedSetBounds(1L, 1, 4),
+                new NestedSetBounds(2L, 2, 3),
+                new NestedSetBounds(3L, 3, 3),
+                new NestedSetBounds(4L, 4, 4)
+        ));
 
-        var firstRootUser = new User(firstRootUserId);
-        var secondRootUser = new User(secondRootUserId);
-        var firstRootChildUser = new User(firstRootChildUserId);
-        var secondRootChildUser = new User(secondRootChildUserId);
+        // when
+        userUpdater.updateHierarchy(List.of(rootNode, movedNode, addedNode, staffNode));
 
-        var firstRootDn = "first-root-dn";
-        var secondRootDn = "second-root-dn";
-        var firstRootChildDn = "first-root-child-dn";
-        var secondRootChildDn = "second-root-child-dn";
+        // then
+        verify(hierarchyTreeNodeRepoMock).saveAll(nodeListCaptor.capture());
+        verify(hierarchyTreeNodeRepoMock).deleteStaffRelations(Set.of(new StaffRelation(1L, 2L), new StaffRelation(2L, 3L)),
+                UserUpdater.STAFF_RELATION_BATCH_SIZE);
+        verify(hierarchyTreeNodeRepoMock).insertStaffRelations(Set.of(new StaffRelation(1L, 5L), new StaffRelation(5L, 4L)),
+                UserUpdater.STAFF_RELATION_BATCH_SIZE);
+        verify(hierarchyTreeNodeRepoMock).updateNestedSetBounds(List.of(new NestedSetBounds(3L, 2, 2), new NestedSetBounds(5L, 3, 4)),
+                UserUpdater.NESTED_SET_BOUNDS_BATCH_SIZE);
+        verify(hierarchyTreeNodeRepoMock).deleteAllByIdInBulk(List.of(2L));
+        verify(hierarchyTreeNodeRepoMock, never()).deleteAll();
+
+        var savedNode = nodeListCaptor.getValue().get(0);
+
+        var softly = new SoftAssertions();
+
+        softly.assertThat(nodeListCaptor.getValue()).hasSize(1);
+        softly.assertThat(savedNode.getUser()).isEqualTo(addedUser);
+        softly.assertThat(savedNode.getManager()).isSameAs(persistedRoot);
+        softly.assertThat(savedNode.isManagingUser()).isTrue();
+        softly.assertThat(persistedMoved.getManager()).isSameAs(persistedRoot);
+        softly.assertThat(persistedMoved.isManagingUser()).isFalse();
+        softly.assertThat(persistedStaff.getManager()).isSameAs(savedNode);
+        softly.assertThat(persistedRoot.isManagingUser()).isTrue();
+
+        softly.assertAll();
+    }
 
-        var firstRootNode = new LdapUserNode()
-                .setId(firstRootUserId)
-                .setDn(firstRootDn)
-                .setManagerDn(firstRootDn)
-                .setDirectReportsDn(List.of(firstRootChildDn));
-        var firstRootChildNode = new LdapUserNode()
-                .setId(firstRootChildUserId)
-                .setDn(firstRootChildDn)
-                .setManagerDn(firstRootDn);
+    @Test
+    public void updateStaffRelationsReplacesAllRelationsWhenMostRelationsRemoved() {
+        // given
+        var keptRelation = new StaffRelation(1L, 2L);
+        var staffRelations = Set.of(keptRelation, new StaffRelation(1L, 5L));
+
+        given(hierarchyTreeNodeRepoMock.findAllStaffRelations()).willReturn(List.of(
+                keptRelation,
+                new StaffRelation(1L, 3L),
+                new StaffRelation(1L, 4L)
+        ));
 
+        // when
+        userUpdater.updateStaffRelations(staffRelations);
+
+        // then
+        verify(hierarchyTreeNodeRepoMock).deleteAllStaffRelations();
+        verify(hierarchyTreeNodeRepoMock).insertStaffRelations(staffRelations, UserUpdater.STAFF_RELATION_BATCH_SIZE);
+        verify(hierarchyTreeNodeRepoMock, never()).deleteStaffRelations(anyCollection(), anyInt());
+    }
+
+    @Test
+    public void getManagerIdsByUserIdReturnsManagersInLevelOrder() {
+        // given
+        var firstRootNode = new LdapUserNode()
+                .setId("first-root-user")
+                .setDn("first-root-dn")
+                .setManagerDn("first-root-dn")
+                .setDirectReportsDn(List.of("first-level-dn"));
+        var firstLevelNode = new LdapUserNode()
+                .setId("first-level-user")
+                .setDn("first-level-dn")
+                .setManagerDn("first-root-dn")
+                .setDirectReportsDn(List.of("second-level-dn"));
+        var secondLevelNode = new LdapUserNode()
+                .setId("second-level-user")
+                .setDn("second-level-dn")
+                .setManagerDn("first-level-dn");
         var secondRootNode = new LdapUserNode()
-                .setId(secondRootUserId)
-                .setDn(secondRootDn)
-                .setManagerDn(secondRootDn)
-                .setDirectReportsDn(List.of(secondRootChildDn));
-        var secondRootChildNode = new LdapUserNode()
-                .setId(secondRootChildUserId)
-                .setDn(secondRootChildDn)
-                .setManagerDn(secondRootDn);
-
-        var firstRootChildHierarchyNode = new HierarchyTreeNode(firstRootChildUser);
-        var expectedFirstRootHierarchyNode = new HierarchyTreeNode(firstRootUser);
-        expectedFirstRootHierarchyNode.addDirectStaffMember(firstRootChildHierarchyNode);
-
-        var secondRootChildHierarchyNode = new HierarchyTreeNode(secondRootChildUser);
-        var expectedSecondRootHierarchyNode = new HierarchyTreeNode(secondRootUser);
-        expectedSecondRootHierarchyNode.addDirectStaffMember(secondRootChildHierarchyNode);
-
-        given(repoUserServiceMock.getOrCreateUserById(firstRootUserId)).willReturn(firstRootUser);
-        given(repoUserServiceMock.getOrCreateUserById(firstRootChildUserId)).willReturn(firstRootChildUser);
-        given(repoUserServiceMock.getOrCreateUserById(secondRootUserId)).willReturn(secondRootUser);
-        given(repoUserServiceMock.getOrCreateUserById(secondRootChildUserId)).willReturn(secondRootChildUser);
+                .setId("second-root-user")
+                .setDn("second-root-dn")
+                .setManagerDn("second-root-dn");
 
         // when
-        var actualRootHierarchyNodes = userUpdater.buildHierarchyTrees(List.of(firstRootNode, secondRootNode),
-                List.of(firstRootNode, secondRootNode, firstRootChildNode, secondRootChildNode));
+        var actualManagerIds = userUpdater.getManagerIdsByUserId(List.of(firstRootNode, secondRootNode),
+                List.of(secondLevelNode, firstRootNode, firstLevelNode, secondRootNode));
 
         // then
-        assertThat(actualRootHierarchyNodes).containsExactly(expectedFirstRootHierarchyNode, expectedSecondRootHierarchyNode);
+        assertThat(actualManagerIds.entrySet()).containsExactly(
+                new SimpleEntry<>("first-root-user", null),
+                new SimpleEntry<>("first-level-user", "first-root-user"),
+                new SimpleEntry<>("second-level-user", "first-level-user"),
+                new SimpleEntry<>("second-root-user", null)
+        );
     }
 
     @Test
-    public void buildHierarchyNodesThrowsExceptionWhenNodesMissing() {
+    public void getManagerIdsByUserIdThrowsExceptionWhenNodesMissing() {
         // given
-        var rootUserId = "root-user";
         var rootNodeDn = "root-dn";
         var missingNodeDn = "mssing-node-dn";
 
         var rootNode = new LdapUserNode()
-                .setId(rootUserId)
+                .setId("root-user")
                 .setDn(rootNodeDn)
                 .setManagerDn(rootNodeDn)
                 .setDirectReportsDn(List.of(missingNodeDn));
@@ -210,93 +331,28 @@ public class UserUpdaterTest {
         var expectedMessage = String.format("Child node with DN '%s' not found!", missingNodeDn);
 
         // when / then
-        assertThatThrownBy(() -> userUpdater.buildHierarchyTrees(List.of(rootNode), List.of(rootNode)))
+        assertThatThrownBy(() -> userUpdater.getManagerIdsByUserId(List.of(rootNode), List.of(rootNode)))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage(expectedMessage);
     }
 
     @Test
-    public void buildHierarchyNodeThrowsExceptionWhenChildNodesNotInLevelOrder() {
+    public void getManagerIdsByUserIdThrowsExceptionWhenManagerOfChildNotInTree() {
         // given
-        var rootUserId = "root-user";
-        var firstLevelUserId = "first-level-user";
-        var secondLevelUserId = "second-level-user";
-
-        var rootNodeDn = "root-dn";
-        var firstLevelDn = "first-level-dn";
-        var secondLevelDn = "second-level-dn";
-
         var rootNode = new LdapUserNode()
-                .setId(rootUserId)
-                .setDn(rootNodeDn)
-                .setManagerDn(rootNodeDn)
-                .setDirectReportsDn(List.of(firstLevelDn));
-
-        var firstLevelNode = new LdapUserNode()
-                .setId(firstLevelUserId)
-                .setDn(firstLevelDn)
-                .setManagerDn(rootNodeDn)
-                .setDirectReportsDn(List.of(secondLevelDn));
-
-        var secondLevelNode = new LdapUserNode()
-                .setId(secondLevelUserId)
-                .setDn(secondLevelDn)
-                .setManagerDn(firstLevelDn);
-
-        given(repoUserServiceMock.getOrCreateUserById(rootUserId)).willReturn(new User(rootUserId));
-        given(repoUserServiceMock.getOrCreateUserById(secondLevelUserId)).willReturn(new User(secondLevelUserId));
+                .setId("root-user")
+                .setDn("root-dn")
+                .setManagerDn("root-dn")
+                .setDirectReportsDn(List.of("child-dn"));
+        var childNode = new LdapUserNode()
+                .setId("child-user")
+                .setDn("child-dn")
+                .setManagerDn("other-dn");
 
         // when / then
-        assertThatThrownBy(() -> userUpdater.buildHierarchyNode(rootNode, List.of(secondLevelNode, firstLevelNode)))
+        assertThatThrownBy(() -> userUpdater.getManagerIdsByUserId(List.of(rootNode), List.of(rootNode, childNode)))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("Child nodes not in level order!");
-    }
-
-    @Test
-    public void buildHierarchyNodeReturnsExpectedHierarchyNode() {
-        // given
-        var rootUserId = "root-user";
-        var firstLevelUserId = "first-level-user";
-        var secondLevelUserId = "second-level-user";
-
-        var rootUser = new User(rootUserId);
-        var firstLevelUser = new User(firstLevelUserId);
-        var secondLevelUser = new User(secondLevelUserId);
-
-        var rootNodeDn = "root-dn";
-        var firstLevelDn = "first-level-dn";
-        var secondLevelDn = "second-level-dn";
-
-        var rootNode = new LdapUserNode()
-                .setId(rootUserId)
-                .setDn(rootNodeDn)
-                .setManagerDn(rootNodeDn)
-                .setDirectReportsDn(List.of(firstLevelDn));
-        var firstLevelNode = new LdapUserNode()
-                .setId(firstLevelUserId)
-                .setDn(firstLevelDn)
-                .setManagerDn(rootNodeDn)
-                .setDirectReportsDn(List.of(secondLevelDn));
-        var secondLevelNode = new LdapUserNode()
-                .setId(secondLevelUserId)
-                .setDn(secondLevelDn)
-                .setManagerDn(firstLevelDn);
-
-        var firstLevelHierarchy = new HierarchyTreeNode(firstLevelUser);
-        var secondLevelHierarchy = new HierarchyTreeNode(secondLevelUser);
-        var expectedHierarchyNode = new HierarchyTreeNode(rootUser);
-        expectedHierarchyNode.addDirectStaffMember(firstLevelHierarchy);
-        firstLevelHierarchy.addDirectStaffMember(secondLevelHierarchy);
-
-        given(repoUserServiceMock.getOrCreateUserById(rootUserId)).willReturn(rootUser);
-        given(repoUserServiceMock.getOrCreateUserById(firstLevelUserId)).willReturn(firstLevelUser);
-        given(repoUserServiceMock.getOrCreateUserById(secondLevelUserId)).willReturn(secondLevelUser);
-
-        // when
-        var actualHierarchyNode = userUpdater.buildHierarchyNode(rootNode, List.of(firstLevelNode, secondLevelNode));
-
-        // then
-        assertThat(actualHierarchyNode).isEqualTo(expectedHierarchyNode);
+                .hasMessage("Manager of child node with DN 'child-dn' not found!");
     }
 
     @Test
@@ -422,6 +478,26 @@ public class UserUpdaterTest {
         compareActualWithExpectedCleanedNodes(List.of(managerNode, staffNode), List.of(expectedManagerNode, expectedStaffNode));
     }
 
+    private UserDataSnapshot createSnapshot(long id, String userId, String firstName, String lastName, String email, String lob) {
+        var snapshotMock = mock(UserDataSnapshot.class);
+        given(snapshotMock.getId()).willReturn(id);
+        given(snapshotMock.getUserId()).willReturn(userId);
+        given(snapshotMock.getFirstName()).willReturn(firstName);
+        given(snapshotMock.getLastName()).willReturn(lastName);
+        given(snapshotMock.getEmail()).willReturn(email);
+        given(snapshotMock.getLob()).willReturn(lob);
+
+        return snapshotMock;
+    }
+
+    private HierarchyTreeNode createPersistedNode(long id, String userId, HierarchyTreeNode manager) {
+        var node = new HierarchyTreeNode(new User(userId));
+        node.setId(id);
+        node.setManager(manager);
+
+        return node;
+    }
+
     private void compareActualWithExpectedFilteredNodes(Collection<LdapUserNode> unfiltered, Collection<LdapUserNode> expectedFiltered) {
         // when
         var actualFiltered = userUpdater.filterNodesWithMissingManager(unfiltered);
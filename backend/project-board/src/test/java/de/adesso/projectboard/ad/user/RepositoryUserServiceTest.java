@@ -24,11 +24,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -228,23 +233,22 @@ public class RepositoryUserServiceTest {
     }
 
     @Test
-    public void userHasStaffMemberReturnsTrueWhenHierarchyPresentAndStaffContainsUser() {
+    public void userHasStaffMemberReturnsTrueWhenStaffMemberWithinBounds() {
         // given
-        given(hierarchyTreeNodeRepoMock.findByUser(userMock)).willReturn(Optional.of(hierarchyTreeNodeMock));
-        given(hierarchyTreeNodeRepoMock.existsByUserAndStaffContaining(userMock, hierarchyTreeNodeMock)).willReturn(true);
+        given(hierarchyTreeNodeRepoMock.existsByUserAndStaffMemberWithinBounds(userMock, otherUserMock)).willReturn(true);
 
         // when / then
-        compareUserHasStaffMemberWithExpectedHasStaffMember(userMock, userMock, true);
+        compareUserHasStaffMemberWithExpectedHasStaffMember(userMock, otherUserMock, true);
     }
 
     @Test
-    public void userHasStaffMemberReturnsFalseWhenHierarchyPresentAndStaffNotContainsUser() {
+    public void userHasStaffMemberReturnsFalseWhenHierarchyPresentAndStaffMemberNotWithinBounds() {
         // given
-        given(hierarchyTreeNodeRepoMock.findByUser(userMock)).willReturn(Optional.of(hierarchyTreeNodeMock));
-        given(hierarchyTreeNodeRepoMock.existsByUserAndStaffContaining(userMock, hierarchyTreeNodeMock)).willReturn(true);
+        given(hierarchyTreeNodeRepoMock.existsByUserAndStaffMemberWithinBounds(userMock, otherUserMock)).willReturn(false);
+        given(hierarchyTreeNodeRepoMock.existsByUser(otherUserMock)).willReturn(true);
 
         // when / then
-        compareUserHasStaffMemberWithExpectedHasStaffMember(userMock, userMock, true);
+        compareUserHasStaffMemberWithExpectedHasStaffMember(userMock, otherUserMock, false);
     }
 
     @Test
@@ -252,7 +256,8 @@ public class RepositoryUserServiceTest {
         // given
         var expectedMessage = String.format("Hierarchy for User with ID '%s' not found!", USER_ID);
 
-        given(hierarchyTreeNodeRepoMock.findByUser(userMock)).willReturn(Optional.empty());
+        given(hierarchyTreeNodeRepoMock.existsByUserAndStaffMemberWithinBounds(userMock, userMock)).willReturn(false);
+        given(hierarchyTreeNodeRepoMock.existsByUser(userMock)).willReturn(false);
 
         // when / then
         assertThatThrownBy(() -> repoUserService.userHasStaffMember(userMock, userMock))
@@ -480,6 +485,67 @@ public class RepositoryUserServiceTest {
         verify(userRepoMock).save(actualUser);
     }
 
+    @Test
+    public void getOrCreateUsersByIdsReturnsExistingUsers() {
+        // given
+        var otherUserId = "other-user";
+        given(otherUserMock.getId()).willReturn(otherUserId);
+
+        given(userRepoMock.findAllById(List.of(USER_ID, otherUserId))).willReturn(List.of(userMock, otherUserMock));
+
+        // when
+        var actualUsersById = repoUserService.getOrCreateUsersByIds(List.of(USER_ID, otherUserId, USER_ID));
+
+        // then
+        assertThat(actualUsersById).containsOnly(
+                MapEntry.entry(USER_ID, userMock),
+                MapEntry.entry(otherUserId, otherUserMock)
+        );
+        verify(userRepoMock, never()).insertAllByIds(anyCollection(), anyInt());
+    }
+
+    @Test
+    public void getOrCreateUsersByIdsInsertsMissingUsers() {
+        // given
+        var otherUserId = "other-user";
+        given(otherUserMock.getId()).willReturn(otherUserId);
+
+        given(userRepoMock.findAllById(List.of(USER_ID, otherUserId))).willReturn(List.of(userMock));
+        given(userRepoMock.findAllById(List.of(otherUserId))).willReturn(List.of(otherUserMock));
+
+        // when
+        var actualUsersById = repoUserService.getOrCreateUsersByIds(List.of(USER_ID, otherUserId));
+
+        // then
+        assertThat(actualUsersById).containsOnly(
+                MapEntry.entry(USER_ID, userMock),
+                MapEntry.entry(otherUserId, otherUserMock)
+        );
+        verify(userRepoMock).insertAllByIds(List.of(otherUserId), RepositoryUserService.USER_BATCH_SIZE);
+    }
+
+    @Test
+    public void getOrCreateUsersByIdsLoadsUsersInChunks() {
+        // given
+        var userIds = IntStream.range(0, RepositoryUserService.USER_ID_CHUNK_SIZE + 1)
+                .mapToObj(index -> "user-" + index)
+                .collect(Collectors.toList());
+        var users = userIds.stream()
+                .map(User::new)
+                .collect(Collectors.toList());
+
+        var chunkSize = RepositoryUserService.USER_ID_CHUNK_SIZE;
+        given(userRepoMock.findAllById(userIds.subList(0, chunkSize))).willReturn(users.subList(0, chunkSize));
+        given(userRepoMock.findAllById(userIds.subList(chunkSize, chunkSize + 1))).willReturn(users.subList(chunkSize, chunkSize + 1));
+
+        // when
+        var actualUsersById = repoUserService.getOrCreateUsersByIds(userIds);
+
+        // then
+        assertThat(actualUsersById).hasSize(userIds.size());
+        verify(userRepoMock, never()).insertAllByIds(anyCollection(), anyInt());
+    }
+
     @Test
     public void initializeThumbnailPhotosOnlyInitializeNonInitialized() {
         // given
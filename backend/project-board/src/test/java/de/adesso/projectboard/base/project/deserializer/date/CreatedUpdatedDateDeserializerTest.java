@@ -0,0 +1,42 @@
+package de.adesso.projectboard.base.project.deserializer.date;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import de.adesso.projectboard.base.project.persistence.Project;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CreatedUpdatedDateDeserializerTest {
+
+    private final ObjectReader projectReader = new ObjectMapper().readerFor(Project.class);
+
+    @Test
+    public void deserializeParsesDate() throws Exception {
+        // given
+        var json = "{\"created\": \"2018-01-01T13:37:00.000+0200\", \"updated\": null}";
+        var expectedCreated = LocalDateTime.of(2018, 1, 1, 13, 37);
+
+        // when
+        Project project = projectReader.readValue(json);
+
+        // then
+        assertThat(project.getCreated()).isEqualTo(expectedCreated);
+        assertThat(project.getUpdated()).isNull();
+    }
+
+    @Test
+    public void deserializeThrowsExceptionWhenValueIsNoString() {
+        // given
+        var json = "{\"created\": {\"value\": \"2018-01-01T13:37:00.000+0200\"}}";
+
+        // when
+        assertThatThrownBy(() -> projectReader.readValue(json))
+                .isInstanceOf(JsonMappingException.class);
+    }
+
+}
@@ -0,0 +1,62 @@
+package de.adesso.projectboard.base.project.deserializer.field;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import de.adesso.projectboard.base.project.persistence.Project;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ObjectFieldDeserializerTest {
+
+    private final ObjectReader projectReader = new ObjectMapper().readerFor(Project.class);
+
+    @Test
+    public void deserializeReturnsValueOfFieldAndSkipsOtherFields() throws Exception {
+        // given
+        var json = "{" +
+                "\"status\": {\"self\": \"https://jira/status/1\", \"statusCategory\": {\"name\": \"Category\"}, \"name\": \"open\"}," +
+                "\"customfield_10292\": {\"id\": \"1\", \"value\": \"LOB Test\", \"disabled\": false}," +
+                "\"summary\": \"Title\"" +
+                "}";
+
+        // when
+        Project project = projectReader.readValue(json);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(project.getStatus()).isEqualTo("open");
+        softly.assertThat(project.getLob()).isEqualTo("LOB Test");
+        softly.assertThat(project.getTitle()).isEqualTo("Title");
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void deserializeReturnsNullWhenFieldNotPresent() throws Exception {
+        // given
+        var json = "{\"status\": {\"id\": \"1\"}, \"customfield_10292\": null}";
+
+        // when
+        Project project = projectReader.readValue(json);
+
+        // then
+        assertThat(project.getStatus()).isNull();
+        assertThat(project.getLob()).isNull();
+    }
+
+    @Test
+    public void deserializeThrowsExceptionWhenValueIsNoObject() {
+        // given
+        var json = "{\"status\": \"open\"}";
+
+        // when
+        assertThatThrownBy(() -> projectReader.readValue(json))
+                .isInstanceOf(JsonMappingException.class);
+    }
+
+}
@@ -1,17 +1,25 @@
 package de.adesso.projectboard.base.project.persistence;
 
 import org.assertj.core.api.SoftAssertions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @RunWith(SpringRunner.class)
 @DataJpaTest
@@ -21,6 +29,9 @@ public class ProjectPersistenceTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     public void save() {
         // given
@@ -147,4 +158,97 @@ public class ProjectPersistenceTest {
         assertThat(persistedProject.getId()).isEqualTo(expectedProjectId);
     }
 
+    @Test
+    public void findFingerprintsByIdInReturnsFingerprintsOfExistingProjects() {
+        // given
+        var updated = LocalDateTime.of(2018, 2, 2, 13, 37);
+
+        projectRepository.save(new Project().setId("STF-1").setFingerprint("fingerprint").setUpdated(updated));
+        projectRepository.save(new Project().setId("STF-2"));
+
+        // when
+        var fingerprints = projectRepository.findFingerprintsByIdIn(List.of("STF-1", "STF-2", "STF-3"));
+
+        // then
+        assertThat(fingerprints)
+                .extracting(ProjectFingerprint::getId, ProjectFingerprint::getFingerprint, ProjectFingerprint::getUpdated)
+                .containsExactlyInAnyOrder(tuple("STF-1", "fingerprint", updated), tuple("STF-2", null, null));
+    }
+
+    @Test
+    public void upsertAllInsertsNewAndUpdatesExistingProjects() {
+        // given
+        var created = LocalDateTime.of(2018, 2, 1, 13, 37);
+        var updated = LocalDateTime.of(2018, 2, 2, 13, 37);
+
+        projectRepository.saveAndFlush(new Project()
+                .setId("STF-1")
+                .setTitle("Old Title")
+                .setLabels(List.of("Old Label"))
+                .setCreated(created));
+        entityManager.clear();
+
+        var updatedProject = new Project()
+                .setId("STF-1")
+                .setStatus("eskaliert")
+                .setTitle("New Title")
+                .setLabels(List.of("Label 1", "Label 2"))
+                .setDescription("Description")
+                .setCreated(created)
+                .setUpdated(updated)
+                .setFingerprint("fingerprint");
+
+        var newProject = new Project()
+                .setId("STF-2")
+                .setTitle("Title")
+                .setLabels(List.of())
+                .setJob("Job")
+                .setCreated(created);
+
+        // when
+        projectRepository.upsertAll(List.of(updatedProject, newProject), 1);
+        entityManager.clear();
+
+        // then
+        var actualUpdatedProject = projectRepository.findById("STF-1").orElseThrow();
+        var actualNewProject = projectRepository.findById("STF-2").orElseThrow();
+
+        // persistent bags are only equal to themselves
+        var softly = new SoftAssertions();
+
+        softly.assertThat(projectRepository.supportsUpsert()).isTrue();
+        softly.assertThat(actualUpdatedProject).isEqualToIgnoringGivenFields(updatedProject, "labels");
+        softly.assertThat(actualUpdatedProject.getLabels()).containsExactlyInAnyOrder("Label 1", "Label 2");
+        softly.assertThat(actualNewProject).isEqualToIgnoringGivenFields(newProject, "labels");
+        softly.assertThat(actualNewProject.getLabels()).isEmpty();
+        softly.assertThat(projectRepository.count()).isEqualTo(2L);
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void upsertColumnsMatchColumnsOfPersistentProperties() {
+        // given
+        var entityPersister = (AbstractEntityPersister) entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMetamodel()
+                .entityPersister(Project.class);
+
+        // collections like the labels are stored in their own table
+        var expectedColumnNames = Stream.concat(
+                Arrays.stream(entityPersister.getIdentifierColumnNames()),
+                IntStream.range(0, entityPersister.getPropertyNames().length)
+                        .filter(propertyIndex -> !entityPersister.getPropertyTypes()[propertyIndex].isCollectionType())
+                        .mapToObj(propertyIndex -> entityPersister.getPropertyColumnNames(propertyIndex))
+                        .flatMap(Arrays::stream))
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
+
+        // when
+        var actualColumnNames = ProjectUpsertRepositoryImpl.getColumnNames();
+
+        // then
+        assertThat(actualColumnNames).containsExactlyInAnyOrderElementsOf(expectedColumnNames);
+    }
+
 }
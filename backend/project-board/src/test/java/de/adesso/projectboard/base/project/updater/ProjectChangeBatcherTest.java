@@ -0,0 +1,207 @@
+package de.adesso.projectboard.base.project.updater;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.service.ProjectService;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ProjectChangeBatcherTest {
+
+    private static final String DELETED_STATUS = "closed";
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2019-01-01T12:00:00Z"), ZoneId.systemDefault());
+
+    @Mock
+    private ProjectUpdater projectUpdaterMock;
+
+    @Mock
+    private ProjectService projectServiceMock;
+
+    private ProjectChangeBatcher projectChangeBatcher;
+
+    @Before
+    public void setUp() {
+        this.projectChangeBatcher = new ProjectChangeBatcher(projectUpdaterMock, projectServiceMock,
+                Duration.ofMillis(50L), 3, DELETED_STATUS, CLOCK);
+
+        projectChangeBatcher.afterPropertiesSet();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        projectChangeBatcher.destroy();
+    }
+
+    @Test
+    public void constructorThrowsExceptionWhenBatchSizeNotPositive() {
+        // given / when / then
+        assertThatThrownBy(() -> new ProjectChangeBatcher(projectUpdaterMock, projectServiceMock, Duration.ZERO, 0, DELETED_STATUS, CLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void submitChangedSavesCoalescedChangesAfterBatchDelay() {
+        // given
+        var firstProject = new Project().setId("STF-1").setTitle("First");
+        var secondProject = new Project().setId("STF-2");
+        var updatedFirstProject = new Project().setId("STF-1").setTitle("Updated");
+
+        // when
+        projectChangeBatcher.submitChanged(firstProject);
+        projectChangeBatcher.submitChanged(secondProject);
+        projectChangeBatcher.submitChanged(updatedFirstProject);
+
+        // then
+        verify(projectUpdaterMock, timeout(1000L)).saveProjects(List.of(updatedFirstProject, secondProject));
+    }
+
+    @Test
+    public void submitChangedSavesChangesImmediatelyWhenMaxBatchSizeReached() {
+        // given
+        var projectChangeBatcher = new ProjectChangeBatcher(projectUpdaterMock, projectServiceMock,
+                Duration.ofMinutes(1L), 2, DELETED_STATUS, CLOCK);
+        projectChangeBatcher.afterPropertiesSet();
+
+        var firstProject = new Project().setId("STF-1");
+        var secondProject = new Project().setId("STF-2");
+
+        // when
+        projectChangeBatcher.submitChanged(firstProject);
+        projectChangeBatcher.submitChanged(secondProject);
+
+        // then
+        verify(projectUpdaterMock, timeout(1000L)).saveProjects(List.of(firstProject, secondProject));
+    }
+
+    @Test
+    public void submitDeletedSavesExistingProjectsWithDeletedStatus() {
+        // given
+        var changedProject = new Project().setId("STF-1");
+        var deletedProject = new Project().setId("STF-2").setStatus("open");
+
+        given(projectServiceMock.getProjectsByIds(Set.of("STF-2"))).willReturn(List.of(deletedProject));
+
+        // when
+        projectChangeBatcher.submitChanged(changedProject);
+        projectChangeBatcher.submitDeleted("STF-2");
+
+        // then
+        verify(projectUpdaterMock, timeout(1000L)).saveProjects(List.of(changedProject, deletedProject));
+
+        var softly = new SoftAssertions();
+
+        softly.assertThat(deletedProject.getStatus()).isEqualTo(DELETED_STATUS);
+        softly.assertThat(deletedProject.getUpdated()).isEqualTo(LocalDateTime.now(CLOCK));
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void submitDeletedDiscardsPendingChangeOfProject() {
+        // given
+        var deletedProject = new Project().setId("STF-1").setStatus("open");
+
+        given(projectServiceMock.getProjectsByIds(Set.of("STF-1"))).willReturn(List.of(deletedProject));
+
+        // when
+        projectChangeBatcher.submitChanged(new Project().setId("STF-1").setStatus("eskaliert"));
+        projectChangeBatcher.submitDeleted("STF-1");
+
+        // then
+        verify(projectUpdaterMock, timeout(1000L)).saveProjects(List.of(deletedProject));
+    }
+
+    @Test
+    public void flushLogsErrorAndContinuesWithNextBatch() {
+        // given
+        var firstProject = new Project().setId("STF-1");
+        var secondProject = new Project().setId("STF-2");
+
+        willThrow(new IllegalStateException()).given(projectUpdaterMock).saveProjects(List.of(firstProject));
+
+        // when
+        projectChangeBatcher.submitChanged(firstProject);
+        projectChangeBatcher.flush();
+        projectChangeBatcher.submitChanged(secondProject);
+
+        // then
+        verify(projectUpdaterMock, timeout(1000L)).saveProjects(List.of(secondProject));
+    }
+
+    @Test
+    public void flushSubmitsDeletionAgainWhenBatchFails() {
+        // given
+        var deletedProject = new Project().setId("STF-1").setStatus("open");
+
+        given(projectServiceMock.getProjectsByIds(Set.of("STF-1")))
+                .willThrow(new IllegalStateException())
+                .willReturn(List.of(deletedProject));
+
+        // when
+        projectChangeBatcher.submitDeleted("STF-1");
+
+        // then
+        verify(projectUpdaterMock, timeout(1000L)).saveProjects(List.of(deletedProject));
+    }
+
+    @Test
+    public void flushGivesUpDeletionAfterMaxAttempts() {
+        // given
+        given(projectServiceMock.getProjectsByIds(Set.of("STF-1"))).willThrow(new IllegalStateException());
+
+        // when
+        projectChangeBatcher.submitDeleted("STF-1");
+
+        // then
+        verify(projectServiceMock, after(500L).times(ProjectChangeBatcher.MAX_DELETE_ATTEMPTS)).getProjectsByIds(Set.of("STF-1"));
+        verifyZeroInteractions(projectUpdaterMock);
+    }
+
+    @Test
+    public void flushDoesNothingWithoutPendingChanges() {
+        // given / when
+        projectChangeBatcher.flush();
+
+        // then
+        verify(projectUpdaterMock, after(100L).never()).saveProjects(List.of());
+        verifyZeroInteractions(projectServiceMock);
+    }
+
+    @Test
+    public void destroySavesPendingChanges() throws InterruptedException {
+        // given
+        var project = new Project().setId("STF-1");
+        projectChangeBatcher.submitChanged(project);
+
+        // when
+        projectChangeBatcher.destroy();
+
+        // then
+        verify(projectUpdaterMock).saveProjects(List.of(project));
+    }
+
+}
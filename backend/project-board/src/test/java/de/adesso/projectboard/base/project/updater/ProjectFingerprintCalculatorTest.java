@@ -0,0 +1,81 @@
+package de.adesso.projectboard.base.project.updater;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProjectFingerprintCalculatorTest {
+
+    @Test
+    public void calculateFingerprintIgnoresIdAndFingerprint() {
+        // given
+        var firstProject = createProject().setId("STF-1");
+        var secondProject = createProject().setId("STF-2").setFingerprint("fingerprint");
+
+        // when
+        var firstFingerprint = ProjectFingerprintCalculator.calculateFingerprint(firstProject);
+        var secondFingerprint = ProjectFingerprintCalculator.calculateFingerprint(secondProject);
+
+        // then
+        assertThat(firstFingerprint)
+                .hasSize(32)
+                .isEqualTo(secondFingerprint);
+    }
+
+    @Test
+    public void calculateFingerprintDiffersWhenFieldChanged() {
+        // given
+        var project = createProject();
+        var changedProject = createProject().setUpdated(LocalDateTime.of(2019, 3, 2, 10, 0));
+
+        // when
+        var fingerprint = ProjectFingerprintCalculator.calculateFingerprint(project);
+        var changedFingerprint = ProjectFingerprintCalculator.calculateFingerprint(changedProject);
+
+        // then
+        assertThat(fingerprint).isNotEqualTo(changedFingerprint);
+    }
+
+    @Test
+    public void calculateFingerprintDiffersWhenContentShiftedBetweenFields() {
+        // given
+        var project = createProject().setStatus("open").setIssuetype("Staffinganfrage");
+        var shiftedProject = createProject().setStatus("openStaffing").setIssuetype("anfrage");
+
+        // when
+        var fingerprint = ProjectFingerprintCalculator.calculateFingerprint(project);
+        var shiftedFingerprint = ProjectFingerprintCalculator.calculateFingerprint(shiftedProject);
+
+        // then
+        assertThat(fingerprint).isNotEqualTo(shiftedFingerprint);
+    }
+
+    @Test
+    public void calculateFingerprintDiffersWhenLabelsNullOrEmpty() {
+        // given
+        var project = createProject().setLabels(null);
+        var otherProject = createProject().setLabels(List.of());
+
+        // when
+        var fingerprint = ProjectFingerprintCalculator.calculateFingerprint(project);
+        var otherFingerprint = ProjectFingerprintCalculator.calculateFingerprint(otherProject);
+
+        // then
+        assertThat(fingerprint).isNotEqualTo(otherFingerprint);
+    }
+
+    private Project createProject() {
+        return new Project()
+                .setStatus("open")
+                .setTitle("Title")
+                .setLabels(List.of("Label 1", "Label 2"))
+                .setDescription("Description")
+                .setCreated(LocalDateTime.of(2019, 3, 1, 10, 0))
+                .setUpdated(LocalDateTime.of(2019, 3, 1, 12, 0));
+    }
+
+}
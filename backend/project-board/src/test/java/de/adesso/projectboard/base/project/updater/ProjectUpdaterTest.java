@@ -3,11 +3,16 @@ package de.adesso.projectboard.base.project.updater;
 import de.adesso.projectboard.base.configuration.ProjectBoardConfigurationProperties;
 import de.adesso.projectboard.base.normalizer.Normalizer;
 import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.persistence.ProjectFingerprint;
 import de.adesso.projectboard.base.project.service.ProjectService;
+import de.adesso.projectboard.base.project.updater.persistence.ProjectUpdateCheckpoint;
+import de.adesso.projectboard.base.project.updater.persistence.ProjectUpdateCheckpointRepository;
 import de.adesso.projectboard.base.reader.ProjectReader;
+import org.assertj.core.api.SoftAssertions;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -19,9 +24,19 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -29,15 +44,23 @@ public class ProjectUpdaterTest {
 
     private static final long REFRESH_INTERVAL = 10;
 
+    private static final int CHUNK_SIZE = 2;
+
     @Captor
     private ArgumentCaptor<List<Project>> projectListCaptor;
 
+    @Captor
+    private ArgumentCaptor<ProjectUpdateCheckpoint> checkpointCaptor;
+
     @Mock
     private ProjectService projectServiceMock;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private ProjectReader projectReaderMock;
 
+    @Mock
+    private ProjectUpdateCheckpointRepository checkpointRepoMock;
+
     @Mock
     private ProjectBoardConfigurationProperties pbConfigPropertiesMock;
 
@@ -57,9 +80,10 @@ public class ProjectUpdaterTest {
         var zoneId = ZoneId.systemDefault();
 
         given(pbConfigPropertiesMock.getRefreshInterval()).willReturn(REFRESH_INTERVAL);
+        given(pbConfigPropertiesMock.getProjectUpdateChunkSize()).willReturn(CHUNK_SIZE);
 
         this.clock = Clock.fixed(instant, zoneId);
-        this.projectUpdater = new ProjectUpdater(projectServiceMock, projectReaderMock, pbConfigPropertiesMock, List.of(normalizerMock), clock);
+        this.projectUpdater = new ProjectUpdater(projectServiceMock, projectReaderMock, checkpointRepoMock, pbConfigPropertiesMock, List.of(normalizerMock), clock);
     }
 
     @Test
@@ -77,7 +101,7 @@ public class ProjectUpdaterTest {
         projectUpdater.execute(lastExecuteTime);
 
         // then
-        verify(projectServiceMock).saveAll(projectListCaptor.capture());
+        verify(projectServiceMock).upsertAll(projectListCaptor.capture());
 
         var actualProjects = projectListCaptor.getValue();
         assertThat(actualProjects).containsExactlyElementsOf(expectedProjects);
@@ -97,12 +121,330 @@ public class ProjectUpdaterTest {
         projectUpdater.execute();
 
         // then
-        verify(projectServiceMock).saveAll(projectListCaptor.capture());
+        verify(projectServiceMock).upsertAll(projectListCaptor.capture());
 
         var actualProjects = projectListCaptor.getValue();
         assertThat(actualProjects).containsExactlyElementsOf(expectedProjects);
     }
 
+    @Test
+    public void executeSavesInitialProjectsInChunks() throws Exception {
+        // given
+        var firstProject = new Project().setId("STF-1");
+        var secondProject = new Project().setId("STF-2");
+        var thirdProject = new Project().setId("STF-3");
+
+        var firstChunk = List.of(firstProject, secondProject);
+        var secondChunk = List.of(thirdProject);
+
+        given(projectReaderMock.getInitialProjects())
+                .willReturn(List.of(firstProject, secondProject, thirdProject));
+        given(normalizerMock.normalize(firstChunk))
+                .willReturn(firstChunk);
+        given(normalizerMock.normalize(secondChunk))
+                .willReturn(secondChunk);
+
+        // when
+        projectUpdater.execute();
+
+        // then
+        verify(projectServiceMock, times(2)).upsertAll(projectListCaptor.capture());
+
+        assertThat(projectListCaptor.getAllValues()).containsExactly(firstChunk, secondChunk);
+    }
+
+    @Test
+    public void executeOnlySavesNewAndChangedProjects() throws Exception {
+        // given
+        var lastExecuteTime = LocalDateTime.now(clock);
+
+        var newProject = new Project().setId("STF-1").setTitle("New");
+        var changedProject = new Project().setId("STF-2").setTitle("Changed");
+        var unchangedProject = new Project().setId("STF-3").setTitle("Unchanged");
+        var projects = List.of(newProject, changedProject, unchangedProject);
+
+        var unchangedFingerprint = ProjectFingerprintCalculator.calculateFingerprint(unchangedProject);
+        var existingFingerprints = Map.of(
+                "STF-2", createFingerprint("STF-2", "outdated", null),
+                "STF-3", createFingerprint("STF-3", unchangedFingerprint, null)
+        );
+
+        given(pbConfigPropertiesMock.getProjectUpdateChunkSize()).willReturn(3);
+        given(projectReaderMock.getAllProjectsSince(lastExecuteTime)).willReturn(projects);
+        given(normalizerMock.normalize(projects)).willReturn(projects);
+        given(projectServiceMock.getFingerprintsByIds(List.of("STF-1", "STF-2", "STF-3"))).willReturn(existingFingerprints);
+
+        var projectUpdater = new ProjectUpdater(projectServiceMock, projectReaderMock, checkpointRepoMock, pbConfigPropertiesMock, List.of(normalizerMock), clock);
+
+        // when
+        projectUpdater.execute(lastExecuteTime);
+
+        // then
+        verify(projectServiceMock).upsertAll(projectListCaptor.capture());
+
+        var softly = new SoftAssertions();
+
+        softly.assertThat(projectListCaptor.getValue()).containsExactly(newProject, changedProject);
+        softly.assertThat(changedProject.getFingerprint()).isEqualTo(ProjectFingerprintCalculator.calculateFingerprint(changedProject));
+        softly.assertThat(projectUpdater.getLastExecutionCounts()).containsOnly(
+                Map.entry(ProjectUpdater.INSERTED_COUNT_NAME, 1L),
+                Map.entry(ProjectUpdater.UPDATED_COUNT_NAME, 1L),
+                Map.entry(ProjectUpdater.UNCHANGED_COUNT_NAME, 1L)
+        );
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void executeDoesNotSaveWhenNoProjectChanged() throws Exception {
+        // given
+        var project = new Project().setId("STF-1").setTitle("Unchanged");
+        var projects = List.of(project);
+
+        given(projectReaderMock.getInitialProjects()).willReturn(projects);
+        given(normalizerMock.normalize(projects)).willReturn(projects);
+        given(projectServiceMock.getFingerprintsByIds(List.of("STF-1")))
+                .willReturn(Map.of("STF-1", createFingerprint("STF-1", ProjectFingerprintCalculator.calculateFingerprint(project), null)));
+
+        // when
+        projectUpdater.execute();
+
+        // then
+        verify(projectServiceMock, never()).upsertAll(anyList());
+
+        assertThat(projectUpdater.getLastExecutionCounts()).containsEntry(ProjectUpdater.UNCHANGED_COUNT_NAME, 1L);
+    }
+
+    @Test
+    public void saveProjectsSavesNormalizedChangedProjectsWithoutCountingThem() {
+        // given
+        var changedProject = new Project().setId("STF-1").setTitle("Changed");
+        var unchangedProject = new Project().setId("STF-2").setTitle("Unchanged");
+        var projects = List.of(changedProject, unchangedProject);
+
+        given(normalizerMock.normalize(projects)).willReturn(projects);
+        given(projectServiceMock.getFingerprintsByIds(List.of("STF-1", "STF-2")))
+                .willReturn(Map.of("STF-2", createFingerprint("STF-2", ProjectFingerprintCalculator.calculateFingerprint(unchangedProject), null)));
+
+        // when
+        projectUpdater.saveProjects(projects);
+
+        // then
+        verify(projectServiceMock).upsertAll(List.of(changedProject));
+
+        assertThat(projectUpdater.getLastExecutionCounts()).containsOnly(
+                Map.entry(ProjectUpdater.INSERTED_COUNT_NAME, 0L),
+                Map.entry(ProjectUpdater.UPDATED_COUNT_NAME, 0L),
+                Map.entry(ProjectUpdater.UNCHANGED_COUNT_NAME, 0L)
+        );
+    }
+
+    @Test
+    public void executeDoesNotOverwriteProjectsSavedWithNewerUpdatedTime() throws Exception {
+        // given
+        var lastExecuteTime = LocalDateTime.now(clock).minusDays(1L);
+        var readUpdated = lastExecuteTime.plusHours(1L);
+        var pushedUpdated = lastExecuteTime.plusHours(2L);
+
+        // the first project was pushed by the source system after the execution read it
+        var outdatedProject = new Project().setId("STF-1").setTitle("Outdated").setUpdated(readUpdated);
+        var changedProject = new Project().setId("STF-2").setTitle("Changed").setUpdated(readUpdated);
+        var projects = List.of(outdatedProject, changedProject);
+
+        given(pbConfigPropertiesMock.getProjectUpdateChunkSize()).willReturn(2);
+        given(projectReaderMock.getAllProjectsSince(lastExecuteTime)).willReturn(projects);
+        given(normalizerMock.normalize(projects)).willReturn(projects);
+        given(projectServiceMock.getFingerprintsByIds(List.of("STF-1", "STF-2"))).willReturn(Map.of(
+                "STF-1", createFingerprint("STF-1", "pushed", pushedUpdated),
+                "STF-2", createFingerprint("STF-2", "outdated", lastExecuteTime)
+        ));
+
+        var projectUpdater = new ProjectUpdater(projectServiceMock, projectReaderMock, checkpointRepoMock, pbConfigPropertiesMock, List.of(normalizerMock), clock);
+
+        // when
+        projectUpdater.execute(lastExecuteTime);
+
+        // then
+        verify(projectServiceMock).upsertAll(List.of(changedProject));
+
+        assertThat(projectUpdater.getLastExecutionCounts()).containsOnly(
+                Map.entry(ProjectUpdater.INSERTED_COUNT_NAME, 0L),
+                Map.entry(ProjectUpdater.UPDATED_COUNT_NAME, 1L),
+                Map.entry(ProjectUpdater.UNCHANGED_COUNT_NAME, 1L)
+        );
+    }
+
+    @Test
+    public void saveProjectsSavesProjectsUpdatedAtSameTimeAsSavedProject() {
+        // given
+        var updated = LocalDateTime.now(clock);
+        var changedProject = new Project().setId("STF-1").setTitle("Changed").setUpdated(updated);
+        var projects = List.of(changedProject);
+
+        given(normalizerMock.normalize(projects)).willReturn(projects);
+        given(projectServiceMock.getFingerprintsByIds(List.of("STF-1")))
+                .willReturn(Map.of("STF-1", createFingerprint("STF-1", "outdated", updated)));
+
+        // when
+        projectUpdater.saveProjects(projects);
+
+        // then
+        verify(projectServiceMock).upsertAll(List.of(changedProject));
+    }
+
+    @Test
+    public void executeWaitsForConcurrentlySavedProjectsBeforeComparing() throws Exception {
+        // given
+        var lastExecuteTime = LocalDateTime.now(clock).minusDays(1L);
+        var readProject = new Project().setId("STF-1").setTitle("Read").setUpdated(lastExecuteTime.plusHours(1L));
+        var pushedProject = new Project().setId("STF-1").setTitle("Pushed").setUpdated(lastExecuteTime.plusHours(2L));
+
+        var savedFingerprints = new ConcurrentHashMap<String, ProjectFingerprint>();
+        var pushedProjectSaving = new CountDownLatch(1);
+
+        given(normalizerMock.normalize(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        given(projectReaderMock.getAllProjectsSince(lastExecuteTime)).willReturn(List.of(readProject));
+        given(projectServiceMock.getFingerprintsByIds(List.of("STF-1"))).willAnswer(invocation -> Map.copyOf(savedFingerprints));
+        willAnswer(invocation -> {
+            List<Project> savedProjects = invocation.getArgument(0);
+            if(savedProjects.contains(pushedProject)) {
+                // the execution compares the fingerprints while the pushed project is being saved
+                pushedProjectSaving.countDown();
+                Thread.sleep(200L);
+            }
+
+            savedProjects.forEach(project -> savedFingerprints.put(project.getId(),
+                    createFingerprint(project.getId(), project.getFingerprint(), project.getUpdated())));
+
+            return null;
+        }).given(projectServiceMock).upsertAll(anyList());
+
+        var pushedProjectSaved = CompletableFuture.runAsync(() -> projectUpdater.saveProjects(List.of(pushedProject)));
+        pushedProjectSaving.await(5L, TimeUnit.SECONDS);
+
+        // when
+        projectUpdater.execute(lastExecuteTime);
+        pushedProjectSaved.get(5L, TimeUnit.SECONDS);
+
+        // then
+        verify(projectServiceMock, never()).upsertAll(List.of(readProject));
+
+        assertThat(savedFingerprints.get("STF-1").getUpdated()).isEqualTo(pushedProject.getUpdated());
+    }
+
+    @Test
+    public void executeWithTimeSavesCheckpointAfterEachChunk() throws Exception {
+        // given
+        var lastExecuteTime = LocalDateTime.now(clock).minusDays(1L);
+        var firstUpdated = lastExecuteTime.plusHours(1L);
+        var secondUpdated = lastExecuteTime.plusHours(2L);
+
+        var firstProject = new Project().setId("STF-1").setUpdated(firstUpdated);
+        var secondProject = new Project().setId("STF-2").setUpdated(secondUpdated);
+        var thirdProject = new Project().setId("STF-3").setUpdated(secondUpdated);
+        var projects = List.of(firstProject, secondProject, thirdProject);
+
+        given(projectReaderMock.getAllProjectsSince(lastExecuteTime)).willReturn(projects);
+        given(normalizerMock.normalize(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        projectUpdater.execute(lastExecuteTime);
+
+        // then
+        verify(checkpointRepoMock, times(2)).save(checkpointCaptor.capture());
+
+        var softly = new SoftAssertions();
+
+        softly.assertThat(checkpointCaptor.getAllValues()).containsExactly(
+                new ProjectUpdateCheckpoint(ProjectUpdater.JOB_IDENTIFIER, "STF-2", secondUpdated, LocalDateTime.now(clock)),
+                new ProjectUpdateCheckpoint(ProjectUpdater.JOB_IDENTIFIER, "STF-3", secondUpdated, LocalDateTime.now(clock))
+        );
+        softly.assertThat(projectUpdater.getLastExecutionWatermark()).contains(secondUpdated);
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void executeWithTimeResumesFromCheckpointAndDeletesItAfterwards() throws Exception {
+        // given
+        var lastExecuteTime = LocalDateTime.now(clock).minusDays(1L);
+        var checkpointUpdated = lastExecuteTime.plusHours(3L);
+        var checkpoint = new ProjectUpdateCheckpoint(ProjectUpdater.JOB_IDENTIFIER, "STF-1", checkpointUpdated, LocalDateTime.now(clock));
+
+        given(checkpointRepoMock.findById(ProjectUpdater.JOB_IDENTIFIER)).willReturn(Optional.of(checkpoint));
+        given(checkpointRepoMock.existsById(ProjectUpdater.JOB_IDENTIFIER)).willReturn(true);
+        given(projectReaderMock.getAllProjectsSince(checkpointUpdated)).willReturn(List.of());
+
+        // when
+        projectUpdater.execute(lastExecuteTime);
+
+        // then
+        verify(projectReaderMock).getAllProjectsSince(checkpointUpdated);
+        verify(checkpointRepoMock).deleteById(ProjectUpdater.JOB_IDENTIFIER);
+
+        assertThat(projectUpdater.getLastExecutionWatermark()).contains(checkpointUpdated);
+    }
+
+    @Test
+    public void executeWithTimeIgnoresCheckpointBeforeLastExecuteTime() throws Exception {
+        // given
+        var lastExecuteTime = LocalDateTime.now(clock).minusDays(1L);
+        var checkpoint = new ProjectUpdateCheckpoint(ProjectUpdater.JOB_IDENTIFIER, "STF-1",
+                lastExecuteTime.minusHours(1L), LocalDateTime.now(clock));
+
+        given(checkpointRepoMock.findById(ProjectUpdater.JOB_IDENTIFIER)).willReturn(Optional.of(checkpoint));
+        given(projectReaderMock.getAllProjectsSince(lastExecuteTime)).willReturn(List.of());
+
+        // when
+        projectUpdater.execute(lastExecuteTime);
+
+        // then
+        verify(projectReaderMock).getAllProjectsSince(lastExecuteTime);
+
+        assertThat(projectUpdater.getLastExecutionWatermark()).contains(lastExecuteTime);
+    }
+
+    @Test
+    public void executeResumesInitialProjectsFromCheckpoint() throws Exception {
+        // given
+        var checkpointUpdated = LocalDateTime.now(clock).minusDays(1L);
+        var checkpoint = new ProjectUpdateCheckpoint(ProjectUpdater.JOB_IDENTIFIER, "STF-1", checkpointUpdated, LocalDateTime.now(clock));
+
+        var committedProject = new Project().setId("STF-1").setUpdated(checkpointUpdated.minusHours(1L));
+        var remainingProject = new Project().setId("STF-2").setUpdated(checkpointUpdated.plusHours(1L));
+
+        given(checkpointRepoMock.findById(ProjectUpdater.JOB_IDENTIFIER)).willReturn(Optional.of(checkpoint));
+        given(projectReaderMock.getInitialProjects()).willReturn(List.of(committedProject, remainingProject));
+        given(normalizerMock.normalize(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        projectUpdater.execute();
+
+        // then
+        verify(projectServiceMock).upsertAll(projectListCaptor.capture());
+
+        var softly = new SoftAssertions();
+
+        softly.assertThat(projectListCaptor.getValue()).containsExactly(remainingProject);
+        softly.assertThat(projectUpdater.getLastExecutionWatermark()).contains(remainingProject.getUpdated());
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void executeReturnsEmptyWatermarkWhenNoProjectHasUpdatedTime() throws Exception {
+        // given
+        given(projectReaderMock.getInitialProjects()).willReturn(List.of());
+
+        // when
+        projectUpdater.execute();
+
+        // then
+        verify(checkpointRepoMock, never()).save(checkpointCaptor.capture());
+
+        assertThat(projectUpdater.getLastExecutionWatermark()).isEmpty();
+    }
+
     @Test
     public void getJobIdentifierReturnsExpectedIdentifier() {
         // given
@@ -153,4 +495,25 @@ public class ProjectUpdaterTest {
         assertThat(actualShouldUpdate).isFalse();
     }
 
+    private ProjectFingerprint createFingerprint(String id, String fingerprint, LocalDateTime updated) {
+        return new ProjectFingerprint() {
+
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public String getFingerprint() {
+                return fingerprint;
+            }
+
+            @Override
+            public LocalDateTime getUpdated() {
+                return updated;
+            }
+
+        };
+    }
+
 }
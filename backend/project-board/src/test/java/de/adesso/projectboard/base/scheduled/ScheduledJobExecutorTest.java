@@ -115,6 +115,59 @@ public class ScheduledJobExecutorTest {
         assertThat(actualJobLog).isEqualTo(expectedJobLog);
     }
 
+    @Test
+    public void executeJobsPassesWatermarkOfLastLogAndPersistsNewWatermark() throws Exception {
+        // given
+        var jobId = "JOB";
+        var currentTime = LocalDateTime.now(clock);
+        var lastExecuteTime = currentTime.minus(10L, ChronoUnit.MINUTES);
+        var lastWatermark = currentTime.minus(30L, ChronoUnit.MINUTES);
+        var newWatermark = currentTime.minus(5L, ChronoUnit.MINUTES);
+
+        var persistedJobLog = new ScheduledJobLog(lastExecuteTime, jobId, ScheduledJobLog.Status.SUCCESS);
+        persistedJobLog.setWatermark(lastWatermark);
+
+        var expectedJobLog = new ScheduledJobLog(currentTime, jobId, ScheduledJobLog.Status.SUCCESS);
+        expectedJobLog.setWatermark(newWatermark);
+
+        scheduledJobExecutor.scheduledJobIdMap.put(jobMock, jobId);
+
+        given(jobLogRepoMock.findFirstByJobIdentifierAndStatusOrderByTimeDesc(jobId, ScheduledJobLog.Status.SUCCESS))
+                .willReturn(Optional.of(persistedJobLog));
+        given(jobMock.shouldExecute(lastExecuteTime)).willReturn(true);
+        given(jobMock.getLastExecutionWatermark()).willReturn(Optional.of(newWatermark));
+
+        // when
+        scheduledJobExecutor.executeJobs();
+
+        // then
+        verify(jobMock).execute(lastWatermark);
+        verify(jobLogRepoMock).save(jobLogArgumentCaptor.capture());
+
+        var actualJobLog = jobLogArgumentCaptor.getValue();
+        assertThat(actualJobLog).isEqualTo(expectedJobLog);
+    }
+
+    @Test
+    public void executeJobLogsCountsWhenJobDoesNotThrowException() {
+        // given
+        var jobId = "JOB";
+        var currentTime = LocalDateTime.now(clock);
+        var expectedCounts = Map.of("inserted", 2L, "unchanged", 5L);
+
+        var expectedJobLog = new ScheduledJobLog(currentTime, jobId, ScheduledJobLog.Status.SUCCESS);
+        expectedJobLog.getCounts().putAll(expectedCounts);
+
+        // when
+        scheduledJobExecutor.execute(() -> null, () -> expectedCounts, jobId);
+
+        // then
+        verify(jobLogRepoMock).save(jobLogArgumentCaptor.capture());
+
+        var actualJobLog = jobLogArgumentCaptor.getValue();
+        assertThat(actualJobLog).isEqualTo(expectedJobLog);
+    }
+
     @Test
     public void executeJobLogsSuccessWhenJobDoesNotThrowException() {
         // given
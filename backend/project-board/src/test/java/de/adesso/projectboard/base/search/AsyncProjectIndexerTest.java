@@ -0,0 +1,258 @@
+package de.adesso.projectboard.base.search;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class AsyncProjectIndexerTest {
+
+    @Mock
+    private EntityManager entityManagerMock;
+
+    @Mock
+    private TransactionOperations transactionOperationsMock;
+
+    @Mock
+    private HibernateSearchService searchServiceMock;
+
+    @Mock
+    private SearchResultCache resultCacheMock;
+
+    private HibernateSearchConfigurationProperties properties;
+
+    private AsyncProjectIndexer asyncProjectIndexer;
+
+    @Before
+    public void setUp() {
+        given(transactionOperationsMock.execute(any()))
+                .willAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+
+        this.properties = new HibernateSearchConfigurationProperties();
+        properties.setAsyncIndexing(true);
+        properties.setAsyncIndexingBatchSize(2);
+        properties.setAsyncIndexingMaxStaleness(Duration.ofMillis(50L));
+
+        this.asyncProjectIndexer = createAsyncProjectIndexer(properties);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        asyncProjectIndexer.destroy();
+    }
+
+    @Test
+    public void indexAfterCommitIndexesQueuedProjectsInBatches() {
+        // given
+        asyncProjectIndexer.indexAfterCommit(List.of(createProject("STF-1"), createProject("STF-2"), createProject("STF-3")));
+
+        // when
+        asyncProjectIndexer.afterPropertiesSet();
+
+        // then
+        verify(searchServiceMock, timeout(1000L)).indexProjects(entityManagerMock, List.of("STF-1", "STF-2"));
+        verify(searchServiceMock, timeout(1000L)).indexProjects(entityManagerMock, List.of("STF-3"));
+        verify(resultCacheMock, timeout(1000L).times(2)).invalidateAll();
+    }
+
+    @Test
+    public void destroyIndexesAllQueuedProjects() throws InterruptedException {
+        // given
+        asyncProjectIndexer.afterPropertiesSet();
+        asyncProjectIndexer.indexAfterCommit(List.of(createProject("STF-1")));
+
+        // when
+        asyncProjectIndexer.destroy();
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(asyncProjectIndexer.getQueueDepth()).isEqualTo(0);
+        softly.assertThat(asyncProjectIndexer.getIndexedCount()).isEqualTo(1L);
+        softly.assertThat(asyncProjectIndexer.hasUnindexedProjects()).isFalse();
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void failedBatchIsRetried() throws InterruptedException {
+        // given
+        given(searchServiceMock.indexProjects(entityManagerMock, List.of("STF-1")))
+                .willThrow(new IllegalStateException("Index locked"))
+                .willReturn(1);
+
+        asyncProjectIndexer.afterPropertiesSet();
+        asyncProjectIndexer.indexAfterCommit(List.of(createProject("STF-1")));
+
+        // when
+        asyncProjectIndexer.destroy();
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(asyncProjectIndexer.getIndexedCount()).isEqualTo(1L);
+        softly.assertThat(asyncProjectIndexer.getFailedCount()).isEqualTo(0L);
+        softly.assertThat(asyncProjectIndexer.hasUnindexedProjects()).isFalse();
+
+        softly.assertAll();
+
+        verify(searchServiceMock, times(2)).indexProjects(entityManagerMock, List.of("STF-1"));
+    }
+
+    @Test
+    public void batchFailingOnEveryAttemptIsLeftUnindexed() throws InterruptedException {
+        // given
+        given(searchServiceMock.indexProjects(entityManagerMock, List.of("STF-1", "STF-2")))
+                .willThrow(new IllegalStateException("Index locked"));
+
+        asyncProjectIndexer.afterPropertiesSet();
+        asyncProjectIndexer.indexAfterCommit(List.of(createProject("STF-1"), createProject("STF-2")));
+
+        // when
+        asyncProjectIndexer.destroy();
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(asyncProjectIndexer.getIndexedCount()).isEqualTo(0L);
+        softly.assertThat(asyncProjectIndexer.getFailedCount()).isEqualTo(2L);
+        softly.assertThat(asyncProjectIndexer.hasUnindexedProjects()).isTrue();
+
+        softly.assertAll();
+
+        verify(searchServiceMock, times(AsyncProjectIndexer.MAX_BATCH_ATTEMPTS)).indexProjects(entityManagerMock, List.of("STF-1", "STF-2"));
+        verify(resultCacheMock, never()).invalidateAll();
+    }
+
+    @Test
+    public void queuedProjectsAreUnindexedUntilIndexed() {
+        // given / when
+        asyncProjectIndexer.indexAfterCommit(List.of(createProject("STF-1")));
+
+        // then
+        assertThat(asyncProjectIndexer.hasUnindexedProjects()).isTrue();
+    }
+
+    @Test
+    public void enqueueCountsProjectsAsFailedWhenInterrupted() {
+        // given
+        Thread.currentThread().interrupt();
+
+        // when
+        asyncProjectIndexer.enqueue(List.of("STF-1", "STF-2"));
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(Thread.interrupted()).isTrue();
+        softly.assertThat(asyncProjectIndexer.getFailedCount()).isEqualTo(2L);
+        softly.assertThat(asyncProjectIndexer.getQueueDepth()).isEqualTo(0);
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void deferIndexingDefersIndexingInCurrentThreadWhileActionRuns() {
+        // given / when
+        var deferredWhileRunning = asyncProjectIndexer.deferIndexing(AsyncProjectIndexer::isIndexingDeferred);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(deferredWhileRunning).isTrue();
+        softly.assertThat(AsyncProjectIndexer.isIndexingDeferred()).isFalse();
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void indexUpsertedProjectsIndexesProjectsOnCommitWhenDisabled() {
+        // given
+        properties.setAsyncIndexing(false);
+        var disabledIndexer = createAsyncProjectIndexer(properties);
+
+        // when
+        disabledIndexer.indexUpsertedProjects(List.of(createProject("STF-1"), createProject("STF-2")));
+
+        // then
+        verify(searchServiceMock).indexProjectsOnCommit(entityManagerMock, List.of("STF-1", "STF-2"));
+        assertThat(disabledIndexer.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void indexUpsertedProjectsQueuesProjectsWhenEnabled() {
+        // given
+        asyncProjectIndexer.afterPropertiesSet();
+
+        // when
+        asyncProjectIndexer.indexUpsertedProjects(List.of(createProject("STF-1")));
+
+        // then
+        verify(searchServiceMock, timeout(1000L)).indexProjects(entityManagerMock, List.of("STF-1"));
+        verify(searchServiceMock, never()).indexProjectsOnCommit(any(), any());
+    }
+
+    @Test
+    public void disabledIndexerDoesNotDeferOrQueueIndexing() {
+        // given
+        properties.setAsyncIndexing(false);
+        var disabledIndexer = createAsyncProjectIndexer(properties);
+
+        // when
+        var deferredWhileRunning = disabledIndexer.deferIndexing(AsyncProjectIndexer::isIndexingDeferred);
+        disabledIndexer.indexAfterCommit(List.of(createProject("STF-1")));
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(deferredWhileRunning).isFalse();
+        softly.assertThat(disabledIndexer.getQueueDepth()).isEqualTo(0);
+
+        softly.assertAll();
+
+        verifyZeroInteractions(searchServiceMock);
+    }
+
+    @Test
+    public void bindToRegistersQueueDepthGauge() {
+        // given
+        var meterRegistry = new SimpleMeterRegistry();
+        asyncProjectIndexer.indexAfterCommit(List.of(createProject("STF-1"), createProject("STF-2")));
+
+        // when
+        asyncProjectIndexer.bindTo(meterRegistry);
+
+        // then
+        assertThat(meterRegistry.get("projectboard.search.indexing.queue.depth").gauge().value()).isEqualTo(2.0d);
+    }
+
+    private AsyncProjectIndexer createAsyncProjectIndexer(HibernateSearchConfigurationProperties properties) {
+        return new AsyncProjectIndexer(entityManagerMock, transactionOperationsMock, searchServiceMock, resultCacheMock, properties);
+    }
+
+    private Project createProject(String id) {
+        return new Project().setId(id);
+    }
+
+}
@@ -0,0 +1,76 @@
+package de.adesso.projectboard.base.search;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HibernateSearchConfigurationPropertiesTest {
+
+    private Validator validator;
+
+    @Before
+    public void setUp() {
+        this.validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Test
+    public void validateReturnsNoViolationsForDefaults() {
+        // given
+        var properties = new HibernateSearchConfigurationProperties();
+
+        // when
+        var actualViolations = validator.validate(properties);
+
+        // then
+        assertThat(actualViolations).isEmpty();
+    }
+
+    @Test
+    public void validateReturnsViolationWhenAsyncIndexingMaxStalenessIsZero() {
+        // given
+        var properties = new HibernateSearchConfigurationProperties();
+        properties.setAsyncIndexingMaxStaleness(Duration.ZERO);
+
+        // when
+        var actualViolations = validator.validate(properties);
+
+        // then
+        assertThat(actualViolations)
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("asyncIndexingMaxStaleness");
+    }
+
+    @Test
+    public void validateReturnsViolationWhenAsyncIndexingMaxStalenessIsBelowOneMillisecond() {
+        // given
+        var properties = new HibernateSearchConfigurationProperties();
+        properties.setAsyncIndexingMaxStaleness(Duration.ofNanos(999_999L));
+
+        // when
+        var actualViolations = validator.validate(properties);
+
+        // then
+        assertThat(actualViolations)
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("asyncIndexingMaxStaleness");
+    }
+
+    @Test
+    public void validateReturnsNoViolationsWhenAsyncIndexingMaxStalenessIsOneMillisecond() {
+        // given
+        var properties = new HibernateSearchConfigurationProperties();
+        properties.setAsyncIndexingMaxStaleness(Duration.ofMillis(1L));
+
+        // when
+        var actualViolations = validator.validate(properties);
+
+        // then
+        assertThat(actualViolations).isEmpty();
+    }
+
+}
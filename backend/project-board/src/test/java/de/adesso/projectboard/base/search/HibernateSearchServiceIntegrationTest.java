@@ -2,6 +2,7 @@ package de.adesso.projectboard.base.search;
 
 import de.adesso.projectboard.base.project.persistence.Project;
 import de.adesso.projectboard.base.project.persistence.ProjectRepository;
+import de.adesso.projectboard.base.project.projection.ProjectSuggestion;
 import de.adesso.projectboard.base.user.persistence.User;
 import de.adesso.projectboard.base.user.persistence.UserRepository;
 import de.adesso.projectboard.base.user.persistence.data.UserData;
@@ -14,22 +15,32 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.PersistenceContextType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -53,6 +64,9 @@ public class HibernateSearchServiceIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private HibernateSearchService hibernateSearchService;
 
     @Before
@@ -380,6 +394,31 @@ public class HibernateSearchServiceIntegrationTest {
         assertThat(actualData).containsExactlyInAnyOrderElementsOf(expectedData);
     }
 
+    @Test
+    @SqlGroup({
+            @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Users.sql"),
+            @Sql(scripts = "classpath:de/adesso/projectboard/persistence/UserData.sql")
+    })
+    public void searchUserDataFindsDataWhenUserCountExceedsMaxClauseCount() {
+        // given
+        var simpleQuery = "first";
+        var givenUsers = entityManager.createQuery("SELECT u FROM de.adesso.projectboard.base.user.persistence.User AS u " +
+                "WHERE u.id LIKE 'User%'", User.class).getResultList();
+        var expectedData = entityManager.createQuery("SELECT d FROM de.adesso.projectboard.base.user.persistence.data.UserData AS d " +
+                "WHERE d.id = 1", UserData.class).getResultList();
+
+        var manyUsers = new ArrayList<>(givenUsers);
+        IntStream.range(0, 5000)
+                .mapToObj(index -> new User("Unknown" + index))
+                .forEach(manyUsers::add);
+
+        // when
+        var actualData = hibernateSearchService.searchUserData(manyUsers, simpleQuery);
+
+        // then
+        assertThat(actualData).containsExactlyInAnyOrderElementsOf(expectedData);
+    }
+
     @Test
     public void searchProjectsFindsNewlyAddedEntities() {
         // given
@@ -390,7 +429,7 @@ public class HibernateSearchServiceIntegrationTest {
         var projectId = "STF-1";
         var project = new Project(projectId, projectStatus, "Type", "Searching Spring Expert", List.of(), "Job", "Skills", "Description",
                 "LoB", "Customer", "Location", "Start", "End", "Effort", updateCreateTime, updateCreateTime, "Freelancer",
-                "Elongation", "Other", "dailyRate", "travelCostsCompensated");
+                "Elongation", "Other", "dailyRate", "travelCostsCompensated", null, null);
         projectRepository.save(project);
 
         var retrievedProject = findProjectByIds("STF-1").toArray(Project[]::new)[0];
@@ -402,6 +441,465 @@ public class HibernateSearchServiceIntegrationTest {
         assertThat(actualProjects).containsExactly(retrievedProject);
     }
 
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql", statements = {
+            "UPDATE PROJECT SET LAST_MODIFIED = '2018-12-31 23:59:59'",
+            "UPDATE PROJECT SET LAST_MODIFIED = '2019-01-01 00:00:00' WHERE ID = 'STF-10'"
+    })
+    public void indexProjectsModifiedSinceOnlyIndexesProjectsModifiedAfterWatermark() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.getFullTextEntityManager().purgeAll(Project.class);
+        hibernateSearchService.getFullTextEntityManager().flushToIndexes();
+
+        var simpleQuery = "Location";
+        var watermark = LocalDateTime.of(2019, 1, 1, 0, 0);
+
+        // when
+        var actualIndexedCount = hibernateSearchService.indexProjectsModifiedSince(entityManager, watermark);
+
+        // then
+        var expectedProjects = findProjectByIds("STF-10");
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualIndexedCount).isEqualTo(1);
+        softly.assertThat(hibernateSearchService.searchProjects(simpleQuery, null)).containsExactlyInAnyOrderElementsOf(expectedProjects);
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectsNonPaginatedSortsBySupportedProperty() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        var simpleQuery = "Location";
+        var sort = Sort.by(Sort.Direction.DESC, "updated");
+
+        // when
+        var actualProjects = hibernateSearchService.searchProjects(simpleQuery, sort, null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualProjects).hasSize(10);
+        softly.assertThat(actualProjects.get(0).getId()).isEqualTo("STF-10");
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectsPaginatedSortsBySupportedPropertyAndIgnoresUnsupportedProperties() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        var simpleQuery = "Location";
+        var pageable = PageRequest.of(0, 2, Sort.by("dailyRate", "title"));
+
+        // when
+        var actualProjectPage = hibernateSearchService.searchProjects(simpleQuery, pageable, null);
+
+        // then
+        var actualProjectIds = actualProjectPage.getContent().stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualProjectIds).containsExactlyInAnyOrder("STF-1", "STF-2");
+        softly.assertThat(actualProjectPage.getTotalElements()).isEqualTo(10L);
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectSummariesReturnsSortedSummariesOfFoundProjects() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        var simpleQuery = "Location";
+        var pageable = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "updated"));
+
+        // when
+        var actualSummaryPage = hibernateSearchService.searchProjectSummaries(simpleQuery, pageable, null);
+
+        // then
+        var firstSummary = actualSummaryPage.getContent().get(0);
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualSummaryPage.getTotalElements()).isEqualTo(10L);
+        softly.assertThat(actualSummaryPage.getContent()).hasSize(3);
+        softly.assertThat(firstSummary.getId()).isEqualTo("STF-10");
+        softly.assertThat(firstSummary.getTitle()).isEqualTo("Title");
+        softly.assertThat(firstSummary.getLob()).isEqualTo("LOB Prod");
+        softly.assertThat(firstSummary.getUpdated()).isEqualTo(LocalDateTime.of(2019, 2, 2, 13, 37));
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectSliceReturnsFullProjects() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        var simpleQuery = "Location";
+        var sort = Sort.by(Sort.Direction.DESC, "updated");
+
+        // when
+        var actualFirstSlice = hibernateSearchService.searchProjectSlice(simpleQuery, PageRequest.of(0, 6, sort), null);
+        var actualLastSlice = hibernateSearchService.searchProjectSlice(simpleQuery, PageRequest.of(1, 6, sort), null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualFirstSlice.getContent()).hasSize(6);
+        softly.assertThat(actualFirstSlice.hasNext()).isTrue();
+        softly.assertThat(actualFirstSlice.getContent().get(0).getId()).isEqualTo("STF-10");
+        softly.assertThat(actualFirstSlice.getContent().get(0).getLabels()).isNotNull();
+        softly.assertThat(actualLastSlice.getContent()).hasSize(4);
+        softly.assertThat(actualLastSlice.hasNext()).isFalse();
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectSummarySliceOnlyHasNextWhenMoreProjectsWereFound() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        var simpleQuery = "Location";
+        var sort = Sort.by(Sort.Direction.DESC, "updated");
+
+        // when
+        var actualFirstSlice = hibernateSearchService.searchProjectSummarySlice(simpleQuery, PageRequest.of(0, 6, sort), null);
+        var actualLastSlice = hibernateSearchService.searchProjectSummarySlice(simpleQuery, PageRequest.of(1, 6, sort), null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualFirstSlice.getContent()).hasSize(6);
+        softly.assertThat(actualFirstSlice.hasNext()).isTrue();
+        softly.assertThat(actualFirstSlice.getContent().get(0).getId()).isEqualTo("STF-10");
+        softly.assertThat(actualLastSlice.getContent()).hasSize(4);
+        softly.assertThat(actualLastSlice.hasNext()).isFalse();
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectsAfterCursorPagesThroughAllProjectsInOrder() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        var simpleQuery = "Location";
+        var sort = Sort.by(Sort.Direction.DESC, "updated");
+
+        // when
+        var actualProjectIds = new ArrayList<String>();
+        var actualPageCount = 0;
+        String cursor = null;
+        do {
+            var page = hibernateSearchService.searchProjects(simpleQuery, sort, cursor, 3, null);
+            page.getContent().forEach(project -> actualProjectIds.add(project.getId()));
+
+            cursor = page.getNextCursor();
+            actualPageCount++;
+        } while (cursor != null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualPageCount).isEqualTo(4);
+        softly.assertThat(actualProjectIds).hasSize(10).doesNotHaveDuplicates();
+        softly.assertThat(actualProjectIds.get(0)).isEqualTo("STF-10");
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectsNonPaginatedExcludesStatusWhenNoStatusHasLobConstraint() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of("abgeschlossen"));
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        var simpleQuery = "Location";
+
+        // when
+        var actualProjects = hibernateSearchService.searchProjects(simpleQuery, "LOB Test");
+
+        // then
+        var expectedProjects = findProjectByIds("STF-1", "STF-3", "STF-4", "STF-5", "STF-7", "STF-8",
+                "STF-9", "STF-10");
+        assertThat(actualProjects).containsExactlyInAnyOrderElementsOf(expectedProjects);
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void suggestProjectsSuggestsProjectsWithWordsStartingWithPrefixAndWeightsTitleHigher() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        // when
+        var actualTitleSuggestions = hibernateSearchService.suggestProjects("spec tit", 10, null);
+        var actualCustomerSuggestions = hibernateSearchService.suggestProjects("mock", 10, null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualTitleSuggestions)
+                .extracting(ProjectSuggestion::getId)
+                .containsExactlyInAnyOrder("STF-1", "STF-2", "STF-5");
+        softly.assertThat(actualTitleSuggestions)
+                .extracting(ProjectSuggestion::getTitle)
+                .containsExactly("Special Title", "Special Title", "Title");
+        softly.assertThat(actualCustomerSuggestions)
+                .extracting(ProjectSuggestion::getId)
+                .containsExactly("STF-9");
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void suggestProjectsRespectsExcludedStatusAndLobAndMaxResults() {
+        // given
+        var simplePrefix = "loc";
+
+        // when
+        var actualSuggestions = hibernateSearchService.suggestProjects(simplePrefix, 10, "LOB Test");
+        var actualLimitedSuggestions = hibernateSearchService.suggestProjects(simplePrefix, 2, "LOB Test");
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualSuggestions)
+                .extracting(ProjectSuggestion::getId)
+                .containsExactlyInAnyOrder("STF-1", "STF-3", "STF-4", "STF-5", "STF-7", "STF-8");
+        softly.assertThat(actualLimitedSuggestions).hasSize(2);
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectsReturnsCachedResultForSameNormalizedQuery() {
+        // given
+        var resultCache = new SearchResultCache(10, Duration.ofMinutes(5L), Clock.systemUTC());
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of(), resultCache);
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        var pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "updated"));
+
+        // when
+        var firstPage = hibernateSearchService.searchProjects("Location", pageable, null);
+        var secondPage = hibernateSearchService.searchProjects("  location ", pageable, null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(secondPage.getContent()).containsExactlyElementsOf(firstPage.getContent());
+        softly.assertThat(secondPage.getTotalElements()).isEqualTo(10L);
+        softly.assertThat(resultCache.getMissCount()).isEqualTo(1L);
+        softly.assertThat(resultCache.getHitCount()).isEqualTo(1L);
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectsRanksMatchesInBoostedFieldsHigher() {
+        // given
+        var relevanceProfile = new ProjectRelevanceProfile(Map.of("title", 10.0f), Map.of(), 0.0f, Duration.ofDays(30L));
+        var hibernateSearchService = createRankingHibernateSearchService(relevanceProfile);
+
+        // when
+        var actualProjects = hibernateSearchService.searchProjects("Special", null);
+
+        // then
+        assertThat(actualProjects.subList(0, 2))
+                .extracting(Project::getId)
+                .containsExactlyInAnyOrder("STF-1", "STF-2");
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectsRanksRecentlyUpdatedProjectsHigher() {
+        // given
+        var relevanceProfile = new ProjectRelevanceProfile(Map.of(), Map.of(), 1.0f, Duration.ofDays(30L));
+        var hibernateSearchService = createRankingHibernateSearchService(relevanceProfile);
+
+        // when
+        var actualProjects = hibernateSearchService.searchProjects("Location", null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualProjects).hasSize(10);
+        softly.assertThat(actualProjects.get(0).getId()).isEqualTo("STF-10");
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectsRanksProjectsWithBoostedStatusHigher() {
+        // given
+        var relevanceProfile = new ProjectRelevanceProfile(Map.of(), Map.of("Offen", 1.0f), 0.0f, Duration.ofDays(30L));
+        var hibernateSearchService = createRankingHibernateSearchService(relevanceProfile);
+
+        // when
+        var actualProjects = hibernateSearchService.searchProjects("Location", null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualProjects).hasSize(10);
+        softly.assertThat(actualProjects.subList(0, 2))
+                .extracting(Project::getId)
+                .containsExactlyInAnyOrder("STF-4", "STF-8");
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void searchProjectsFindsSameProjectsWhenRankedAsWhenFlat() {
+        // given
+        var relevanceProfile = new ProjectRelevanceProfile(Map.of("title", 3.0f, "job", 2.0f, "skills", 2.0f, "description", 0.5f),
+                Map.of("Offen", 0.5f), 1.0f, Duration.ofDays(30L));
+        var rankingHibernateSearchService = createRankingHibernateSearchService(relevanceProfile);
+        var flatHibernateSearchService = createRankingHibernateSearchService(ProjectRelevanceProfile.flat());
+
+        // when
+        var rankedProjects = rankingHibernateSearchService.searchProjects("Location", null);
+        var flatProjects = flatHibernateSearchService.searchProjects("Location", null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(rankedProjects).hasSize(10);
+        softly.assertThat(rankedProjects).containsExactlyInAnyOrderElementsOf(flatProjects);
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void indexProjectsIndexesProjectsSavedWhileIndexingDeferred() {
+        // given
+        var properties = new HibernateSearchConfigurationProperties();
+        properties.setAsyncIndexing(true);
+
+        var asyncProjectIndexer = new AsyncProjectIndexer(entityManager, new TransactionTemplate(), hibernateSearchService,
+                SearchResultCache.disabled(), properties);
+
+        var project = projectRepository.findById("STF-1").orElseThrow()
+                .setTitle("Reindexed");
+        asyncProjectIndexer.deferIndexing(() -> projectRepository.saveAndFlush(project));
+
+        var projectsFoundBeforeIndexing = hibernateSearchService.searchProjects("Reindexed", null);
+
+        // when
+        var actualIndexedCount = hibernateSearchService.indexProjects(entityManager, List.of("STF-1"));
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(projectsFoundBeforeIndexing).isEmpty();
+        softly.assertThat(actualIndexedCount).isEqualTo(1);
+        softly.assertThat(hibernateSearchService.searchProjects("Reindexed", null))
+                .extracting(Project::getId)
+                .containsExactly("STF-1");
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void getProjectVisibilityFilterReturnsCachedFilterForSameLob() {
+        // given / when
+        var firstFilter = hibernateSearchService.getProjectVisibilityFilter("LOB Test");
+        var secondFilter = hibernateSearchService.getProjectVisibilityFilter("lob test");
+        var otherLobFilter = hibernateSearchService.getProjectVisibilityFilter("LOB Prod");
+        var nullLobFilter = hibernateSearchService.getProjectVisibilityFilter(null);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(firstFilter).isPresent();
+        softly.assertThat(secondFilter.get()).isSameAs(firstFilter.get());
+        softly.assertThat(otherLobFilter.get()).isNotSameAs(firstFilter.get());
+        softly.assertThat(nullLobFilter).isPresent();
+        softly.assertThat(hibernateSearchService.projectVisibilityFilterMap).hasSize(3);
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void getProjectVisibilityFilterReturnsEmptyOptionalWhenNoStatusIsExcludedOrConstrained() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+
+        // when
+        var actualFilter = hibernateSearchService.getProjectVisibilityFilter("LOB Test");
+
+        // then
+        assertThat(actualFilter).isEmpty();
+    }
+
+    @Test
+    @Sql(scripts = "classpath:de/adesso/projectboard/persistence/Projects.sql")
+    public void indexProjectsModifiedSinceRemovesDeletedProjectsFromIndex() {
+        // given
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of());
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        var watermark = LocalDateTime.of(2019, 1, 1, 0, 0);
+
+        new TransactionTemplate(transactionManager).execute(status -> entityManager
+                .createNativeQuery("DELETE FROM PROJECT WHERE ID = 'STF-10'")
+                .executeUpdate());
+
+        // when
+        hibernateSearchService.indexProjectsModifiedSince(entityManager, watermark);
+
+        // then
+        var fullTextEntityManager = hibernateSearchService.getFullTextEntityManager();
+        var allQuery = fullTextEntityManager.getSearchFactory()
+                .buildQueryBuilder()
+                .forEntity(Project.class)
+                .get()
+                .all()
+                .createQuery();
+        var actualIndexedCount = fullTextEntityManager.createFullTextQuery(allQuery, Project.class).getResultSize();
+
+        assertThat(actualIndexedCount).isEqualTo(9);
+    }
+
     private Set<Project> findProjectByIds(String... ids) {
         return Arrays.stream(ids)
                 .distinct()
@@ -409,5 +907,13 @@ public class HibernateSearchServiceIntegrationTest {
                 .collect(Collectors.toSet());
     }
 
-}
+    private HibernateSearchService createRankingHibernateSearchService(ProjectRelevanceProfile relevanceProfile) {
+        var clock = Clock.fixed(Instant.parse("2019-02-10T00:00:00Z"), ZoneOffset.UTC);
+        var hibernateSearchService = new HibernateSearchService(Set.of(), Set.of(), SearchResultCache.disabled(), relevanceProfile, clock);
+        hibernateSearchService.entityManager = entityManager;
+        hibernateSearchService.indexExistingEntities(entityManager);
+
+        return hibernateSearchService;
+    }
 
+}
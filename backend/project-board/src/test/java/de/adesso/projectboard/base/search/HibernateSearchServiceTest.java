@@ -27,7 +27,7 @@ public class HibernateSearchServiceTest {
     @SuppressWarnings("unchecked")
     public void getNamesOfAnnotatedStringFieldsGetsNamesOfAnnotatedStringFieldsAndCachesResultWhenNotPresent() {
         // given
-        var expectedFieldNames = List.of("renamed_field", "secondField");
+        var expectedFieldNames = List.of("renamed_field", "secondField", "fourthField");
 
         // when
         var actualFieldNames = hibernateSearchService.getNamesOfAnnotatedStringFields(IndexedEntity.class);
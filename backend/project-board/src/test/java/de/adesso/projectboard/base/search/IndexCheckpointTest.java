@@ -0,0 +1,89 @@
+package de.adesso.projectboard.base.search;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexCheckpointTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writeAndReadReturnsEqualCheckpoint() throws IOException {
+        // given
+        var checkpointFile = temporaryFolder.getRoot().toPath().resolve("index").resolve("checkpoint.properties");
+        var expectedCheckpoint = new IndexCheckpoint(LocalDateTime.of(2019, 2, 2, 13, 37), "hash");
+
+        // when
+        expectedCheckpoint.write(checkpointFile);
+        var actualCheckpoint = IndexCheckpoint.read(checkpointFile);
+
+        // then
+        assertThat(actualCheckpoint).contains(expectedCheckpoint);
+    }
+
+    @Test
+    public void writeAndReadReturnsEqualCheckpointWhenWatermarkNull() throws IOException {
+        // given
+        var checkpointFile = temporaryFolder.getRoot().toPath().resolve("checkpoint.properties");
+        var expectedCheckpoint = new IndexCheckpoint(null, "hash");
+
+        // when
+        expectedCheckpoint.write(checkpointFile);
+        var actualCheckpoint = IndexCheckpoint.read(checkpointFile);
+
+        // then
+        assertThat(actualCheckpoint).contains(expectedCheckpoint);
+    }
+
+    @Test
+    public void readReturnsEmptyOptionalWhenFileNotPresent() throws IOException {
+        // given
+        var checkpointFile = temporaryFolder.getRoot().toPath().resolve("checkpoint.properties");
+
+        // when
+        var actualCheckpoint = IndexCheckpoint.read(checkpointFile);
+
+        // then
+        assertThat(actualCheckpoint).isEmpty();
+    }
+
+    @Test
+    public void readReturnsEmptyOptionalWhenWatermarkInvalid() throws IOException {
+        // given
+        var checkpointFile = temporaryFolder.newFile("checkpoint.properties").toPath();
+        Files.writeString(checkpointFile, "schemaHash=hash\nwatermark=invalid");
+
+        // when
+        var actualCheckpoint = IndexCheckpoint.read(checkpointFile);
+
+        // then
+        assertThat(actualCheckpoint).isEmpty();
+    }
+
+    @Test
+    public void isCompatibleWithReturnsTrueWhenHashesEqual() {
+        // given
+        var checkpoint = new IndexCheckpoint(null, "hash");
+
+        // when / then
+        assertThat(checkpoint.isCompatibleWith("hash")).isTrue();
+    }
+
+    @Test
+    public void isCompatibleWithReturnsFalseWhenHashesDiffer() {
+        // given
+        var checkpoint = new IndexCheckpoint(null, "hash");
+
+        // when / then
+        assertThat(checkpoint.isCompatibleWith("other hash")).isFalse();
+    }
+
+}
@@ -0,0 +1,140 @@
+package de.adesso.projectboard.base.search;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.persistence.ProjectRepository;
+import de.adesso.projectboard.util.BenchmarkHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceContextType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the search time of the ranked project query built from a {@link ProjectRelevanceProfile}
+ * with the flat query weighting all fields equally on a few thousand indexed projects. Only
+ * run when benchmarks are enabled, see {@link BenchmarkHelper}.
+ */
+@RunWith(SpringRunner.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource("classpath:application-persistence-test.properties")
+@DataJpaTest
+public class ProjectRelevanceBenchmarkIntegrationTest {
+
+    private static final int PROJECT_COUNT = 2000;
+
+    private static final int WARMUP_ITERATIONS = 50;
+
+    private static final int MEASUREMENT_ITERATIONS = 200;
+
+    private static final List<String> QUERIES = List.of("java", "spring developer", "cologne", "sap consultant", "devops");
+
+    private static final List<String> SKILLS = List.of("Java Spring", "SAP ABAP", "Kubernetes DevOps", "Angular TypeScript", "Python");
+
+    private static final List<String> LOCATIONS = List.of("Cologne", "Dortmund", "Berlin", "Munich");
+
+    private static final List<String> STATUS = List.of("offen", "eskaliert", "open", "escalated");
+
+    private static final Instant NOW = Instant.parse("2019-02-10T00:00:00Z");
+
+    @PersistenceContext(type = PersistenceContextType.EXTENDED)
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @BeforeClass
+    public static void assumeBenchmarksEnabled() {
+        BenchmarkHelper.assumeBenchmarksEnabled();
+    }
+
+    @Before
+    public void setUp() {
+        var now = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+        var projects = IntStream.range(0, PROJECT_COUNT)
+                .mapToObj(index -> new Project()
+                        .setId(String.format("STF-%d", index))
+                        .setStatus(STATUS.get(index % STATUS.size()))
+                        .setTitle(String.format("%s Developer %d", SKILLS.get(index % SKILLS.size()), index))
+                        .setJob("Developer")
+                        .setSkills(SKILLS.get((index / 7) % SKILLS.size()))
+                        .setDescription(String.format("Consultant for %s in %s", SKILLS.get((index / 3) % SKILLS.size()),
+                                LOCATIONS.get(index % LOCATIONS.size())))
+                        .setLocation(LOCATIONS.get((index / 5) % LOCATIONS.size()))
+                        .setCustomer(String.format("Customer %d", index % 40))
+                        .setCreated(now.minusHours(index * 2L))
+                        .setUpdated(now.minusHours(index)))
+                .collect(Collectors.toList());
+
+        projectRepository.saveAll(projects);
+    }
+
+    @After
+    public void tearDown() {
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    public void compareRankedQueryWithFlatQuery() {
+        // given
+        var relevanceProfile = new ProjectRelevanceProfile(Map.of("title", 3.0f, "job", 2.0f, "skills", 2.0f, "description", 0.5f),
+                Map.of("eskaliert", 0.5f, "escalated", 0.5f), 1.0f, Duration.ofDays(30L));
+
+        var flatSearchService = createHibernateSearchService(ProjectRelevanceProfile.flat());
+        var rankedSearchService = createHibernateSearchService(relevanceProfile);
+
+        measureMedianSearchNanos(flatSearchService, WARMUP_ITERATIONS);
+        measureMedianSearchNanos(rankedSearchService, WARMUP_ITERATIONS);
+
+        // when
+        var flatMedianNanos = measureMedianSearchNanos(flatSearchService, MEASUREMENT_ITERATIONS);
+        var rankedMedianNanos = measureMedianSearchNanos(rankedSearchService, MEASUREMENT_ITERATIONS);
+
+        // then
+        BenchmarkHelper.reportMedianNanos(getClass(), "flat query", flatMedianNanos);
+        BenchmarkHelper.reportMedianNanos(getClass(), "ranked query", rankedMedianNanos);
+    }
+
+    private long measureMedianSearchNanos(HibernateSearchService searchService, int iterations) {
+        var pageable = PageRequest.of(0, 20);
+        var iteration = new AtomicInteger();
+
+        return BenchmarkHelper.measureMedianNanos(() -> {
+            var query = QUERIES.get(iteration.getAndIncrement() % QUERIES.size());
+            searchService.searchProjectIds(query, Sort.unsorted(), pageable, null);
+        }, iterations);
+    }
+
+    private HibernateSearchService createHibernateSearchService(ProjectRelevanceProfile relevanceProfile) {
+        var clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        var hibernateSearchService = new HibernateSearchService(Set.of("offen", "open"), Set.of("closed", "abgeschlossen"),
+                SearchResultCache.disabled(), relevanceProfile, clock);
+        hibernateSearchService.entityManager = entityManager;
+
+        return hibernateSearchService;
+    }
+
+}
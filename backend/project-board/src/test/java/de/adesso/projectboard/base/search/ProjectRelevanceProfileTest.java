@@ -0,0 +1,71 @@
+package de.adesso.projectboard.base.search;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ProjectRelevanceProfileTest {
+
+    @Test
+    public void constructorConvertsStatusToLowerCase() {
+        // given / when
+        var relevanceProfile = new ProjectRelevanceProfile(Map.of(), Map.of("Eskaliert", 2.0f), 0.0f, Duration.ofDays(1L));
+
+        // then
+        assertThat(relevanceProfile.getStatusBoosts()).containsOnly(Map.entry("eskaliert", 2.0f));
+    }
+
+    @Test
+    public void constructorThrowsExceptionWhenFieldBoostNotPositive() {
+        // given / when / then
+        assertThatThrownBy(() -> new ProjectRelevanceProfile(Map.of("title", 0.0f), Map.of(), 0.0f, Duration.ofDays(1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Field boosts must be positive!");
+    }
+
+    @Test
+    public void constructorThrowsExceptionWhenRecencyBoostNegative() {
+        // given / when / then
+        assertThatThrownBy(() -> new ProjectRelevanceProfile(Map.of(), Map.of(), -1.0f, Duration.ofDays(1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Status and recency boosts must not be negative!");
+    }
+
+    @Test
+    public void constructorThrowsExceptionWhenRecencyHalfLifeNotPositive() {
+        // given / when / then
+        assertThatThrownBy(() -> new ProjectRelevanceProfile(Map.of(), Map.of(), 1.0f, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Recency half life must be positive!");
+    }
+
+    @Test
+    public void getFieldBoostReturnsOneWhenNoBoostConfigured() {
+        // given
+        var relevanceProfile = new ProjectRelevanceProfile(Map.of("title", 3.0f), Map.of(), 0.0f, Duration.ofDays(1L));
+
+        // when
+        var actualTitleBoost = relevanceProfile.getFieldBoost("title");
+        var actualSkillsBoost = relevanceProfile.getFieldBoost("skills");
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualTitleBoost).isEqualTo(3.0f);
+        softly.assertThat(actualSkillsBoost).isEqualTo(1.0f);
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void flatProfileHasNoAdditionalBoosts() {
+        // given / when / then
+        assertThat(ProjectRelevanceProfile.flat().hasNoAdditionalBoosts()).isTrue();
+    }
+
+}
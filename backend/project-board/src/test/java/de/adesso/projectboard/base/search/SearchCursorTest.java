@@ -0,0 +1,49 @@
+package de.adesso.projectboard.base.search;
+
+import de.adesso.projectboard.base.exceptions.InvalidSearchCursorException;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.util.BytesRef;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SearchCursorTest {
+
+    @Test
+    public void encodeAndDecodeReturnsEqualFieldDoc() {
+        // given
+        var expectedFieldDoc = new FieldDoc(42, 1.5f, new Object[] { new BytesRef("2019-02-02T13:37"), null, 1.5f, 7, 8L });
+
+        // when
+        var cursor = SearchCursor.encode(expectedFieldDoc);
+        var actualFieldDoc = SearchCursor.decode(cursor);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualFieldDoc.doc).isEqualTo(expectedFieldDoc.doc);
+        softly.assertThat(actualFieldDoc.score).isEqualTo(expectedFieldDoc.score);
+        softly.assertThat(actualFieldDoc.fields).containsExactly(expectedFieldDoc.fields);
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void decodeThrowsExceptionWhenCursorIsInvalid() {
+        // given / when / then
+        assertThatThrownBy(() -> SearchCursor.decode("not a cursor!"))
+                .isInstanceOf(InvalidSearchCursorException.class);
+    }
+
+    @Test
+    public void decodeThrowsExceptionWhenCursorIsTruncated() {
+        // given
+        var cursor = SearchCursor.encode(new FieldDoc(1, 1.0f, new Object[] { new BytesRef("value") }));
+
+        // when / then
+        assertThatThrownBy(() -> SearchCursor.decode(cursor.substring(0, cursor.length() - 4)))
+                .isInstanceOf(InvalidSearchCursorException.class);
+    }
+
+}
@@ -0,0 +1,185 @@
+package de.adesso.projectboard.base.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SearchResultCacheTest {
+
+    private final Instant NOW = Instant.parse("2019-02-02T13:37:00Z");
+
+    private final Duration TIME_TO_LIVE = Duration.ofMinutes(5L);
+
+    @Mock
+    private Clock clockMock;
+
+    private SearchResultCache searchResultCache;
+
+    @Before
+    public void setUp() {
+        given(clockMock.instant()).willReturn(NOW);
+
+        this.searchResultCache = new SearchResultCache(2, TIME_TO_LIVE, clockMock);
+    }
+
+    @Test
+    public void getReturnsCachedResultAndCountsHitsAndMisses() {
+        // given
+        var key = createKey("java");
+        var expectedResult = new SearchResultCache.Result(List.of("STF-1", "STF-2"), 2L);
+
+        // when
+        var resultBeforePut = searchResultCache.get(key);
+        searchResultCache.put(key, expectedResult, searchResultCache.getGeneration());
+        var resultAfterPut = searchResultCache.get(key);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(resultBeforePut).isEmpty();
+        softly.assertThat(resultAfterPut).contains(expectedResult);
+        softly.assertThat(searchResultCache.getHitCount()).isEqualTo(1L);
+        softly.assertThat(searchResultCache.getMissCount()).isEqualTo(1L);
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void getReturnsEmptyOptionalWhenResultExpired() {
+        // given
+        var key = createKey("java");
+        searchResultCache.put(key, new SearchResultCache.Result(List.of("STF-1"), 1L), searchResultCache.getGeneration());
+
+        given(clockMock.instant()).willReturn(NOW.plus(TIME_TO_LIVE));
+
+        // when
+        var actualResult = searchResultCache.get(key);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualResult).isEmpty();
+        softly.assertThat(searchResultCache.size()).isEqualTo(0);
+        softly.assertThat(searchResultCache.getEvictionCount()).isEqualTo(1L);
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void putEvictsLeastRecentlyUsedResultWhenMaxSizeExceeded() {
+        // given
+        var firstKey = createKey("java");
+        var secondKey = createKey("sap");
+        var thirdKey = createKey("cologne");
+        var result = new SearchResultCache.Result(List.of("STF-1"), 1L);
+
+        searchResultCache.put(firstKey, result, searchResultCache.getGeneration());
+        searchResultCache.put(secondKey, result, searchResultCache.getGeneration());
+        searchResultCache.get(firstKey);
+
+        // when
+        searchResultCache.put(thirdKey, result, searchResultCache.getGeneration());
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(searchResultCache.size()).isEqualTo(2);
+        softly.assertThat(searchResultCache.get(firstKey)).isPresent();
+        softly.assertThat(searchResultCache.get(secondKey)).isEmpty();
+        softly.assertThat(searchResultCache.get(thirdKey)).isPresent();
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void putDoesNotCacheResultWhenInvalidatedWhileComputed() {
+        // given
+        var key = createKey("java");
+        var generation = searchResultCache.getGeneration();
+
+        searchResultCache.invalidateAll();
+
+        // when
+        searchResultCache.put(key, new SearchResultCache.Result(List.of("STF-1"), 1L), generation);
+
+        // then
+        assertThat(searchResultCache.get(key)).isEmpty();
+    }
+
+    @Test
+    public void invalidateAllAfterCommitRemovesAllResultsWhenNoTransactionActive() {
+        // given
+        var key = createKey("java");
+        searchResultCache.put(key, new SearchResultCache.Result(List.of("STF-1"), 1L), searchResultCache.getGeneration());
+
+        // when
+        searchResultCache.invalidateAllAfterCommit();
+
+        // then
+        assertThat(searchResultCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void disabledCacheDoesNotCacheResults() {
+        // given
+        var disabledCache = SearchResultCache.disabled();
+        var key = createKey("java");
+
+        // when
+        disabledCache.put(key, new SearchResultCache.Result(List.of("STF-1"), 1L), disabledCache.getGeneration());
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(disabledCache.isEnabled()).isFalse();
+        softly.assertThat(disabledCache.get(key)).isEmpty();
+        softly.assertThat(disabledCache.getMissCount()).isEqualTo(0L);
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void bindToRegistersHitAndMissCounters() {
+        // given
+        var meterRegistry = new SimpleMeterRegistry();
+        var key = createKey("java");
+
+        searchResultCache.get(key);
+        searchResultCache.put(key, new SearchResultCache.Result(List.of("STF-1"), 1L), searchResultCache.getGeneration());
+        searchResultCache.get(key);
+        searchResultCache.get(key);
+
+        // when
+        searchResultCache.bindTo(meterRegistry);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(meterRegistry.get("projectboard.search.cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(2.0d);
+        softly.assertThat(meterRegistry.get("projectboard.search.cache.gets").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0d);
+        softly.assertThat(meterRegistry.get("projectboard.search.cache.size").gauge().value())
+                .isEqualTo(1.0d);
+
+        softly.assertAll();
+    }
+
+    private SearchResultCache.Key createKey(String query) {
+        return new SearchResultCache.Key("service", "type", query, null, "UNSORTED", 0, 10);
+    }
+
+}
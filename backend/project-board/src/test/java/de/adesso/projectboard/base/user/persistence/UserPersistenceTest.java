@@ -17,6 +17,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RunWith(SpringRunner.class)
 @DataJpaTest
@@ -66,4 +67,23 @@ public class UserPersistenceTest {
         softly.assertAll();
     }
 
+    @Test
+    @Sql("classpath:de/adesso/projectboard/persistence/Users.sql")
+    public void insertAllByIds() {
+        // given
+        var expectedUserIds = List.of("User6", "User7", "User8");
+
+        // when
+        userRepo.insertAllByIds(expectedUserIds, 2);
+
+        // then
+        SoftAssertions softly = new SoftAssertions();
+
+        softly.assertThat(userRepo.findAllById(expectedUserIds)).extracting(User::getId)
+                .containsExactlyInAnyOrderElementsOf(expectedUserIds);
+        softly.assertThat(userRepo.count()).isEqualTo(8L);
+
+        softly.assertAll();
+    }
+
 }
@@ -6,6 +6,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.jdbc.Sql;
@@ -15,6 +16,7 @@ import javax.persistence.EntityNotFoundException;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @RunWith(SpringRunner.class)
 @DataJpaTest
@@ -27,6 +29,9 @@ public class UserDataPersistenceTest {
     @Autowired
     private UserRepository userRepo;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @Sql("classpath:de/adesso/projectboard/persistence/Users.sql")
     public void save() {
@@ -134,4 +139,72 @@ public class UserDataPersistenceTest {
         softly.assertAll();
     }
 
-}
\ No newline at end of file
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/UserData.sql"
+    })
+    public void findAllSnapshotsReturnsSynchronizedFields() {
+        // given / when
+        var actualSnapshots = userDataRepo.findAllSnapshots();
+
+        // then
+        assertThat(actualSnapshots)
+                .extracting(UserDataSnapshot::getId, UserDataSnapshot::getUserId, UserDataSnapshot::getFirstName,
+                        UserDataSnapshot::getLastName, UserDataSnapshot::getEmail, UserDataSnapshot::getLob)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, "User1", "First", "User", "first.user@test.com", "LOB Test"),
+                        tuple(2L, "User2", "Second", "User", "second.user@test.com", "LOB Test"),
+                        tuple(3L, "User3", "Third", "User", "third.user@test.com", "LOB Prod")
+                );
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/UserData.sql"
+    })
+    public void updateAllKeepingPicturesKeepsPicture() {
+        // given
+        var expectedPicture = new byte[] {10, -3, 54, 20};
+        var user = userRepo.findById("User5").orElseThrow();
+        var savedUserData = userDataRepo.saveAndFlush(new UserData(user, "Fifth", "User", "fifth@test.com", "LOB", expectedPicture));
+        entityManager.clear();
+
+        var changedUserData = new UserData(user, "Changed", "Name", "changed@test.com", "Other LOB")
+                .setId(savedUserData.getId());
+
+        // when
+        userDataRepo.updateAllKeepingPictures(List.of(changedUserData), 1);
+        entityManager.clear();
+
+        // then
+        var actualUserData = userDataRepo.findById(savedUserData.getId()).orElseThrow();
+
+        var softly = new SoftAssertions();
+
+        softly.assertThat(actualUserData.getFullName()).isEqualTo("Changed Name");
+        softly.assertThat(actualUserData.getEmail()).isEqualTo("changed@test.com");
+        softly.assertThat(actualUserData.getLob()).isEqualTo("Other LOB");
+        softly.assertThat(actualUserData.getPicture()).isEqualTo(expectedPicture);
+        softly.assertThat(actualUserData.isPictureInitialized()).isTrue();
+
+        softly.assertAll();
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/UserData.sql"
+    })
+    public void deleteAllByIdsDeletesGivenUserData() {
+        // given / when
+        userDataRepo.deleteAllByIds(List.of(1L, 3L), 1);
+
+        // then
+        assertThat(userDataRepo.findAll())
+                .extracting(UserData::getId)
+                .containsExactly(2L);
+    }
+
+}
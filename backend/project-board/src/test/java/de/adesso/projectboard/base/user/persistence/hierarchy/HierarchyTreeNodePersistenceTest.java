@@ -143,6 +143,144 @@ public class HierarchyTreeNodePersistenceTest {
         compareExistsByUserAndStaffContainingWithExpectedExists("User1",4, true);
     }
 
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    })
+    public void existsByUserAndStaffMemberWithinBoundsReturnsTrueForIndirectStaffMember() {
+        // given / when / then
+        compareExistsByUserAndStaffMemberWithinBoundsWithExpectedExists("User1", "User4", true);
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    })
+    public void existsByUserAndStaffMemberWithinBoundsReturnsFalseForOtherSubtree() {
+        // given / when / then
+        compareExistsByUserAndStaffMemberWithinBoundsWithExpectedExists("User2", "User3", false);
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    })
+    public void existsByUserAndStaffMemberWithinBoundsReturnsFalseForSameUser() {
+        // given / when / then
+        compareExistsByUserAndStaffMemberWithinBoundsWithExpectedExists("User2", "User2", false);
+    }
+
+    @Test
+    @Sql(scripts = {
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    }, statements = "UPDATE HIERARCHY_TREE_NODE SET LFT = NULL, RGT = NULL")
+    public void existsByUserAndStaffMemberWithinBoundsReturnsTrueForIndirectStaffMemberWithoutBounds() {
+        // given / when / then
+        compareExistsByUserAndStaffMemberWithinBoundsWithExpectedExists("User1", "User4", true);
+    }
+
+    @Test
+    @Sql(scripts = {
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    }, statements = "UPDATE HIERARCHY_TREE_NODE SET LFT = NULL, RGT = NULL")
+    public void existsByUserAndStaffMemberWithinBoundsReturnsFalseForOtherSubtreeWithoutBounds() {
+        // given / when / then
+        compareExistsByUserAndStaffMemberWithinBoundsWithExpectedExists("User2", "User3", false);
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    })
+    public void updateNestedSetBoundsWritesGivenBounds() {
+        // given
+        // visits User3 before User2
+        var changedBounds = List.of(
+                new NestedSetBounds(3L, 2, 2),
+                new NestedSetBounds(2L, 3, 4),
+                new NestedSetBounds(4L, 4, 4)
+        );
+
+        // when
+        hierarchyTreeNodeRepo.updateNestedSetBounds(changedBounds, 1);
+
+        // then
+        assertThat(hierarchyTreeNodeRepo.findAllNestedSetBounds()).containsExactlyInAnyOrder(
+                new NestedSetBounds(1L, 1, 4),
+                new NestedSetBounds(2L, 3, 4),
+                new NestedSetBounds(3L, 2, 2),
+                new NestedSetBounds(4L, 4, 4)
+        );
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    })
+    public void findAllStaffRelationsReturnsAllRelations() {
+        // given / when
+        var actualRelations = hierarchyTreeNodeRepo.findAllStaffRelations();
+
+        // then
+        assertThat(actualRelations).containsExactlyInAnyOrder(
+                new StaffRelation(1L, 2L),
+                new StaffRelation(1L, 3L),
+                new StaffRelation(1L, 4L),
+                new StaffRelation(2L, 4L)
+        );
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    })
+    public void insertAndDeleteStaffRelationsWriteGivenRelations() {
+        // given
+        var removedRelations = List.of(new StaffRelation(1L, 4L), new StaffRelation(2L, 4L));
+        var addedRelations = List.of(new StaffRelation(3L, 4L));
+
+        // when
+        hierarchyTreeNodeRepo.deleteStaffRelations(removedRelations, 1);
+        hierarchyTreeNodeRepo.insertStaffRelations(addedRelations, 1);
+
+        // then
+        assertThat(hierarchyTreeNodeRepo.findAllStaffRelations()).containsExactlyInAnyOrder(
+                new StaffRelation(1L, 2L),
+                new StaffRelation(1L, 3L),
+                new StaffRelation(3L, 4L)
+        );
+    }
+
+    @Test
+    @Sql({
+            "classpath:de/adesso/projectboard/persistence/Users.sql",
+            "classpath:de/adesso/projectboard/persistence/HierarchyTreeNode.sql"
+    })
+    public void deleteAllByIdInBulkDeletesNodesReferencingEachOther() {
+        // given
+        hierarchyTreeNodeRepo.deleteStaffRelations(List.of(
+                new StaffRelation(1L, 2L),
+                new StaffRelation(1L, 4L),
+                new StaffRelation(2L, 4L)
+        ), 10);
+
+        // when
+        hierarchyTreeNodeRepo.deleteAllByIdInBulk(List.of(2L, 4L));
+
+        // then
+        assertThat(hierarchyTreeNodeRepo.findAllById(List.of(1L, 2L, 3L, 4L)))
+                .extracting(HierarchyTreeNode::getId)
+                .containsExactlyInAnyOrder(1L, 3L);
+    }
+
     private void compareExistsByUserAndManagingUserTrueWithExpectedExists(String userId, boolean expectedExists) {
         // given
         var user = userRepo.findById(userId).orElseThrow();
@@ -167,4 +305,17 @@ public class HierarchyTreeNodePersistenceTest {
         assertThat(actualExists).isEqualTo(expectedExists);
     }
 
-}
\ No newline at end of file
+    private void compareExistsByUserAndStaffMemberWithinBoundsWithExpectedExists(String userId, String staffMemberId,
+                                                                                boolean expectedExists) {
+        // given
+        var user = userRepo.findById(userId).orElseThrow();
+        var staffMember = userRepo.findById(staffMemberId).orElseThrow();
+
+        // when
+        var actualExists = hierarchyTreeNodeRepo.existsByUserAndStaffMemberWithinBounds(user, staffMember);
+
+        // then
+        assertThat(actualExists).isEqualTo(expectedExists);
+    }
+
+}
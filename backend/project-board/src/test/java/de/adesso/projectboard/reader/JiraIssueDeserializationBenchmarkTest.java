@@ -0,0 +1,184 @@
+package de.adesso.projectboard.reader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.adesso.projectboard.base.project.deserializer.JiraIssue;
+import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.util.BenchmarkHelper;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares parsing a large recorded Jira response with the shared reader and the streaming
+ * deserializers to the previous approach, which created a new object mapper per response
+ * and read every object field and date into a tree first. Only run when benchmarks are
+ * enabled, see {@link BenchmarkHelper}.
+ */
+public class JiraIssueDeserializationBenchmarkTest {
+
+    private static final int ISSUE_COUNT = 1000;
+
+    private static final int WARMUP_ITERATIONS = 30;
+
+    private static final int MEASUREMENT_ITERATIONS = 50;
+
+    private byte[] jiraResponse;
+
+    @BeforeClass
+    public static void assumeBenchmarksEnabled() {
+        BenchmarkHelper.assumeBenchmarksEnabled();
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        var objectMapper = new ObjectMapper();
+        var recordedResponse = (ObjectNode) objectMapper.readTree(getClass().getResource("JiraJsonResponse.txt"));
+        var recordedIssues = recordedResponse.withArray("issues");
+
+        var issues = objectMapper.createArrayNode();
+        IntStream.range(0, ISSUE_COUNT).forEach(index -> {
+            var issue = recordedIssues.get(index % recordedIssues.size()).deepCopy();
+            ((ObjectNode) issue).put("key", String.format("STF-%d", index));
+
+            issues.add(issue);
+        });
+
+        recordedResponse.put("maxResults", ISSUE_COUNT);
+        recordedResponse.put("total", ISSUE_COUNT);
+        recordedResponse.set("issues", issues);
+
+        this.jiraResponse = objectMapper.writeValueAsBytes(recordedResponse);
+    }
+
+    @Test
+    public void compareStreamingParseWithTreeParse() throws IOException {
+        // given
+        assertThat(parseStreaming().getProjects()).hasSize(ISSUE_COUNT);
+        assertThat(parseWithTrees()).hasSize(ISSUE_COUNT);
+
+        BenchmarkHelper.measureMedianNanos(this::parseWithTrees, WARMUP_ITERATIONS);
+        BenchmarkHelper.measureMedianNanos(this::parseStreaming, WARMUP_ITERATIONS);
+
+        // when
+        var treeMedianNanos = BenchmarkHelper.measureMedianNanos(this::parseWithTrees, MEASUREMENT_ITERATIONS);
+        var streamingMedianNanos = BenchmarkHelper.measureMedianNanos(this::parseStreaming, MEASUREMENT_ITERATIONS);
+
+        // then
+        BenchmarkHelper.reportMedianNanos(getClass(), "tree parse", treeMedianNanos);
+        BenchmarkHelper.reportMedianNanos(getClass(), "streaming parse", streamingMedianNanos);
+    }
+
+    private JiraIssuePage parseStreaming() {
+        try {
+            return JiraProjectReader.parseJiraIssuePage(new ByteArrayInputStream(jiraResponse));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * The previous implementation of parsing a Jira response.
+     */
+    private JiraIssue[] parseWithTrees() {
+        try {
+            var mapper = new ObjectMapper().addMixIn(Project.class, TreeDeserializedProjectMixIn.class);
+            var issueNode = mapper.readTree(jiraResponse).get("issues");
+            var issueNodeText = mapper.writeValueAsString(issueNode);
+
+            return mapper.readValue(issueNodeText, JiraIssue[].class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    abstract static class TreeDeserializedProjectMixIn {
+
+        @JsonDeserialize(using = TreeNameDeserializer.class)
+        String status;
+
+        @JsonDeserialize(using = TreeNameDeserializer.class)
+        String issuetype;
+
+        @JsonDeserialize(using = TreeValueDeserializer.class)
+        String lob;
+
+        @JsonDeserialize(using = TreeDateDeserializer.class)
+        LocalDateTime created;
+
+        @JsonDeserialize(using = TreeDateDeserializer.class)
+        LocalDateTime updated;
+
+        @JsonDeserialize(using = TreeValueDeserializer.class)
+        String freelancer;
+
+        @JsonDeserialize(using = TreeValueDeserializer.class)
+        String elongation;
+
+        @JsonDeserialize(using = TreeValueDeserializer.class)
+        String travelCostsCompensated;
+
+    }
+
+    static class TreeNameDeserializer extends StdDeserializer<String> {
+
+        TreeNameDeserializer() {
+            super(String.class);
+        }
+
+        @Override
+        public String deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+            JsonNode node = jp.getCodec().readTree(jp);
+
+            return node.get("name").textValue();
+        }
+
+    }
+
+    static class TreeValueDeserializer extends StdDeserializer<String> {
+
+        TreeValueDeserializer() {
+            super(String.class);
+        }
+
+        @Override
+        public String deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+            JsonNode node = jp.getCodec().readTree(jp);
+
+            return node.get("value").textValue();
+        }
+
+    }
+
+    static class TreeDateDeserializer extends StdDeserializer<LocalDateTime> {
+
+        private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+        TreeDateDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+            JsonNode node = jp.getCodec().readTree(jp);
+
+            return LocalDateTime.parse(node.textValue(), dateTimeFormatter);
+        }
+
+    }
+
+}
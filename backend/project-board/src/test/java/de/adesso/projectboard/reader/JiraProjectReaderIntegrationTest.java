@@ -20,15 +20,19 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.client.ExpectedCount.manyTimes;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
@@ -39,6 +43,8 @@ public class JiraProjectReaderIntegrationTest {
 
     private final String REQUEST_PATH = "/test";
 
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10L);
+
     @MockBean
     private JiraConfigurationProperties properties;
 
@@ -55,6 +61,7 @@ public class JiraProjectReaderIntegrationTest {
         given(properties.getRequestUrl()).willReturn(REQUEST_PATH);
         given(properties.getUsername()).willReturn("");
         given(properties.getPassword()).willReturn("");
+        given(properties.getRequestTimeout()).willReturn(REQUEST_TIMEOUT);
 
         // spring's RestClientTest annotation causes problems
         // because the username/password for basic authentication can't
@@ -68,10 +75,13 @@ public class JiraProjectReaderIntegrationTest {
 
         // configure the builder to return the template
         given(builder.basicAuthentication(anyString(), anyString())).willReturn(builder);
+        given(builder.setConnectTimeout(REQUEST_TIMEOUT)).willReturn(builder);
+        given(builder.setReadTimeout(REQUEST_TIMEOUT)).willReturn(builder);
         given(builder.build()).willReturn(restTemplate);
 
         // bind the server to the given rest template
         this.server = MockRestServiceServer.bindTo(restTemplate)
+                .ignoreExpectOrder(true)
                 .build();
 
         this.reader = new JiraProjectReader(builder, properties);
@@ -80,7 +90,7 @@ public class JiraProjectReaderIntegrationTest {
     @Test
     public void getProjectsReturnsProjectsWhenRequestIsSuccessful() throws Exception {
         // given
-        server.expect(requestTo(REQUEST_PATH))
+        server.expect(requestTo(getPageRequestUrl(0)))
                 .andRespond(withSuccess(getJiraJsonResponse(), MediaType.APPLICATION_JSON));
 
         LocalDateTime expectedCreated = LocalDateTime.of(2018, 1, 1, 13, 37);
@@ -88,11 +98,11 @@ public class JiraProjectReaderIntegrationTest {
 
         Project expectedFirstProject = new Project("Testkey 1", "Teststatus 1", "Testissuetype 1", "Testsummary 1", Arrays.asList("Testlabel 1", "Testlabel 2"),
                 "Testjob 1", "Testskills 1", "Testdescription 1", "Testlob 1", "Testcustomer 1", "Testlocation 1", "01.01.2018", "01.02.2018", "Testeffort 1", expectedCreated, expectedUpdated,
-                "Testfreelancer 1", "Testelongation 1", "Testother 1",  "Testrate 1", "Testcompensated 1");
+                "Testfreelancer 1", "Testelongation 1", "Testother 1",  "Testrate 1", "Testcompensated 1", null, null);
 
         Project expectedSecondProject = new Project("Testkey 2", "Teststatus 2", "Testissuetype 2", "Testsummary 2", Collections.emptyList(),
                 "Testjob 2", "Testskills 2", "Testdescription 2", "Testlob 2", "Testcustomer 2", "Testlocation 2", "02.01.2018", "02.02.2018", "Testeffort 2", expectedCreated, expectedUpdated,
-                "Testfreelancer 2", "Testelongation 2", "Testother 2",  "Testrate 2", "Testcompensated 2");
+                "Testfreelancer 2", "Testelongation 2", "Testother 2",  "Testrate 2", "Testcompensated 2", null, null);
 
         // when
         List<Project> projectList = reader.getInitialProjects();
@@ -104,7 +114,7 @@ public class JiraProjectReaderIntegrationTest {
     @Test
     public void getProjectsThrowsExceptionWhenRequestNotSuccessful() {
         // given
-        server.expect(requestTo("/test"))
+        server.expect(requestTo(getPageRequestUrl(0)))
                 .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
 
         // when
@@ -112,6 +122,153 @@ public class JiraProjectReaderIntegrationTest {
                 .isInstanceOf(RestClientException.class);
     }
 
+    @Test
+    public void readInitialProjectsRequestsAllPagesAndPassesProjectsInChunks() throws Exception {
+        // given
+        server.expect(requestTo(getPageRequestUrl(0)))
+                .andRespond(withSuccess(getJiraPageResponse(0, 2, 3, "STF-1", "STF-2"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(getPageRequestUrl(1)))
+                .andRespond(withSuccess(getJiraPageResponse(1, 2, 3, "STF-2", "STF-3"), MediaType.APPLICATION_JSON));
+
+        var actualChunks = new ArrayList<List<String>>();
+
+        // when
+        reader.readInitialProjects(2, chunk -> actualChunks.add(chunk.stream()
+                .map(Project::getId)
+                .collect(Collectors.toList())));
+
+        // then
+        server.verify();
+
+        assertThat(actualChunks).containsExactly(List.of("STF-1", "STF-2"), List.of("STF-3"));
+    }
+
+    @Test
+    public void getInitialProjectsStopsWhenPageIsEmpty() throws Exception {
+        // given
+        server.expect(requestTo(getPageRequestUrl(0)))
+                .andRespond(withSuccess(getJiraPageResponse(0, 2, 5), MediaType.APPLICATION_JSON));
+
+        // when
+        var actualProjects = reader.getInitialProjects();
+
+        // then
+        server.verify();
+
+        assertThat(actualProjects).isEmpty();
+    }
+
+    @Test
+    public void readInitialProjectsReadsPagesInParallelAndPreservesOrder() throws Exception {
+        // given
+        given(properties.getPageFetchParallelism()).willReturn(2);
+
+        server.expect(requestTo(getPageRequestUrl(0)))
+                .andRespond(withSuccess(getJiraPageResponse(0, 3, 8, "STF-1", "STF-2", "STF-3"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(getPageRequestUrl(2)))
+                .andRespond(withSuccess(getJiraPageResponse(2, 3, 8, "STF-3", "STF-4", "STF-5"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(getPageRequestUrl(4)))
+                .andRespond(withSuccess(getJiraPageResponse(4, 3, 8, "STF-5", "STF-6", "STF-7"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(getPageRequestUrl(6)))
+                .andRespond(withSuccess(getJiraPageResponse(6, 3, 8, "STF-7", "STF-8"), MediaType.APPLICATION_JSON));
+
+        var actualProjectIds = new ArrayList<String>();
+
+        // when
+        reader.readInitialProjects(3, chunk -> chunk.stream()
+                .map(Project::getId)
+                .forEach(actualProjectIds::add));
+
+        // then
+        server.verify();
+
+        assertThat(actualProjectIds).containsExactly("STF-1", "STF-2", "STF-3", "STF-4", "STF-5", "STF-6", "STF-7", "STF-8");
+    }
+
+    @Test
+    public void readInitialProjectsThrowsExceptionWhenParallelRequestNotSuccessful() throws Exception {
+        // given
+        given(properties.getPageFetchParallelism()).willReturn(2);
+
+        server.expect(requestTo(getPageRequestUrl(0)))
+                .andRespond(withSuccess(getJiraPageResponse(0, 2, 6, "STF-1", "STF-2"), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(getPageRequestUrl(1)))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        server.expect(manyTimes(), requestTo(getPageRequestUrl(2)))
+                .andRespond(withSuccess(getJiraPageResponse(2, 2, 6, "STF-3", "STF-4"), MediaType.APPLICATION_JSON));
+
+        // when / then
+        assertThatThrownBy(() -> reader.readInitialProjects(2, chunk -> {}))
+                .isInstanceOf(RestClientException.class);
+    }
+
+    @Test
+    public void readInitialProjectsReadsIssuesAgainWhenIssueMovedBetweenPageFetches() throws Exception {
+        // given
+        var orderedServer = createOrderedServer();
+
+        // STF-1 is edited after the first page was read and moves to the end
+        orderedServer.expect(requestTo(getPageRequestUrl(0)))
+                .andRespond(withSuccess(getJiraPageResponse(0, 2, 4, "STF-1", "STF-2"), MediaType.APPLICATION_JSON));
+        orderedServer.expect(requestTo(getPageRequestUrl(1)))
+                .andRespond(withSuccess(getJiraPageResponse(1, 2, 4, "STF-3", "STF-4"), MediaType.APPLICATION_JSON));
+        orderedServer.expect(requestTo(getPageRequestUrl(0)))
+                .andRespond(withSuccess(getJiraPageResponse(0, 2, 4, "STF-2", "STF-3"), MediaType.APPLICATION_JSON));
+        orderedServer.expect(requestTo(getPageRequestUrl(1)))
+                .andRespond(withSuccess(getJiraPageResponse(1, 2, 4, "STF-3", "STF-4"), MediaType.APPLICATION_JSON));
+        orderedServer.expect(requestTo(getPageRequestUrl(2)))
+                .andRespond(withSuccess(getJiraPageResponse(2, 2, 4, "STF-4", "STF-1"), MediaType.APPLICATION_JSON));
+
+        var actualProjectIds = new ArrayList<String>();
+
+        // when
+        reader.readInitialProjects(2, chunk -> chunk.stream()
+                .map(Project::getId)
+                .forEach(actualProjectIds::add));
+
+        // then
+        orderedServer.verify();
+
+        assertThat(actualProjectIds).containsExactly("STF-1", "STF-2", "STF-2", "STF-3", "STF-4", "STF-1");
+    }
+
+    @Test
+    public void readInitialProjectsThrowsExceptionWhenIssuesKeepMoving() {
+        // given
+        server.expect(manyTimes(), requestTo(getPageRequestUrl(0)))
+                .andRespond(withSuccess(getJiraPageResponse(0, 2, 4, "STF-1", "STF-2"), MediaType.APPLICATION_JSON));
+        server.expect(manyTimes(), requestTo(getPageRequestUrl(1)))
+                .andRespond(withSuccess(getJiraPageResponse(1, 2, 4, "STF-3", "STF-4"), MediaType.APPLICATION_JSON));
+
+        // when / then
+        assertThatThrownBy(() -> reader.readInitialProjects(2, chunk -> {}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private MockRestServiceServer createOrderedServer() {
+        var restTemplate = new RestTemplate();
+        var orderedServer = MockRestServiceServer.bindTo(restTemplate)
+                .build();
+
+        given(builder.build()).willReturn(restTemplate);
+        this.reader = new JiraProjectReader(builder, properties);
+
+        return orderedServer;
+    }
+
+    private String getPageRequestUrl(int startAt) {
+        return String.format("%s?fields=%s&startAt=%d", REQUEST_PATH, String.join(",", JiraProjectReader.getJiraFieldIds()), startAt);
+    }
+
+    private String getJiraPageResponse(int startAt, int maxResults, int total, String... keys) {
+        var issues = Arrays.stream(keys)
+                .map(key -> String.format("{\"key\":\"%s\",\"fields\":{\"summary\":\"Summary %s\"}}", key, key))
+                .collect(Collectors.joining(","));
+
+        return String.format("{\"expand\":\"names\",\"startAt\":%d,\"maxResults\":%d,\"total\":%d,\"issues\":[%s]}",
+                startAt, maxResults, total, issues);
+    }
+
     private String getJiraJsonResponse() throws IOException, URISyntaxException {
         URL url = this.getClass().getResource("JiraJsonResponse.txt");
         File testJsonFile = new File(url.toURI());
@@ -1,24 +1,40 @@
 package de.adesso.projectboard.reader;
 
 import de.adesso.projectboard.reader.configuration.JiraConfigurationProperties;
+import org.assertj.core.api.SoftAssertions;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JiraProjectReaderTest {
 
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10L);
+
+    private static final Instant NOW = Instant.parse("2019-01-01T12:00:00Z");
+
     @Mock
     private JiraConfigurationProperties propertiesMock;
 
@@ -28,15 +44,22 @@ public class JiraProjectReaderTest {
     @Mock
     private RestTemplate restTemplateMock;
 
+    @Mock
+    private Clock clockMock;
+
     private JiraProjectReader jiraProjectReader;
 
     @Before
     public void setUp() {
         given(builderMock.basicAuthentication(anyString(), anyString())).willReturn(builderMock);
+        given(builderMock.setConnectTimeout(REQUEST_TIMEOUT)).willReturn(builderMock);
+        given(builderMock.setReadTimeout(REQUEST_TIMEOUT)).willReturn(builderMock);
         given(builderMock.build()).willReturn(restTemplateMock);
 
         given(propertiesMock.getUsername()).willReturn("");
         given(propertiesMock.getPassword()).willReturn("");
+        given(propertiesMock.getRequestUrl()).willReturn("https://jira/rest/api/2/search?jql={jqlQuery}");
+        given(propertiesMock.getRequestTimeout()).willReturn(REQUEST_TIMEOUT);
 
         this.jiraProjectReader = new JiraProjectReader(builderMock, propertiesMock);
     }
@@ -48,7 +71,7 @@ public class JiraProjectReaderTest {
         var datePatternString = "yyyy-MM-dd HH:mm";
         var dateTime = LocalDateTime.parse(expectedDateString, DateTimeFormatter.ofPattern(datePatternString));
 
-        var expectedQueryString = String.format(" issuetype = \"Staffinganfrage\" AND project = \"Staffing\" AND ( updated >= \"%s\" OR created >= \"%s\" )",
+        var expectedQueryString = String.format(" issuetype = \"Staffinganfrage\" AND project = \"Staffing\" AND ( updated >= \"%s\" OR created >= \"%s\" ) ORDER BY updated ASC, key ASC",
                 expectedDateString, expectedDateString);
 
         // when
@@ -61,7 +84,7 @@ public class JiraProjectReaderTest {
     @Test
     public void getInitialJqlQueryReturnsExpectedQuery() {
         // given
-        var expectedQueryString = " issuetype = \"Staffinganfrage\" AND project = \"Staffing\" AND ( status = \"eskaliert\" OR status = \"open\" )";
+        var expectedQueryString = " issuetype = \"Staffinganfrage\" AND project = \"Staffing\" AND ( status = \"eskaliert\" OR status = \"open\" ) ORDER BY updated ASC, key ASC";
 
         // when
         var actualQueryString = jiraProjectReader.getInitialJqlQueryString();
@@ -70,4 +93,135 @@ public class JiraProjectReaderTest {
         assertThat(actualQueryString).isEqualTo(expectedQueryString);
     }
 
+    @Test
+    public void getInitialJqlQueryWithTimeReturnsExpectedQuery() {
+        // given
+        var dateTime = LocalDateTime.of(2018, 1, 1, 13, 37);
+        var expectedQueryString = " issuetype = \"Staffinganfrage\" AND project = \"Staffing\" AND ( status = \"eskaliert\" OR status = \"open\" ) " +
+                "AND updated >= \"2018-01-01 13:37\" ORDER BY updated ASC, key ASC";
+
+        // when
+        var actualQueryString = jiraProjectReader.getInitialJqlQueryString(dateTime);
+
+        // then
+        assertThat(actualQueryString).isEqualTo(expectedQueryString);
+    }
+
+    @Test
+    public void getJiraFieldIdsReturnsAliasesAndNamesOfProjectFields() {
+        // given / when
+        var actualFieldIds = JiraProjectReader.getJiraFieldIds();
+
+        // then
+        assertThat(actualFieldIds)
+                .contains("summary", "status", "issuetype", "labels", "description", "created", "updated",
+                        "customfield_10288", "customfield_10291")
+                .doesNotContain("id", "title", "job", "travelCostsCompensated");
+    }
+
+    @Test
+    public void getRequestUrlSelectingFieldsAddsFieldsParameter() {
+        // given
+        var requestUrl = "https://jira/rest/api/2/search?jql={jqlQuery}&maxResults=500";
+
+        // when
+        var actualRequestUrl = JiraProjectReader.getRequestUrlSelectingFields(requestUrl, new LinkedHashSet<>(List.of("summary", "status")));
+
+        // then
+        assertThat(actualRequestUrl).isEqualTo("https://jira/rest/api/2/search?jql={jqlQuery}&maxResults=500&fields=summary,status");
+    }
+
+    @Test
+    public void getRequestUrlSelectingFieldsKeepsConfiguredFieldsParameter() {
+        // given
+        var requestUrl = "https://jira/rest/api/2/search?jql={jqlQuery}&fields=*all";
+
+        // when
+        var actualRequestUrl = JiraProjectReader.getRequestUrlSelectingFields(requestUrl, Set.of("summary"));
+
+        // then
+        assertThat(actualRequestUrl).isEqualTo(requestUrl);
+    }
+
+    @Test
+    public void healthReturnsCachedHealthWithinTtl() {
+        // given
+        var serverInfoUrl = "https://jira/rest/api/2/serverInfo";
+        var serverInfo = new JiraServerInfo();
+        serverInfo.setServerTitle("Jira");
+        serverInfo.setVersion("7.0.0");
+
+        given(propertiesMock.getServerInfoUrl()).willReturn(serverInfoUrl);
+        given(propertiesMock.getHealthCacheTtl()).willReturn(Duration.ofSeconds(30L));
+        given(restTemplateMock.getForEntity(serverInfoUrl, JiraServerInfo.class)).willReturn(ResponseEntity.ok(serverInfo));
+        given(clockMock.instant()).willReturn(NOW, NOW.plusSeconds(29L));
+
+        var reader = new JiraProjectReader(builderMock, propertiesMock, clockMock);
+
+        // when
+        var firstHealth = reader.health();
+        var secondHealth = reader.health();
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(firstHealth.getStatus()).isEqualTo(Status.UP);
+        softly.assertThat(secondHealth).isSameAs(firstHealth);
+
+        softly.assertAll();
+
+        verify(restTemplateMock).getForEntity(serverInfoUrl, JiraServerInfo.class);
+    }
+
+    @Test
+    public void healthRequestsHealthAgainAfterTtl() {
+        // given
+        var serverInfoUrl = "https://jira/rest/api/2/serverInfo";
+        var serverInfo = new JiraServerInfo();
+        serverInfo.setServerTitle("Jira");
+        serverInfo.setVersion("7.0.0");
+
+        given(propertiesMock.getServerInfoUrl()).willReturn(serverInfoUrl);
+        given(propertiesMock.getHealthCacheTtl()).willReturn(Duration.ofSeconds(30L));
+        given(restTemplateMock.getForEntity(serverInfoUrl, JiraServerInfo.class)).willReturn(ResponseEntity.ok(serverInfo));
+        given(clockMock.instant()).willReturn(NOW, NOW.plusSeconds(30L));
+
+        var reader = new JiraProjectReader(builderMock, propertiesMock, clockMock);
+
+        // when
+        reader.health();
+        reader.health();
+
+        // then
+        verify(restTemplateMock, times(2)).getForEntity(serverInfoUrl, JiraServerInfo.class);
+    }
+
+    @Test
+    public void healthCachesDownHealthWhenRequestFails() {
+        // given
+        var serverInfoUrl = "https://jira/rest/api/2/serverInfo";
+
+        given(propertiesMock.getServerInfoUrl()).willReturn(serverInfoUrl);
+        given(propertiesMock.getHealthCacheTtl()).willReturn(Duration.ofSeconds(30L));
+        given(restTemplateMock.getForEntity(serverInfoUrl, JiraServerInfo.class))
+                .willThrow(new ResourceAccessException("Connection refused"));
+        given(clockMock.instant()).willReturn(NOW, NOW.plusSeconds(1L));
+
+        var reader = new JiraProjectReader(builderMock, propertiesMock, clockMock);
+
+        // when
+        var firstHealth = reader.health();
+        var secondHealth = reader.health();
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(firstHealth.getStatus()).isEqualTo(Status.DOWN);
+        softly.assertThat(secondHealth).isSameAs(firstHealth);
+
+        softly.assertAll();
+
+        verify(restTemplateMock).getForEntity(serverInfoUrl, JiraServerInfo.class);
+    }
+
 }
@@ -0,0 +1,131 @@
+package de.adesso.projectboard.reader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.adesso.projectboard.base.project.persistence.Project;
+import de.adesso.projectboard.base.project.updater.ProjectChangeBatcher;
+import de.adesso.projectboard.reader.configuration.JiraConfigurationProperties;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JiraWebhookControllerTest {
+
+    private static final String SECRET = "secret";
+
+    @Mock
+    private ProjectChangeBatcher projectChangeBatcherMock;
+
+    private JiraWebhookController jiraWebhookController;
+
+    @Before
+    public void setUp() {
+        var properties = new JiraConfigurationProperties();
+        properties.setWebhookSecret(SECRET);
+
+        this.jiraWebhookController = new JiraWebhookController(projectChangeBatcherMock, properties);
+    }
+
+    @Test
+    public void receiveEventSubmitsChangedStaffingIssueOfStaffingProject() throws IOException {
+        // given
+        var event = readEvent(JiraWebhookEvent.ISSUE_UPDATED, "STF", "Staffing", "Staffinganfrage");
+
+        // when
+        var actualResponse = jiraWebhookController.receiveEvent(SECRET, event);
+
+        // then
+        var projectCaptor = ArgumentCaptor.forClass(Project.class);
+        verify(projectChangeBatcherMock).submitChanged(projectCaptor.capture());
+
+        assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(projectCaptor.getValue().getId()).isEqualTo("STF-1");
+    }
+
+    @Test
+    public void receiveEventSubmitsChangedStaffingIssueWhenProjectKeyMatches() throws IOException {
+        // given
+        var event = readEvent(JiraWebhookEvent.ISSUE_CREATED, "STAFFING", "Staffing Requests", "Staffinganfrage");
+
+        // when
+        jiraWebhookController.receiveEvent(SECRET, event);
+
+        // then
+        verify(projectChangeBatcherMock).submitChanged(any(Project.class));
+    }
+
+    @Test
+    public void receiveEventIgnoresStaffingIssueOfOtherProject() throws IOException {
+        // given
+        var event = readEvent(JiraWebhookEvent.ISSUE_UPDATED, "HR", "Human Resources", "Staffinganfrage");
+
+        // when
+        var actualResponse = jiraWebhookController.receiveEvent(SECRET, event);
+
+        // then
+        assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        verifyZeroInteractions(projectChangeBatcherMock);
+    }
+
+    @Test
+    public void receiveEventIgnoresOtherIssueTypeOfStaffingProject() throws IOException {
+        // given
+        var event = readEvent(JiraWebhookEvent.ISSUE_UPDATED, "STF", "Staffing", "Task");
+
+        // when
+        jiraWebhookController.receiveEvent(SECRET, event);
+
+        // then
+        verifyZeroInteractions(projectChangeBatcherMock);
+    }
+
+    @Test
+    public void receiveEventReturnsUnauthorizedWhenSecretMissing() throws IOException {
+        // given
+        var event = readEvent(JiraWebhookEvent.ISSUE_UPDATED, "STF", "Staffing", "Staffinganfrage");
+
+        // when
+        var actualResponse = jiraWebhookController.receiveEvent(null, event);
+
+        // then
+        assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verifyZeroInteractions(projectChangeBatcherMock);
+    }
+
+    @Test
+    public void receiveEventReturnsUnauthorizedWhenSecretDiffers() throws IOException {
+        // given
+        var event = readEvent(JiraWebhookEvent.ISSUE_UPDATED, "STF", "Staffing", "Staffinganfrage");
+
+        // when
+        var actualResponse = jiraWebhookController.receiveEvent("other-secret", event);
+
+        // then
+        assertThat(actualResponse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verifyZeroInteractions(projectChangeBatcherMock);
+    }
+
+    private JiraWebhookEvent readEvent(String webhookEvent, String jiraProjectKey, String jiraProjectName,
+                                       String issueType) throws IOException {
+        var json = String.format("{\"webhookEvent\": \"%s\", \"issue\": {\"key\": \"STF-1\", \"fields\": {" +
+                        "\"project\": {\"key\": \"%s\", \"name\": \"%s\"}, " +
+                        "\"issuetype\": {\"name\": \"%s\"}, " +
+                        "\"status\": {\"name\": \"open\"}, " +
+                        "\"summary\": \"Title\"}}}",
+                webhookEvent, jiraProjectKey, jiraProjectName, issueType);
+
+        return new ObjectMapper().readValue(json, JiraWebhookEvent.class);
+    }
+
+}
@@ -0,0 +1,53 @@
+package de.adesso.projectboard.util;
+
+import org.junit.Assume;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Helper for benchmarks written as JUnit tests. Benchmarks only report their timings
+ * and are skipped unless the {@code benchmarks} system property is set to {@code true},
+ * e.g. with {@code ./gradlew test -Dbenchmarks=true}.
+ */
+public class BenchmarkHelper {
+
+    public static final String BENCHMARKS_PROPERTY = "benchmarks";
+
+    public static void assumeBenchmarksEnabled() {
+        Assume.assumeTrue(String.format("Benchmarks are only run when the '%s' system property is set!", BENCHMARKS_PROPERTY),
+                Boolean.getBoolean(BENCHMARKS_PROPERTY));
+    }
+
+    /**
+     *
+     * @param action
+     *          The action to measure, not null.
+     *
+     * @param iterations
+     *          The number of times to run the action, greater than {@code 0}.
+     *
+     * @return
+     *          The median duration of the action in nanoseconds.
+     */
+    public static long measureMedianNanos(Runnable action, int iterations) {
+        var durations = IntStream.range(0, iterations)
+                .mapToLong(iteration -> {
+                    var start = System.nanoTime();
+                    action.run();
+
+                    return System.nanoTime() - start;
+                })
+                .toArray();
+
+        Arrays.sort(durations);
+
+        return durations[durations.length / 2];
+    }
+
+    public static void reportMedianNanos(Class<?> benchmarkClass, String name, double medianNanos) {
+        LoggerFactory.getLogger(benchmarkClass).info("{}: median {} ns", name, String.format("%,.0f", medianNanos));
+    }
+
+}
@@ -0,0 +1,96 @@
+package de.adesso.projectboard.util;
+
+import de.adesso.projectboard.base.project.persistence.Project;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.util.ReflectionUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the per entity cost of truncating the string fields of a large project import
+ * with the cached truncator to the previous approach, which looked up and accessed all
+ * fields reflectively for each entity. Only run when benchmarks are enabled, see
+ * {@link BenchmarkHelper}.
+ */
+public class FieldTruncationBenchmarkTest {
+
+    private static final int PROJECT_COUNT = 10_000;
+
+    private static final int WARMUP_ITERATIONS = 10;
+
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    private List<Project> projects;
+
+    @BeforeClass
+    public static void assumeBenchmarksEnabled() {
+        BenchmarkHelper.assumeBenchmarksEnabled();
+    }
+
+    @Before
+    public void setUp() {
+        var now = LocalDateTime.of(2019, 3, 1, 12, 0);
+
+        this.projects = IntStream.range(0, PROJECT_COUNT)
+                .mapToObj(index -> new Project()
+                        .setId(String.format("STF-%d", index))
+                        .setStatus("open")
+                        .setIssuetype("Staffinganfrage")
+                        .setTitle(String.format("Java Developer %d", index))
+                        .setJob("Developer")
+                        .setSkills("Java, Spring, Hibernate")
+                        .setDescription("A".repeat(index % 100 == 0 ? 10_000 : 500))
+                        .setLob("LOB Test")
+                        .setCustomer(String.format("Customer %d", index % 40))
+                        .setLocation("Dortmund")
+                        .setEffort("40h")
+                        .setCreated(now.minusDays(index % 365))
+                        .setUpdated(now)
+                        .setOther("B".repeat(index % 50 == 0 ? 300 : 20)))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void compareCachedTruncatorWithReflectiveTruncation() {
+        // given
+        measureMedianNanosPerProject(FieldTruncationUtils::truncateStringsToColumnLengths, WARMUP_ITERATIONS);
+        measureMedianNanosPerProject(FieldTruncationBenchmarkTest::truncateReflectively, WARMUP_ITERATIONS);
+
+        // when
+        var cachedNanosPerProject = measureMedianNanosPerProject(FieldTruncationUtils::truncateStringsToColumnLengths,
+                MEASUREMENT_ITERATIONS);
+        var reflectiveNanosPerProject = measureMedianNanosPerProject(FieldTruncationBenchmarkTest::truncateReflectively,
+                MEASUREMENT_ITERATIONS);
+
+        // then
+        BenchmarkHelper.reportMedianNanos(getClass(), "cached truncator per project", cachedNanosPerProject);
+        BenchmarkHelper.reportMedianNanos(getClass(), "reflective truncation per project", reflectiveNanosPerProject);
+    }
+
+    private double measureMedianNanosPerProject(Consumer<Project> truncation, int iterations) {
+        var medianNanos = BenchmarkHelper.measureMedianNanos(() -> projects.forEach(truncation), iterations);
+
+        return (double) medianNanos / PROJECT_COUNT;
+    }
+
+    /**
+     * The previous implementation of {@link FieldTruncationUtils#truncateStringsToColumnLengths(Object)}.
+     */
+    private static void truncateReflectively(Object entity) {
+        ReflectionUtils.doWithFields(entity.getClass(), field -> {
+            ReflectionUtils.makeAccessible(field);
+
+            var columnLength = FieldTruncationUtils.getColumnLengthOfField(field);
+            var originalString = (String) ReflectionUtils.getField(field, entity);
+            var truncatedString = FieldTruncationUtils.truncateString(originalString, columnLength);
+            ReflectionUtils.setField(field, entity, truncatedString);
+        }, FieldTruncationUtils::isTruncatedField);
+    }
+
+}
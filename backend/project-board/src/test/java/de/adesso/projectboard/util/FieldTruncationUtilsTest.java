@@ -1,6 +1,8 @@
 package de.adesso.projectboard.util;
 
+import de.adesso.projectboard.base.project.persistence.Project;
 import helper.util.Car;
+import org.assertj.core.api.SoftAssertions;
 import org.junit.Test;
 
 import java.time.LocalDate;
@@ -73,16 +75,49 @@ public class FieldTruncationUtilsTest {
         assertThat(truncatedCar).isEqualTo(expectedCar);
     }
 
+    @Test
+    public void truncatesFieldsOfProjectToColumnLengths() {
+        // given
+        var project = new Project()
+                .setId("STF-1")
+                .setTitle("T".repeat(300))
+                .setDescription("D".repeat(10_000))
+                .setLocation("Dortmund");
+
+        // when
+        var truncatedProject = FieldTruncationUtils.truncateStringsToColumnLengths(project);
+
+        // then
+        var softly = new SoftAssertions();
+
+        softly.assertThat(truncatedProject.getId()).isEqualTo("STF-1");
+        softly.assertThat(truncatedProject.getTitle()).isEqualTo("T".repeat(255));
+        softly.assertThat(truncatedProject.getDescription()).isEqualTo("D".repeat(8192));
+        softly.assertThat(truncatedProject.getLocation()).isEqualTo("Dortmund");
+
+        softly.assertAll();
+    }
+
+    @Test
+    public void getTruncatorReturnsCachedTruncatorOfNonFinalStringFields() {
+        // given / when
+        var truncator = FieldTruncationUtils.getTruncator(Car.class);
+        var cachedTruncator = FieldTruncationUtils.getTruncator(Car.class);
+
+        // then
+        assertThat(truncator).isSameAs(cachedTruncator);
+        assertThat(truncator.getFieldCount()).isEqualTo(2);
+    }
+
     @Test
     public void getColumnLengthOfFieldReturnsColumnAnnotationLengthWhenPresent() throws NoSuchFieldException {
         // given
-        var fieldCallBack = new FieldTruncationUtils.StringTruncationFieldCallback(null);
         var fieldName = "ownerName";
         var field = Car.class.getDeclaredField(fieldName);
         var expectedLength = 10;
 
         // when
-        var actualLength = fieldCallBack.getColumnLengthOfField(field);
+        var actualLength = FieldTruncationUtils.getColumnLengthOfField(field);
 
         // then
         assertThat(actualLength).isEqualTo(expectedLength);
@@ -91,13 +126,12 @@ public class FieldTruncationUtilsTest {
     @Test
     public void getColumnLengthOfFieldReturnsDefaultLengthWhenNoColumnAnnotationPresent() throws NoSuchFieldException {
         // given
-        var fieldCallBack = new FieldTruncationUtils.StringTruncationFieldCallback(null);
         var fieldName = "modelName";
         var field = Car.class.getDeclaredField(fieldName);
         var expectedLength = FieldTruncationUtils.DEFAULT_COLUMN_LENGTH;
 
         // when
-        var actualLength = fieldCallBack.getColumnLengthOfField(field);
+        var actualLength = FieldTruncationUtils.getColumnLengthOfField(field);
 
         // then
         assertThat(actualLength).isEqualTo(expectedLength);
@@ -106,12 +140,11 @@ public class FieldTruncationUtilsTest {
     @Test
     public void truncateStringReturnsOriginalStringWhenColumnLengthGreater() {
         // given
-        var fieldCallBack = new FieldTruncationUtils.StringTruncationFieldCallback(null);
         var originalString = "12345679";
         var columnLength = 20;
 
         // when
-        var actualString = fieldCallBack.truncateString(originalString, columnLength);
+        var actualString = FieldTruncationUtils.truncateString(originalString, columnLength);
 
         // then
         assertThat(actualString).isEqualTo(originalString);
@@ -120,12 +153,11 @@ public class FieldTruncationUtilsTest {
     @Test
     public void truncateStringReturnsOriginalStringWhenColumnLengthEqual() {
         // given
-        var fieldCallBack = new FieldTruncationUtils.StringTruncationFieldCallback(null);
         var originalString = "12345679";
         var columnLength = 9;
 
         // when
-        var actualString = fieldCallBack.truncateString(originalString, columnLength);
+        var actualString = FieldTruncationUtils.truncateString(originalString, columnLength);
 
         // then
         assertThat(actualString).isEqualTo(originalString);
@@ -134,13 +166,12 @@ public class FieldTruncationUtilsTest {
     @Test
     public void truncateStringReturnsOriginalStringWhenColumnLengthSmaller() {
         // given
-        var fieldCallBack = new FieldTruncationUtils.StringTruncationFieldCallback(null);
         var originalString = "12345679";
         var expectedString = "1234";
         var columnLength = 4;
 
         // when
-        var actualString = fieldCallBack.truncateString(originalString, columnLength);
+        var actualString = FieldTruncationUtils.truncateString(originalString, columnLength);
 
         // then
         assertThat(actualString).isEqualTo(expectedString);
@@ -149,12 +180,11 @@ public class FieldTruncationUtilsTest {
     @Test
     public void matchesReturnsTrueWhenFieldTypeIsStringAndNotFinal() throws NoSuchFieldException {
         // given
-        var filter = new FieldTruncationUtils.StringFieldFilter();
         var fieldName = "modelName";
         var field = Car.class.getDeclaredField(fieldName);
 
         // when
-        var actualMatches = filter.matches(field);
+        var actualMatches = FieldTruncationUtils.isTruncatedField(field);
 
         // then
         assertThat(actualMatches).isTrue();
@@ -163,12 +193,11 @@ public class FieldTruncationUtilsTest {
     @Test
     public void matchesReturnsFalseWhenFieldTypeIsNotString() throws NoSuchFieldException {
         // given
-        var filter = new FieldTruncationUtils.StringFieldFilter();
         var fieldName = "productionDate";
         var field = Car.class.getDeclaredField(fieldName);
 
         // when
-        var actualMatches = filter.matches(field);
+        var actualMatches = FieldTruncationUtils.isTruncatedField(field);
 
         // then
         assertThat(actualMatches).isFalse();
@@ -177,12 +206,11 @@ public class FieldTruncationUtilsTest {
     @Test
     public void matchesReturnsFalseWhenFieldTypeIsStringButFinal() throws NoSuchFieldException {
         // given
-        var filter = new FieldTruncationUtils.StringFieldFilter();
         var fieldName = "facilityName";
         var field = Car.class.getDeclaredField(fieldName);
 
         // when
-        var actualMatches = filter.matches(field);
+        var actualMatches = FieldTruncationUtils.isTruncatedField(field);
 
         // then
         assertThat(actualMatches).isFalse();
@@ -1,5 +1,7 @@
 package helper.base.search;
 
+import org.hibernate.search.annotations.Analyze;
+import org.hibernate.search.annotations.Analyzer;
 import org.hibernate.search.annotations.Field;
 import org.hibernate.search.annotations.Indexed;
 
@@ -18,4 +20,9 @@ public class IndexedEntity {
     @Field
     Integer thirdField;
 
+    @Field
+    @Field(name = "fourth_field_sort", analyze = Analyze.NO)
+    @Field(name = "fourth_field_suggest", analyzer = @Analyzer(definition = "suggest"))
+    String fourthField;
+
 }